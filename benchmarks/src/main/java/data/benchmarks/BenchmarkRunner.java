@@ -0,0 +1,26 @@
+package data.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+public class BenchmarkRunner {
+    private static final String DEFAULT_INCLUDE = ".*";
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    public static void main(final String[] args) throws RunnerException {
+        final String include = 0 < args.length ? args[0] : DEFAULT_INCLUDE;
+        final String resultFile = 1 < args.length ? args[1] : DEFAULT_RESULT_FILE;
+
+        new Runner(
+                new OptionsBuilder()
+                        .include(include)
+                        .addProfiler(GCProfiler.class)
+                        .resultFormat(ResultFormatType.JSON)
+                        .result(resultFile)
+                        .build()
+        ).run();
+    }
+}
@@ -0,0 +1,24 @@
+package data.benchmarks;
+
+import java.util.SplittableRandom;
+
+public enum KeyDistribution {
+    UNIFORM,
+    ZIPFIAN;
+
+    public int[] sample(final int keyCount, final int sampleCount, final long seed) {
+        final int[] keys = new int[sampleCount];
+        if (UNIFORM == this) {
+            final SplittableRandom random = new SplittableRandom(seed);
+            for (int i = 0; i < sampleCount; i++) {
+                keys[i] = random.nextInt(keyCount);
+            }
+        } else {
+            final ZipfianGenerator generator = new ZipfianGenerator(keyCount, 0.99, seed);
+            for (int i = 0; i < sampleCount; i++) {
+                keys[i] = generator.next();
+            }
+        }
+        return keys;
+    }
+}
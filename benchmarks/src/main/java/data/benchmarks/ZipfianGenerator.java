@@ -0,0 +1,45 @@
+package data.benchmarks;
+
+import java.util.SplittableRandom;
+
+public class ZipfianGenerator {
+    private final int itemCount;
+    private final double theta;
+    private final double alpha;
+    private final double zetaN;
+    private final double eta;
+    private final SplittableRandom random;
+
+    public ZipfianGenerator(final int itemCount, final double theta, final long seed) {
+        if (0 >= itemCount) {
+            throw new IllegalArgumentException("itemCount must be positive");
+        }
+
+        this.itemCount = itemCount;
+        this.theta = theta;
+        this.alpha = 1.0 / (1.0 - theta);
+        this.zetaN = zeta(itemCount, theta);
+        this.eta = (1 - Math.pow(2.0 / itemCount, 1 - theta)) / (1 - zeta(2, theta) / zetaN);
+        this.random = new SplittableRandom(seed);
+    }
+
+    public int next() {
+        final double u = random.nextDouble();
+        final double uz = u * zetaN;
+        if (uz < 1.0) {
+            return 0;
+        }
+        if (uz < 1.0 + Math.pow(0.5, theta)) {
+            return 1;
+        }
+        return Math.min(itemCount - 1, (int) (itemCount * Math.pow(eta * u - eta + 1, alpha)));
+    }
+
+    private static double zeta(final int n, final double theta) {
+        double sum = 0;
+        for (int i = 1; i <= n; i++) {
+            sum += 1 / Math.pow(i, theta);
+        }
+        return sum;
+    }
+}
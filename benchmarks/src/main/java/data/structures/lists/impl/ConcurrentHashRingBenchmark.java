@@ -0,0 +1,89 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentHashRingBenchmark {
+    private static final int NODE_COUNT = 100;
+    private static final int ENTRY_COUNT = 100_000;
+
+    @State(Scope.Benchmark)
+    public static class SharedState {
+        ConcurrentHashRing<Integer, Integer> concurrentHashRing;
+        SimpleHashRing<Integer, Integer> lockedHashRing;
+
+        @Setup(Level.Trial)
+        public void setUp() throws HashRing.AtLeastOneNodeMustExist {
+            final SplittableRandom random = new SplittableRandom(0);
+            final Set<HashRing.Position> positions = new HashSet<>();
+            while (positions.size() < NODE_COUNT) {
+                positions.add(new HashRing.Position(random.nextInt(Integer.MAX_VALUE)));
+            }
+
+            concurrentHashRing = ConcurrentHashRing.create(positions, key -> SimpleHashRingBenchmark.positionOf(key).getValue());
+            lockedHashRing = SimpleHashRing.create(positions, key -> SimpleHashRingBenchmark.positionOf(key).getValue());
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                concurrentHashRing.addEntry(i, i);
+                lockedHashRing.addEntry(i, i);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        SplittableRandom random;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            random = new SplittableRandom(Thread.currentThread().getId());
+        }
+    }
+
+    @Benchmark
+    public Integer concurrentGet(final SharedState shared, final ThreadState thread) {
+        return shared.concurrentHashRing.get(thread.random.nextInt(ENTRY_COUNT));
+    }
+
+    @Benchmark
+    public Integer lockedGet(final SharedState shared, final ThreadState thread) {
+        final Integer key = thread.random.nextInt(ENTRY_COUNT);
+        synchronized (shared.lockedHashRing) {
+            return shared.lockedHashRing.get(key);
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final int maximumThreads = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= maximumThreads; threads <<= 1) {
+            new Runner(
+                    new OptionsBuilder()
+                            .include(ConcurrentHashRingBenchmark.class.getSimpleName())
+                            .threads(threads)
+                            .build()
+            ).run();
+        }
+    }
+}
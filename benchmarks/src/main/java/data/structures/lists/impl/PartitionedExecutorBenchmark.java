@@ -0,0 +1,108 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class PartitionedExecutorBenchmark {
+    private static final int KEY_COUNT = 1 << 16;
+    private static final ToIntFunction<Integer> KEY_TO_POSITION = PositionHasher.MURMUR3.integers();
+
+    @Param({"4", "16"})
+    public int laneCount;
+
+    @Param({"100"})
+    public int taskWork;
+
+    private PartitionedExecutor<Integer> executor;
+    private ReentrantLock[] stripes;
+    private long[] keyState;
+
+    @State(Scope.Thread)
+    public static class Producer {
+        private final SplittableRandom random = new SplittableRandom();
+
+        private int nextKey() {
+            return random.nextInt(KEY_COUNT);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws HashRing.AtLeastOneNodeMustExist {
+        final SplittableRandom random = new SplittableRandom(0);
+        final Set<HashRing.Position> positions = new HashSet<>();
+        while (positions.size() < laneCount) {
+            positions.add(new HashRing.Position(random.nextInt(Integer.MAX_VALUE)));
+        }
+        executor = PartitionedExecutor.<Integer>builder(positions, KEY_TO_POSITION)
+                .threadFactory(runnable -> {
+                    final Thread thread = new Thread(runnable, "partitioned-executor-lane");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                .build();
+
+        stripes = new ReentrantLock[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        keyState = new long[KEY_COUNT];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Benchmark
+    public void partitionedSubmit(final Producer producer) throws InterruptedException {
+        final int key = producer.nextKey();
+        executor.submit(key, () -> work(key));
+    }
+
+    @Benchmark
+    public void stripedLock(final Producer producer) {
+        final int key = producer.nextKey();
+        final ReentrantLock stripe = stripes[Math.floorMod(KEY_TO_POSITION.applyAsInt(key), laneCount)];
+        stripe.lock();
+        try {
+            work(key);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    private void work(final int key) {
+        long state = keyState[key];
+        for (int i = 0; i < taskWork; i++) {
+            state = state * 6364136223846793005L + 1442695040888963407L;
+        }
+        keyState[key] = state;
+    }
+}
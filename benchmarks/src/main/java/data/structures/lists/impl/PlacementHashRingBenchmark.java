@@ -0,0 +1,127 @@
+package data.structures.lists.impl;
+
+import data.benchmarks.KeyDistribution;
+import data.structures.lists.interfaces.HashRing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlacementHashRingBenchmark {
+    private static final int ENTRY_COUNT = 100_000;
+    private static final int QUERY_COUNT = 1 << 16;
+
+    public enum Placement {
+        SIMPLE,
+        BOUNDED_LOAD,
+        VIRTUAL_NODE,
+        JUMP,
+        MAGLEV,
+        RENDEZVOUS;
+
+        HashRing<Integer, Integer> create(final Set<HashRing.Position> positions) throws HashRing.AtLeastOneNodeMustExist {
+            switch (this) {
+                case SIMPLE:
+                    return SimpleHashRing.create(positions, PlacementHashRingBenchmark::hashOf);
+                case BOUNDED_LOAD:
+                    return SimpleHashRing.<Integer, Integer>builder(positions, PlacementHashRingBenchmark::hashOf)
+                            .boundedLoad(0.25)
+                            .build();
+                case VIRTUAL_NODE:
+                    return new VirtualNodeHashRing<>(positions, SimpleHashRingBenchmark::positionOf, 128);
+                case JUMP:
+                    return new JumpHashRing<>(positions, PlacementHashRingBenchmark::hashOf);
+                case MAGLEV:
+                    return new MaglevHashRing<>(positions, PlacementHashRingBenchmark::hashOf);
+                case RENDEZVOUS:
+                    return new RendezvousHashRing<>(positions, PlacementHashRingBenchmark::hashOf);
+                default:
+                    throw new IllegalStateException("unknown placement " + this);
+            }
+        }
+    }
+
+    @Param({"SIMPLE", "BOUNDED_LOAD", "VIRTUAL_NODE", "JUMP", "MAGLEV", "RENDEZVOUS"})
+    public Placement placement;
+
+    @Param({"10", "100", "1000"})
+    public int nodeCount;
+
+    @Param({"UNIFORM", "ZIPFIAN"})
+    public KeyDistribution keyDistribution;
+
+    private HashRing<Integer, Integer> hashRing;
+    private Integer[] queries;
+    private int nextQuery;
+    private HashRing.Position rebalancedPosition;
+
+    @Setup(Level.Trial)
+    public void setUp() throws HashRing.AtLeastOneNodeMustExist {
+        final SplittableRandom random = new SplittableRandom(0);
+        final Set<HashRing.Position> positions = randomPositions(random, nodeCount);
+
+        hashRing = placement.create(positions);
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            hashRing.addEntry(i, i);
+        }
+
+        final int[] keys = keyDistribution.sample(ENTRY_COUNT, QUERY_COUNT, 1);
+        queries = new Integer[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = keys[i];
+        }
+
+        int candidate = random.nextInt(Integer.MAX_VALUE);
+        while (positions.contains(new HashRing.Position(candidate))) {
+            candidate = random.nextInt(Integer.MAX_VALUE);
+        }
+        rebalancedPosition = new HashRing.Position(candidate);
+    }
+
+    @Benchmark
+    public Optional<Integer> getValue() {
+        nextQuery = (nextQuery + 1) & (QUERY_COUNT - 1);
+        return hashRing.getValue(queries[nextQuery]);
+    }
+
+    // for the placement rings the add half rescans every entry, since the new node takes keys from all nodes;
+    // PlacementReport prints the entries scanned per change next to the entries moved
+    @Benchmark
+    public HashRing<Integer, Integer> addAndRemoveNode() throws HashRing.AtLeastOneNodeMustExist {
+        hashRing.addNode(rebalancedPosition);
+        hashRing.removeNode(rebalancedPosition);
+        return hashRing;
+    }
+
+    static Set<HashRing.Position> randomPositions(final SplittableRandom random, final int nodeCount) {
+        final Set<HashRing.Position> positions = new HashSet<>();
+        while (positions.size() < nodeCount) {
+            positions.add(new HashRing.Position(random.nextInt(Integer.MAX_VALUE)));
+        }
+        return positions;
+    }
+
+    static int hashOf(final Integer key) {
+        return SimpleHashRingBenchmark.positionOf(key).getValue();
+    }
+}
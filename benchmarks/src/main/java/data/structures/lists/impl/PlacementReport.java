@@ -0,0 +1,141 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+public class PlacementReport {
+    private static final int ENTRY_COUNT = 1_000_000;
+    private static final int RETAINED_RING_COUNT = 32;
+    private static final int[] NODE_COUNTS = {10, 100, 1000};
+
+    public static void main(final String[] args) throws HashRing.AtLeastOneNodeMustExist {
+        for (final PlacementHashRingBenchmark.Placement placement : PlacementHashRingBenchmark.Placement.values()) {
+            retainedBytes(placement, PlacementHashRingBenchmark.randomPositions(new SplittableRandom(0), NODE_COUNTS[0]));
+        }
+
+        System.out.println("placement,nodes,placementBytesPerRing,movedOnAdd,movedOnRemove,idealMoved,scannedOnAdd,scannedOnRemove,maxOverMean");
+        for (final int nodeCount : NODE_COUNTS) {
+            final SplittableRandom random = new SplittableRandom(nodeCount);
+            final Set<HashRing.Position> positions = PlacementHashRingBenchmark.randomPositions(random, nodeCount);
+            HashRing.Position added = new HashRing.Position(random.nextInt(Integer.MAX_VALUE));
+            while (positions.contains(added)) {
+                added = new HashRing.Position(random.nextInt(Integer.MAX_VALUE));
+            }
+
+            final Map<PlacementHashRingBenchmark.Placement, Long> placementBytes = new HashMap<>();
+            for (final PlacementHashRingBenchmark.Placement placement : PlacementHashRingBenchmark.Placement.values()) {
+                placementBytes.put(placement, retainedBytes(placement, positions));
+            }
+
+            for (final PlacementHashRingBenchmark.Placement placement : PlacementHashRingBenchmark.Placement.values()) {
+                final HashRing<Integer, Integer> hashRing = placement.create(positions);
+                for (int i = 0; i < ENTRY_COUNT; i++) {
+                    hashRing.addEntry(i, i);
+                }
+
+                final Map<Integer, Integer> ownersBefore = ownerSnapshot(hashRing);
+                final long movedBefore = movedEntries(hashRing);
+                hashRing.addNode(added);
+                final Map<Integer, Integer> ownersAfterAdd = ownerSnapshot(hashRing);
+                final long movedAfterAdd = movedEntries(hashRing);
+                final long movedOnAdd = movedKeys(ownersBefore, ownersAfterAdd, movedAfterAdd - movedBefore);
+                final String scannedOnAdd = scannedEntries(hashRing);
+                hashRing.removeNode(added);
+                final long movedOnRemove = movedKeys(ownersAfterAdd, ownerSnapshot(hashRing), movedEntries(hashRing) - movedAfterAdd);
+                final String scannedOnRemove = scannedEntries(hashRing);
+
+                System.out.printf(
+                        "%s,%d,%d,%d,%d,%d,%s,%s,%s%n",
+                        placement,
+                        nodeCount,
+                        placementBytes.get(placement),
+                        movedOnAdd,
+                        movedOnRemove,
+                        ENTRY_COUNT / (nodeCount + 1),
+                        scannedOnAdd,
+                        scannedOnRemove,
+                        loadImbalance(hashRing)
+                );
+            }
+        }
+    }
+
+    private static Map<Integer, Integer> ownerSnapshot(final HashRing<Integer, Integer> hashRing) {
+        final Map<Integer, Integer> owners = new HashMap<>();
+        if (hashRing instanceof PlacementHashRing) {
+            final PlacementHashRing<Integer, Integer> placementHashRing = (PlacementHashRing<Integer, Integer>) hashRing;
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                owners.put(i, placementHashRing.getOwner(i).getValue());
+            }
+        } else if (hashRing instanceof VirtualNodeHashRing) {
+            final VirtualNodeHashRing<Integer, Integer> virtualNodeHashRing = (VirtualNodeHashRing<Integer, Integer>) hashRing;
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                owners.put(i, virtualNodeHashRing.getOwner(i).getValue());
+            }
+        }
+        return owners;
+    }
+
+    private static long movedEntries(final HashRing<Integer, Integer> hashRing) {
+        if (hashRing instanceof SimpleHashRing) {
+            return ((SimpleHashRing<Integer, Integer>) hashRing).getMigrationProgress().getMovedEntries();
+        }
+        return 0;
+    }
+
+    // placement rings find moved keys by rescanning nodes, so a topology change costs the entries scanned rather than
+    // the entries moved; an added node can take keys from every node and is always a full scan
+    private static String scannedEntries(final HashRing<Integer, Integer> hashRing) {
+        if (hashRing instanceof PlacementHashRing) {
+            return Long.toString(((PlacementHashRing<Integer, Integer>) hashRing).getLastScannedEntries());
+        }
+        return "n/a";
+    }
+
+    private static long movedKeys(
+            final Map<Integer, Integer> before,
+            final Map<Integer, Integer> after,
+            final long reportedMovedEntries
+    ) {
+        if (before.isEmpty()) {
+            return reportedMovedEntries;
+        }
+        return before.entrySet().stream().filter(entry -> !entry.getValue().equals(after.get(entry.getKey()))).count();
+    }
+
+    private static String loadImbalance(final HashRing<Integer, Integer> hashRing) {
+        if (hashRing instanceof PlacementHashRing) {
+            return String.format("%.3f", ((PlacementHashRing<Integer, Integer>) hashRing).getLoadReport().getImbalance());
+        } else if (hashRing instanceof VirtualNodeHashRing) {
+            return String.format("%.3f", ((VirtualNodeHashRing<Integer, Integer>) hashRing).getLoadReport().getImbalance());
+        } else if (hashRing instanceof SimpleHashRing) {
+            return String.format("%.3f", ((SimpleHashRing<Integer, Integer>) hashRing).getLoadReport().getImbalance());
+        }
+        return "n/a";
+    }
+
+    private static long retainedBytes(
+            final PlacementHashRingBenchmark.Placement placement,
+            final Set<HashRing.Position> positions
+    ) throws HashRing.AtLeastOneNodeMustExist {
+        final Object[] retained = new Object[RETAINED_RING_COUNT];
+        final long before = usedHeap();
+        for (int i = 0; i < RETAINED_RING_COUNT; i++) {
+            retained[i] = placement.create(positions);
+        }
+        final long after = usedHeap();
+        return Math.max(0, after - before) / retained.length;
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
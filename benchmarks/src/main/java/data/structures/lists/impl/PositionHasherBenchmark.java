@@ -0,0 +1,93 @@
+package data.structures.lists.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PositionHasherBenchmark {
+    @Param({"MURMUR3", "XXHASH64", "WYHASH"})
+    public PositionHasher hasher;
+
+    @Param({"8", "32", "256", "4096"})
+    public int length;
+
+    private byte[] bytes;
+    private ByteBuffer heapBuffer;
+    private ByteBuffer directBuffer;
+    private String string;
+    private int intKey;
+    private long longKey;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final SplittableRandom random = new SplittableRandom(0);
+        bytes = new byte[length];
+        final char[] chars = new char[length / 2];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) random.nextInt();
+        }
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        heapBuffer = ByteBuffer.wrap(bytes);
+        directBuffer = ByteBuffer.allocateDirect(length).put(bytes).flip();
+        string = new String(chars);
+        intKey = random.nextInt();
+        longKey = random.nextLong();
+    }
+
+    @Benchmark
+    public int byteArray() {
+        return hasher.hash(bytes);
+    }
+
+    @Benchmark
+    public int heapByteBuffer() {
+        return hasher.hash(heapBuffer);
+    }
+
+    @Benchmark
+    public int directByteBuffer() {
+        return hasher.hash(directBuffer);
+    }
+
+    @Benchmark
+    public int charSequence() {
+        return hasher.hash(string);
+    }
+
+    @Benchmark
+    public int primitiveInt() {
+        return hasher.hashInt(intKey++);
+    }
+
+    @Benchmark
+    public int primitiveLong() {
+        return hasher.hashLong(longKey++);
+    }
+
+    @Benchmark
+    public int arraysHashCode() {
+        return Arrays.hashCode(bytes);
+    }
+}
@@ -0,0 +1,88 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReplicatedHashRingBenchmark {
+    private static final int ENTRY_COUNT = 100_000;
+    private static final int QUERY_COUNT = 1 << 16;
+
+    @Param({"10", "100"})
+    public int nodeCount;
+
+    @Param({"1", "3", "5"})
+    public int replicationFactor;
+
+    @Param({"PRIMARY_FIRST", "ANY"})
+    public ReplicatedHashRing.ReadStrategy readStrategy;
+
+    private ReplicatedHashRing<Integer, Integer> hashRing;
+    private Integer[] queries;
+    private int nextQuery;
+    private HashRing.Position rebalancedPosition;
+
+    @Setup(Level.Trial)
+    public void setUp() throws HashRing.AtLeastOneNodeMustExist {
+        final SplittableRandom random = new SplittableRandom(0);
+        final Set<HashRing.Position> positions = PlacementHashRingBenchmark.randomPositions(random, nodeCount);
+        hashRing = ReplicatedHashRing.<Integer, Integer>builder(positions, PlacementHashRingBenchmark::hashOf)
+                .replicationFactor(replicationFactor)
+                .readStrategy(readStrategy)
+                .build();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            hashRing.addEntry(i, i);
+        }
+
+        queries = new Integer[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = random.nextInt(ENTRY_COUNT);
+        }
+
+        int candidate = random.nextInt(Integer.MAX_VALUE);
+        while (positions.contains(new HashRing.Position(candidate))) {
+            candidate = random.nextInt(Integer.MAX_VALUE);
+        }
+        rebalancedPosition = new HashRing.Position(candidate);
+    }
+
+    @Benchmark
+    public Optional<Integer> getValue() {
+        nextQuery = (nextQuery + 1) & (QUERY_COUNT - 1);
+        return hashRing.getValue(queries[nextQuery]);
+    }
+
+    @Benchmark
+    public Optional<Integer> addEntry() {
+        nextQuery = (nextQuery + 1) & (QUERY_COUNT - 1);
+        return hashRing.addEntry(queries[nextQuery], nextQuery);
+    }
+
+    @Benchmark
+    public long addAndRemoveNode() throws HashRing.AtLeastOneNodeMustExist {
+        hashRing.addNode(rebalancedPosition);
+        hashRing.removeNode(rebalancedPosition);
+        return hashRing.getLastCopiedEntries();
+    }
+}
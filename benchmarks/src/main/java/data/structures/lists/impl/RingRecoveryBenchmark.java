@@ -0,0 +1,75 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RingRecoveryBenchmark {
+    @Param({"100000", "1000000"})
+    public int entryCount;
+
+    @Param({"100"})
+    public int nodeCount;
+
+    private Set<HashRing.Position> positions;
+    private Path checkpointPath;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, HashRing.AtLeastOneNodeMustExist {
+        final SplittableRandom random = new SplittableRandom(0);
+        positions = new HashSet<>();
+        while (positions.size() < nodeCount) {
+            positions.add(new HashRing.Position(random.nextInt(Integer.MAX_VALUE)));
+        }
+
+        final SimpleHashRing<Integer, Integer> hashRing = SimpleHashRing.create(positions, RingRecoveryBenchmark::hashOf);
+        for (int i = 0; i < entryCount; i++) {
+            hashRing.addEntry(i, i);
+        }
+        checkpointPath = Files.createTempDirectory("ring-recovery").resolve("ring.checkpoint");
+        checkpointPath.toFile().deleteOnExit();
+        RingCheckpoint.write(hashRing, checkpointPath, Codecs.INTEGER, Codecs.INTEGER);
+    }
+
+    @Benchmark
+    public SimpleHashRing<Integer, Integer> repopulate() throws HashRing.AtLeastOneNodeMustExist {
+        final SimpleHashRing<Integer, Integer> hashRing = SimpleHashRing.create(positions, RingRecoveryBenchmark::hashOf);
+        for (int i = 0; i < entryCount; i++) {
+            hashRing.addEntry(i, i);
+        }
+        return hashRing;
+    }
+
+    @Benchmark
+    public SimpleHashRing<Integer, Integer> loadCheckpoint() throws IOException {
+        return RingCheckpoint.load(checkpointPath, RingRecoveryBenchmark::hashOf, Codecs.INTEGER, Codecs.INTEGER);
+    }
+
+    private static int hashOf(final Integer key) {
+        return SimpleHashRingBenchmark.positionOf(key).getValue();
+    }
+}
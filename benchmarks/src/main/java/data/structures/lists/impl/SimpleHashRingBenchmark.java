@@ -0,0 +1,181 @@
+package data.structures.lists.impl;
+
+import data.benchmarks.KeyDistribution;
+import data.structures.lists.interfaces.HashRing;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SimpleHashRingBenchmark {
+    private static final int ENTRY_COUNT = 100_000;
+    private static final int QUERY_COUNT = 1 << 16;
+    private static final int BATCH_SIZE = 256;
+    private static final int SCALE_OUT_NODES = 20;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int nodeCount;
+
+    @Param({"UNIFORM", "ZIPFIAN"})
+    public KeyDistribution keyDistribution;
+
+    private HashRing<Integer, Integer> hashRing;
+    private SimpleHashRing<Integer, Integer> intHashRing;
+    private InstrumentedHashRing<Integer, Integer> instrumentedHashRing;
+    private Integer[] queries;
+    private List<List<Integer>> queryBatches;
+    private int nextBatch;
+    private int nextQuery;
+    private HashRing.Position rebalancedPosition;
+    private Set<HashRing.Position> scaleOutPositions;
+    private List<HashRing.Position> scaleOutOrder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws HashRing.AtLeastOneNodeMustExist {
+        final SplittableRandom random = new SplittableRandom(0);
+        final Set<HashRing.Position> positions = new HashSet<>();
+        while (positions.size() < nodeCount) {
+            positions.add(new HashRing.Position(random.nextInt(Integer.MAX_VALUE)));
+        }
+
+        hashRing = new SimpleHashRing<>(positions, SimpleHashRingBenchmark::positionOf);
+        intHashRing = SimpleHashRing.create(positions, key -> positionOf(key).getValue());
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            hashRing.addEntry(i, i);
+            intHashRing.addEntry(i, i);
+        }
+
+        instrumentedHashRing = InstrumentedHashRing.of(intHashRing);
+
+        final int[] keys = keyDistribution.sample(ENTRY_COUNT, QUERY_COUNT, 1);
+        queries = new Integer[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = keys[i];
+        }
+
+        queryBatches = new ArrayList<>();
+        for (int i = 0; i < QUERY_COUNT; i += BATCH_SIZE) {
+            queryBatches.add(Arrays.asList(queries).subList(i, i + BATCH_SIZE));
+        }
+
+        int candidate = random.nextInt(Integer.MAX_VALUE);
+        while (positions.contains(new HashRing.Position(candidate))) {
+            candidate = random.nextInt(Integer.MAX_VALUE);
+        }
+        rebalancedPosition = new HashRing.Position(candidate);
+
+        scaleOutPositions = new HashSet<>();
+        while (scaleOutPositions.size() < SCALE_OUT_NODES) {
+            final HashRing.Position position = new HashRing.Position(random.nextInt(Integer.MAX_VALUE));
+            if (!positions.contains(position)) {
+                scaleOutPositions.add(position);
+            }
+        }
+        scaleOutOrder = new ArrayList<>(scaleOutPositions);
+    }
+
+    @Benchmark
+    public Optional<Integer> getValue() {
+        nextQuery = (nextQuery + 1) & (QUERY_COUNT - 1);
+        return hashRing.getValue(queries[nextQuery]);
+    }
+
+    @Benchmark
+    public Integer get() {
+        nextQuery = (nextQuery + 1) & (QUERY_COUNT - 1);
+        return intHashRing.get(queries[nextQuery]);
+    }
+
+    @Benchmark
+    public Integer getInstrumented() {
+        nextQuery = (nextQuery + 1) & (QUERY_COUNT - 1);
+        return instrumentedHashRing.get(queries[nextQuery]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void getValueBatch(final Blackhole blackhole) {
+        nextBatch = (nextBatch + 1) % queryBatches.size();
+        for (final Integer key : queryBatches.get(nextBatch)) {
+            blackhole.consume(intHashRing.get(key));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Map<Integer, Integer> getAll() {
+        nextBatch = (nextBatch + 1) % queryBatches.size();
+        return intHashRing.getAll(queryBatches.get(nextBatch));
+    }
+
+    @Benchmark
+    public long scan() {
+        return intHashRing.stream().mapToLong(Map.Entry::getValue).sum();
+    }
+
+    @Benchmark
+    public long parallelScan() {
+        return intHashRing.stream().parallel().mapToLong(Map.Entry::getValue).sum();
+    }
+
+    @Benchmark
+    public HashRing<Integer, Integer> addAndRemoveNode() throws HashRing.AtLeastOneNodeMustExist {
+        hashRing.addNode(rebalancedPosition);
+        hashRing.removeNode(rebalancedPosition);
+        return hashRing;
+    }
+
+    @Benchmark
+    public SimpleHashRing<Integer, Integer> scaleOutSequentially() throws HashRing.AtLeastOneNodeMustExist {
+        for (final HashRing.Position position : scaleOutOrder) {
+            intHashRing.addNode(position);
+        }
+        for (final HashRing.Position position : scaleOutOrder) {
+            intHashRing.removeNode(position);
+        }
+        return intHashRing;
+    }
+
+    @Benchmark
+    public SimpleHashRing<Integer, Integer> scaleOutInBulk() throws HashRing.AtLeastOneNodeMustExist {
+        intHashRing.addNodes(scaleOutPositions);
+        intHashRing.removeNodes(scaleOutPositions);
+        return intHashRing;
+    }
+
+    static HashRing.Position positionOf(final Integer key) {
+        int hash = key;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return new HashRing.Position(hash & Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,45 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class VirtualNodeLoadReport {
+    private static final int ENTRY_COUNT = 1_000_000;
+    private static final int[] NODE_COUNTS = {5, 10, 50};
+    private static final int[] TOKENS_PER_WEIGHT = {1, 4, 16, 64, 256, 1024};
+
+    public static void main(final String[] args) throws HashRing.AtLeastOneNodeMustExist {
+        System.out.println("nodes,tokensPerNode,meanEntries,maxEntries,minEntries,maxOverMean");
+        for (final int nodeCount : NODE_COUNTS) {
+            final Set<HashRing.Position> positions = IntStream
+                    .range(0, nodeCount)
+                    .mapToObj(i -> SimpleHashRingBenchmark.positionOf(-1 - i))
+                    .collect(Collectors.toSet());
+
+            for (final int tokensPerWeight : TOKENS_PER_WEIGHT) {
+                final VirtualNodeHashRing<Integer, Integer> hashRing = new VirtualNodeHashRing<>(
+                        positions,
+                        SimpleHashRingBenchmark::positionOf,
+                        tokensPerWeight
+                );
+                for (int i = 0; i < ENTRY_COUNT; i++) {
+                    hashRing.addEntry(i, i);
+                }
+
+                final LoadReport loadReport = hashRing.getLoadReport();
+                System.out.printf(
+                        "%d,%d,%.1f,%d,%d,%.3f%n",
+                        nodeCount,
+                        tokensPerWeight,
+                        loadReport.getMeanEntries(),
+                        loadReport.getMaximumEntries(),
+                        loadReport.getMinimumEntries(),
+                        loadReport.getImbalance()
+                );
+            }
+        }
+    }
+}
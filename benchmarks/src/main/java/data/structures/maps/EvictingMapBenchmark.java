@@ -0,0 +1,68 @@
+package data.structures.maps;
+
+import data.benchmarks.KeyDistribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EvictingMapBenchmark {
+    private static final int KEY_COUNT = 1_000_000;
+    private static final int QUERY_COUNT = 1 << 20;
+    private static final int MAXIMUM_ENTRIES = 10_000;
+
+    @Param({"LRU", "W_TINY_LFU"})
+    public EvictingMap.Policy policy;
+
+    @Param({"UNIFORM", "ZIPFIAN"})
+    public KeyDistribution keyDistribution;
+
+    private EvictingMap<Integer, Integer> map;
+    private Integer[] queries;
+    private int nextQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        map = EvictingMap.<Integer, Integer>maximumEntries(MAXIMUM_ENTRIES).policy(policy).build();
+        final int[] keys = keyDistribution.sample(KEY_COUNT, QUERY_COUNT, 1);
+        queries = new Integer[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = keys[i];
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.println();
+        System.out.println(policy + " " + keyDistribution + " " + map.getStats());
+    }
+
+    @Benchmark
+    public Integer getOrPut() {
+        nextQuery = (nextQuery + 1) & (QUERY_COUNT - 1);
+        final Integer key = queries[nextQuery];
+        final Integer value = map.get(key);
+        if (null == value) {
+            map.put(key, key);
+            return key;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,79 @@
+package data.structures.sets;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkUnionBenchmark {
+    private static final int EDGE_COUNT = 4_000_000;
+
+    @Param({"1000000"})
+    public int size;
+
+    private int[] left;
+    private int[] right;
+    private IntDisjointSet intDisjointSet;
+    private ConcurrentDisjointSet concurrentDisjointSet;
+
+    @Setup(Level.Trial)
+    public void setUpEdges() {
+        final SplittableRandom random = new SplittableRandom(0);
+        left = new int[EDGE_COUNT];
+        right = new int[EDGE_COUNT];
+        for (int i = 0; i < EDGE_COUNT; i++) {
+            left[i] = random.nextInt(size);
+            right[i] = random.nextInt(size);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpSets() {
+        intDisjointSet = IntDisjointSet.createDense(size);
+        for (int i = 0; i < size; i++) {
+            intDisjointSet.add(i);
+        }
+        concurrentDisjointSet = ConcurrentDisjointSet.create(size);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EDGE_COUNT)
+    public IntDisjointSet unionLoop() throws DisjointSet.UnableToIdentifyRootForValue {
+        for (int i = 0; i < EDGE_COUNT; i++) {
+            intDisjointSet.union(left[i], right[i]);
+        }
+        return intDisjointSet;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EDGE_COUNT)
+    public IntDisjointSet unionAll() throws DisjointSet.UnableToIdentifyRootForValue {
+        intDisjointSet.unionAll(left, right);
+        return intDisjointSet;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EDGE_COUNT)
+    public ConcurrentDisjointSet concurrentUnionAll() throws DisjointSet.UnableToIdentifyRootForValue {
+        concurrentDisjointSet.unionAll(left, right);
+        return concurrentDisjointSet;
+    }
+}
@@ -0,0 +1,86 @@
+package data.structures.sets;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentDisjointSetBenchmark {
+    @State(Scope.Benchmark)
+    public static class SharedState {
+        @Param({"1000000"})
+        public int size;
+
+        ConcurrentDisjointSet concurrentDisjointSet;
+        IntDisjointSet lockedDisjointSet;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            concurrentDisjointSet = ConcurrentDisjointSet.create(size);
+            lockedDisjointSet = IntDisjointSet.createDense(size);
+            for (int i = 0; i < size; i++) {
+                lockedDisjointSet.add(i);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        SplittableRandom random;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            random = new SplittableRandom(Thread.currentThread().getId());
+        }
+    }
+
+    @Benchmark
+    public void concurrentUnion(final SharedState shared, final ThreadState thread) throws DisjointSet.UnableToIdentifyRootForValue {
+        shared.concurrentDisjointSet.union(thread.random.nextInt(shared.size), thread.random.nextInt(shared.size));
+    }
+
+    @Benchmark
+    public boolean concurrentSameSet(final SharedState shared, final ThreadState thread) throws DisjointSet.UnableToIdentifyRootForValue {
+        return shared.concurrentDisjointSet.sameSet(thread.random.nextInt(shared.size), thread.random.nextInt(shared.size));
+    }
+
+    @Benchmark
+    public void lockedUnion(final SharedState shared, final ThreadState thread) throws DisjointSet.UnableToIdentifyRootForValue {
+        final int value1 = thread.random.nextInt(shared.size);
+        final int value2 = thread.random.nextInt(shared.size);
+        synchronized (shared.lockedDisjointSet) {
+            shared.lockedDisjointSet.union(value1, value2);
+        }
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final int maximumThreads = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= maximumThreads; threads <<= 1) {
+            new Runner(
+                    new OptionsBuilder()
+                            .include(ConcurrentDisjointSetBenchmark.class.getSimpleName())
+                            .threads(threads)
+                            .build()
+            ).run();
+        }
+    }
+}
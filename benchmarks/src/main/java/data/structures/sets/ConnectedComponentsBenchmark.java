@@ -0,0 +1,99 @@
+package data.structures.sets;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConnectedComponentsBenchmark {
+    @Param({"1000000"})
+    public int vertexCount;
+
+    @Param({"4"})
+    public int averageDegree;
+
+    private int[] left;
+    private int[] right;
+    private ByteBuffer packedPairs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final int edgeCount = vertexCount * averageDegree / 2;
+        final SplittableRandom random = new SplittableRandom(0);
+        left = new int[edgeCount];
+        right = new int[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            left[i] = random.nextInt(vertexCount);
+            right[i] = random.nextInt(vertexCount);
+        }
+
+        packedPairs = ByteBuffer.allocateDirect(2 * Integer.BYTES * edgeCount).order(ByteOrder.nativeOrder());
+        for (int i = 0; i < edgeCount; i++) {
+            packedPairs.putInt(left[i]).putInt(right[i]);
+        }
+        packedPairs.flip();
+    }
+
+    @Benchmark
+    public int[] unionLoop() throws DisjointSet.UnableToIdentifyRootForValue {
+        final IntDisjointSet disjointSet = IntDisjointSet.createDense(vertexCount);
+        for (int i = 0; i < vertexCount; i++) {
+            disjointSet.add(i);
+        }
+        for (int i = 0; i < left.length; i++) {
+            disjointSet.union(left[i], right[i]);
+        }
+
+        final int[] roots = new int[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            roots[i] = disjointSet.findRoot(i);
+        }
+        return roots;
+    }
+
+    @Benchmark
+    public ConnectedComponents sequential() throws DisjointSet.UnableToIdentifyRootForValue {
+        return ConnectedComponents.compute(
+                vertexCount,
+                ConnectedComponents.EdgeSource.of(left, right),
+                ConnectedComponents.Mode.SEQUENTIAL
+        );
+    }
+
+    @Benchmark
+    public ConnectedComponents parallel() throws DisjointSet.UnableToIdentifyRootForValue {
+        return ConnectedComponents.compute(
+                vertexCount,
+                ConnectedComponents.EdgeSource.of(left, right),
+                ConnectedComponents.Mode.PARALLEL
+        );
+    }
+
+    @Benchmark
+    public ConnectedComponents parallelStreamed() throws DisjointSet.UnableToIdentifyRootForValue {
+        return ConnectedComponents.compute(
+                vertexCount,
+                ConnectedComponents.EdgeSource.of(packedPairs),
+                ConnectedComponents.Mode.PARALLEL
+        );
+    }
+}
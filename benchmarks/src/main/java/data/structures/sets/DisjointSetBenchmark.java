@@ -0,0 +1,137 @@
+package data.structures.sets;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DisjointSetBenchmark {
+    public enum Workload {
+        RANDOM,
+        CHAIN,
+        STAR
+    }
+
+    private static final int SIZE = 100_000;
+    private static final int QUERY_COUNT = 1 << 16;
+
+    @Param({"RANDOM", "CHAIN", "STAR"})
+    public Workload workload;
+
+    private int[] left;
+    private int[] right;
+    private int[] queries;
+    private int nextQuery;
+    private DisjointSet builtDisjointSet;
+    private IntDisjointSet builtIntDisjointSet;
+    private DisjointSet disjointSet;
+    private IntDisjointSet intDisjointSet;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() throws DisjointSet.UnableToIdentifyRootForValue {
+        final SplittableRandom random = new SplittableRandom(0);
+        left = new int[SIZE - 1];
+        right = new int[SIZE - 1];
+        for (int i = 0; i < left.length; i++) {
+            switch (workload) {
+                case CHAIN:
+                    left[i] = i;
+                    right[i] = i + 1;
+                    break;
+                case STAR:
+                    left[i] = 0;
+                    right[i] = i + 1;
+                    break;
+                default:
+                    left[i] = random.nextInt(SIZE);
+                    right[i] = random.nextInt(SIZE);
+            }
+        }
+
+        queries = new int[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            queries[i] = random.nextInt(SIZE);
+        }
+
+        builtDisjointSet = createDisjointSet();
+        builtIntDisjointSet = createIntDisjointSet();
+        for (int i = 0; i < left.length; i++) {
+            builtDisjointSet.union(left[i], right[i]);
+            builtIntDisjointSet.union(left[i], right[i]);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        disjointSet = createDisjointSet();
+        intDisjointSet = createIntDisjointSet();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE - 1)
+    public DisjointSet disjointSetUnion() throws DisjointSet.UnableToIdentifyRootForValue {
+        for (int i = 0; i < left.length; i++) {
+            disjointSet.union(left[i], right[i]);
+        }
+        return disjointSet;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE - 1)
+    public IntDisjointSet intDisjointSetUnion() throws DisjointSet.UnableToIdentifyRootForValue {
+        for (int i = 0; i < left.length; i++) {
+            intDisjointSet.union(left[i], right[i]);
+        }
+        return intDisjointSet;
+    }
+
+    @Benchmark
+    public int disjointSetFindRoot() throws DisjointSet.UnableToIdentifyRootForValue {
+        return builtDisjointSet.findRoot(nextQuery());
+    }
+
+    @Benchmark
+    public int intDisjointSetFindRoot() throws DisjointSet.UnableToIdentifyRootForValue {
+        return builtIntDisjointSet.findRoot(nextQuery());
+    }
+
+    private int nextQuery() {
+        nextQuery = (nextQuery + 1) & (QUERY_COUNT - 1);
+        return queries[nextQuery];
+    }
+
+    private static DisjointSet createDisjointSet() {
+        final DisjointSet disjointSet = DisjointSet.create(Set.of());
+        for (int i = 0; i < SIZE; i++) {
+            disjointSet.add(i);
+        }
+        return disjointSet;
+    }
+
+    private static IntDisjointSet createIntDisjointSet() {
+        final IntDisjointSet disjointSet = IntDisjointSet.createDense(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            disjointSet.add(i);
+        }
+        return disjointSet;
+    }
+}
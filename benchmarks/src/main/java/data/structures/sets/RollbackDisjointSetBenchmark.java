@@ -0,0 +1,117 @@
+package data.structures.sets;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RollbackDisjointSetBenchmark {
+    @Param({"10000", "1000000"})
+    public int size;
+
+    @Param({"16"})
+    public int unionsPerCheckpoint;
+
+    private int[] left;
+    private int[] right;
+    private int nextEdge;
+    private RollbackDisjointSet rollbackDisjointSet;
+    private int[] parents;
+    private int[] sizes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws DisjointSet.UnableToIdentifyRootForValue {
+        final SplittableRandom random = new SplittableRandom(0);
+        left = new int[1 << 16];
+        right = new int[1 << 16];
+        for (int i = 0; i < left.length; i++) {
+            left[i] = random.nextInt(size);
+            right[i] = random.nextInt(size);
+        }
+
+        rollbackDisjointSet = RollbackDisjointSet.create(size);
+        parents = new int[size];
+        sizes = new int[size];
+        for (int i = 0; i < size; i++) {
+            parents[i] = i;
+            sizes[i] = 1;
+        }
+        for (int i = 0; i < size / 4; i++) {
+            final int value1 = random.nextInt(size);
+            final int value2 = random.nextInt(size);
+            rollbackDisjointSet.union(value1, value2);
+            union(parents, sizes, value1, value2);
+        }
+    }
+
+    @Benchmark
+    public int checkpointAndRollback() throws DisjointSet.UnableToIdentifyRootForValue {
+        final int checkpoint = rollbackDisjointSet.checkpoint();
+        for (int i = 0; i < unionsPerCheckpoint; i++) {
+            final int edge = nextEdge();
+            rollbackDisjointSet.union(left[edge], right[edge]);
+        }
+        final int componentCount = rollbackDisjointSet.componentCount();
+        rollbackDisjointSet.rollback(checkpoint);
+        return componentCount;
+    }
+
+    @Benchmark
+    public int copyAndRestore() {
+        final int[] parentsSnapshot = Arrays.copyOf(parents, parents.length);
+        final int[] sizesSnapshot = Arrays.copyOf(sizes, sizes.length);
+        int merged = 0;
+        for (int i = 0; i < unionsPerCheckpoint; i++) {
+            final int edge = nextEdge();
+            merged += union(parents, sizes, left[edge], right[edge]) ? 1 : 0;
+        }
+        System.arraycopy(parentsSnapshot, 0, parents, 0, parents.length);
+        System.arraycopy(sizesSnapshot, 0, sizes, 0, sizes.length);
+        return merged;
+    }
+
+    private int nextEdge() {
+        nextEdge = (nextEdge + 1) & (left.length - 1);
+        return nextEdge;
+    }
+
+    private static boolean union(final int[] parents, final int[] sizes, final int value1, final int value2) {
+        int root1 = value1;
+        while (parents[root1] != root1) {
+            root1 = parents[root1];
+        }
+        int root2 = value2;
+        while (parents[root2] != root2) {
+            root2 = parents[root2];
+        }
+        if (root1 == root2) {
+            return false;
+        }
+        if (sizes[root1] < sizes[root2]) {
+            final int swap = root1;
+            root1 = root2;
+            root2 = swap;
+        }
+        parents[root2] = root1;
+        sizes[root1] += sizes[root2];
+        return true;
+    }
+}
@@ -0,0 +1,44 @@
+package data.types;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Union2Benchmark {
+    private final Union2<String, Integer> first = Union2._1("value");
+    private final Union2<String, Integer> second = Union2._2(42);
+
+    @Benchmark
+    public Union2<Integer, Integer> map1() {
+        return first.map(String::length, v -> v + 1);
+    }
+
+    @Benchmark
+    public Union2<Integer, Integer> map2() {
+        return second.map(String::length, v -> v + 1);
+    }
+
+    @Benchmark
+    public int fold1() {
+        return first.fold(String::length, v -> v);
+    }
+
+    @Benchmark
+    public int fold2() {
+        return second.fold(String::length, v -> v);
+    }
+}
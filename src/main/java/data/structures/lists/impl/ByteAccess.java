@@ -0,0 +1,88 @@
+package data.structures.lists.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+abstract class ByteAccess {
+    private static final VarHandle ARRAY_LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle ARRAY_INTS = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle BUFFER_INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    static final ByteAccess BYTE_ARRAY = new ByteAccess() {
+        @Override
+        long getLong(final Object input, final int index) {
+            return (long) ARRAY_LONGS.get((byte[]) input, index);
+        }
+
+        @Override
+        int getInt(final Object input, final int index) {
+            return (int) ARRAY_INTS.get((byte[]) input, index);
+        }
+
+        @Override
+        int getByte(final Object input, final int index) {
+            return ((byte[]) input)[index] & 0xFF;
+        }
+    };
+
+    // reads through a little-endian view regardless of the buffer's own byte order, for heap and direct buffers alike
+    static final ByteAccess BYTE_BUFFER = new ByteAccess() {
+        @Override
+        long getLong(final Object input, final int index) {
+            return (long) BUFFER_LONGS.get((ByteBuffer) input, index);
+        }
+
+        @Override
+        int getInt(final Object input, final int index) {
+            return (int) BUFFER_INTS.get((ByteBuffer) input, index);
+        }
+
+        @Override
+        int getByte(final Object input, final int index) {
+            return ((ByteBuffer) input).get(index) & 0xFF;
+        }
+    };
+
+    // presents each char as two little-endian bytes, matching the UTF-16LE encoding without materialising it
+    static final ByteAccess CHAR_SEQUENCE = new ByteAccess() {
+        @Override
+        long getLong(final Object input, final int index) {
+            if (0 == (index & 1)) {
+                final CharSequence chars = (CharSequence) input;
+                final int charIndex = index >>> 1;
+                return chars.charAt(charIndex)
+                        | (long) chars.charAt(charIndex + 1) << 16
+                        | (long) chars.charAt(charIndex + 2) << 32
+                        | (long) chars.charAt(charIndex + 3) << 48;
+            }
+            return getInt(input, index) & 0xFFFFFFFFL | (long) getInt(input, index + 4) << 32;
+        }
+
+        @Override
+        int getInt(final Object input, final int index) {
+            final CharSequence chars = (CharSequence) input;
+            final int charIndex = index >>> 1;
+            if (0 == (index & 1)) {
+                return chars.charAt(charIndex) | chars.charAt(charIndex + 1) << 16;
+            }
+            return chars.charAt(charIndex) >>> 8
+                    | chars.charAt(charIndex + 1) << 8
+                    | (chars.charAt(charIndex + 2) & 0xFF) << 24;
+        }
+
+        @Override
+        int getByte(final Object input, final int index) {
+            final char value = ((CharSequence) input).charAt(index >>> 1);
+            return 0 == (index & 1) ? value & 0xFF : value >>> 8;
+        }
+    };
+
+    abstract long getLong(Object input, int index);
+
+    abstract int getInt(Object input, int index);
+
+    abstract int getByte(Object input, int index);
+}
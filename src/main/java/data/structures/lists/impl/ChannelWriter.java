@@ -0,0 +1,63 @@
+package data.structures.lists.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+final class ChannelWriter {
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+
+    ChannelWriter(final FileChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    long position() throws IOException {
+        return channel.position() + buffer.position();
+    }
+
+    ByteBuffer reserve(final int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+        if (buffer.capacity() < bytes) {
+            return ByteBuffer.allocate(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return buffer;
+    }
+
+    void commit(final ByteBuffer reserved) throws IOException {
+        if (reserved != buffer) {
+            reserved.flip();
+            while (reserved.hasRemaining()) {
+                channel.write(reserved);
+            }
+        }
+    }
+
+    void putInt(final int value) throws IOException {
+        reserve(Integer.BYTES).putInt(value);
+    }
+
+    void putLong(final long value) throws IOException {
+        reserve(Long.BYTES).putLong(value);
+    }
+
+    <T> void put(final Codec<T> codec, final T value) throws IOException {
+        final ByteBuffer output = reserve(codec.encodedSize(value));
+        codec.encode(value, output);
+        commit(output);
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
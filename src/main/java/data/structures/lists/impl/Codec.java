@@ -0,0 +1,11 @@
+package data.structures.lists.impl;
+
+import java.nio.ByteBuffer;
+
+public interface Codec<T> {
+    int encodedSize(T value);
+
+    void encode(T value, ByteBuffer output);
+
+    T decode(ByteBuffer input);
+}
@@ -0,0 +1,115 @@
+package data.structures.lists.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public final class Codecs {
+    public static final Codec<Integer> INTEGER = new Codec<>() {
+        @Override
+        public int encodedSize(final Integer value) {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void encode(final Integer value, final ByteBuffer output) {
+            output.putInt(value);
+        }
+
+        @Override
+        public Integer decode(final ByteBuffer input) {
+            return input.getInt();
+        }
+    };
+
+    public static final Codec<Long> LONG = new Codec<>() {
+        @Override
+        public int encodedSize(final Long value) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(final Long value, final ByteBuffer output) {
+            output.putLong(value);
+        }
+
+        @Override
+        public Long decode(final ByteBuffer input) {
+            return input.getLong();
+        }
+    };
+
+    public static final Codec<byte[]> BYTES = new Codec<>() {
+        @Override
+        public int encodedSize(final byte[] value) {
+            return Integer.BYTES + value.length;
+        }
+
+        @Override
+        public void encode(final byte[] value, final ByteBuffer output) {
+            output.putInt(value.length);
+            output.put(value);
+        }
+
+        @Override
+        public byte[] decode(final ByteBuffer input) {
+            final byte[] value = new byte[input.getInt()];
+            input.get(value);
+            return value;
+        }
+    };
+
+    public static final Codec<String> STRING = new Codec<>() {
+        @Override
+        public int encodedSize(final String value) {
+            return Integer.BYTES + utf8Length(value);
+        }
+
+        @Override
+        public void encode(final String value, final ByteBuffer output) {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            output.putInt(bytes.length);
+            output.put(bytes);
+        }
+
+        @Override
+        public String decode(final ByteBuffer input) {
+            final int length = input.getInt();
+            final String value;
+            if (input.hasArray()) {
+                value = new String(input.array(), input.arrayOffset() + input.position(), length, StandardCharsets.UTF_8);
+                input.position(input.position() + length);
+            } else {
+                final byte[] bytes = new byte[length];
+                input.get(bytes);
+                value = new String(bytes, StandardCharsets.UTF_8);
+            }
+            return value;
+        }
+    };
+
+    private Codecs() {
+    }
+
+    static int utf8Length(final CharSequence value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char character = value.charAt(i);
+            if (0x80 > character) {
+                length += 1;
+            } else if (0x800 > character) {
+                length += 2;
+            } else if (Character.isHighSurrogate(character)
+                    && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(character)) {
+                // String.getBytes replaces an unpaired surrogate with a single '?'
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
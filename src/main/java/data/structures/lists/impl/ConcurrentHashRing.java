@@ -0,0 +1,196 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.ScannableHashRing;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+public class ConcurrentHashRing<Key, Value> implements ScannableHashRing<Key, Value> {
+    private static class Topology<Key, Value> {
+        private final int[] nodePositions;
+        private final ConcurrentHashMap<Key, Value>[] nodeEntries;
+
+        private Topology(final int[] nodePositions, final ConcurrentHashMap<Key, Value>[] nodeEntries) {
+            this.nodePositions = nodePositions;
+            this.nodeEntries = nodeEntries;
+        }
+
+        private int findNodeIndex(final int position) {
+            return TokenSearch.findOwnerIndex(nodePositions, nodePositions.length, position);
+        }
+
+        private ConcurrentHashMap<Key, Value> getEntries(final int position) {
+            return nodeEntries[findNodeIndex(position)];
+        }
+    }
+
+    public static <Key, Value> ConcurrentHashRing<Key, Value> create(
+            final Set<Position> nodePositions,
+            final ToIntFunction<Key> keyToPositionCalculator
+    ) throws AtLeastOneNodeMustExist {
+        return new ConcurrentHashRing<>(nodePositions, keyToPositionCalculator);
+    }
+
+    private final ToIntFunction<Key> keyToPositionCalculator;
+    private final ReadWriteLock topologyLock;
+    private volatile Topology<Key, Value> topology;
+
+    public ConcurrentHashRing(final Set<Position> nodePositions, final Function<Key, Position> keyToPositionCalculator) throws AtLeastOneNodeMustExist {
+        this(nodePositions, (ToIntFunction<Key>) key -> keyToPositionCalculator.apply(key).getValue());
+    }
+
+    private ConcurrentHashRing(final Set<Position> nodePositions, final ToIntFunction<Key> keyToPositionCalculator) throws AtLeastOneNodeMustExist {
+        if (nodePositions.isEmpty()) {
+            throw new AtLeastOneNodeMustExist();
+        }
+
+        final int[] positions = nodePositions
+                .stream()
+                .mapToInt(Position::getValue)
+                .sorted()
+                .toArray();
+        final ConcurrentHashMap<Key, Value>[] entries = createNodeEntries(positions.length);
+        for (int i = 0; i < positions.length; i++) {
+            entries[i] = new ConcurrentHashMap<>();
+        }
+
+        this.keyToPositionCalculator = keyToPositionCalculator;
+        this.topologyLock = new ReentrantReadWriteLock();
+        this.topology = new Topology<>(positions, entries);
+    }
+
+    @Override
+    public void addNode(final Position position) {
+        topologyLock.writeLock().lock();
+        try {
+            final Topology<Key, Value> current = topology;
+            final int searchedIndex = Arrays.binarySearch(current.nodePositions, position.getValue());
+            if (0 <= searchedIndex) {
+                return;
+            }
+
+            final int nodeCount = current.nodePositions.length;
+            final int currentNodeIndex = -(searchedIndex + 1);
+            final int[] positions = new int[nodeCount + 1];
+            final ConcurrentHashMap<Key, Value>[] entries = createNodeEntries(nodeCount + 1);
+            System.arraycopy(current.nodePositions, 0, positions, 0, currentNodeIndex);
+            System.arraycopy(current.nodeEntries, 0, entries, 0, currentNodeIndex);
+            System.arraycopy(current.nodePositions, currentNodeIndex, positions, currentNodeIndex + 1, nodeCount - currentNodeIndex);
+            System.arraycopy(current.nodeEntries, currentNodeIndex, entries, currentNodeIndex + 1, nodeCount - currentNodeIndex);
+            positions[currentNodeIndex] = position.getValue();
+            entries[currentNodeIndex] = new ConcurrentHashMap<>();
+            final Topology<Key, Value> next = new Topology<>(positions, entries);
+
+            final ConcurrentHashMap<Key, Value> followingNodeEntries = entries[(currentNodeIndex + 1) % (nodeCount + 1)];
+            followingNodeEntries.forEach((key, value) -> {
+                if (currentNodeIndex == next.findNodeIndex(keyToPositionCalculator.applyAsInt(key))) {
+                    entries[currentNodeIndex].put(key, value);
+                }
+            });
+
+            topology = next;
+            followingNodeEntries.keySet().removeAll(entries[currentNodeIndex].keySet());
+        } finally {
+            topologyLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeNode(final Position position) throws AtLeastOneNodeMustExist {
+        topologyLock.writeLock().lock();
+        try {
+            final Topology<Key, Value> current = topology;
+            final int currentNodeIndex = Arrays.binarySearch(current.nodePositions, position.getValue());
+            if (0 > currentNodeIndex) {
+                return;
+            }
+
+            final int nodeCount = current.nodePositions.length;
+            if (1 == nodeCount) {
+                throw new AtLeastOneNodeMustExist();
+            }
+
+            final ConcurrentHashMap<Key, Value> removedEntries = current.nodeEntries[currentNodeIndex];
+            current.nodeEntries[(currentNodeIndex + 1) % nodeCount].putAll(removedEntries);
+
+            final int[] positions = new int[nodeCount - 1];
+            final ConcurrentHashMap<Key, Value>[] entries = createNodeEntries(nodeCount - 1);
+            System.arraycopy(current.nodePositions, 0, positions, 0, currentNodeIndex);
+            System.arraycopy(current.nodeEntries, 0, entries, 0, currentNodeIndex);
+            System.arraycopy(current.nodePositions, currentNodeIndex + 1, positions, currentNodeIndex, nodeCount - currentNodeIndex - 1);
+            System.arraycopy(current.nodeEntries, currentNodeIndex + 1, entries, currentNodeIndex, nodeCount - currentNodeIndex - 1);
+
+            topology = new Topology<>(positions, entries);
+            removedEntries.clear();
+        } finally {
+            topologyLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Value> addEntry(final Key key, final Value value) {
+        final int position = keyToPositionCalculator.applyAsInt(key);
+        topologyLock.readLock().lock();
+        try {
+            return Optional.ofNullable(topology.getEntries(position).put(key, value));
+        } finally {
+            topologyLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Value> removeEntry(final Key key) {
+        final int position = keyToPositionCalculator.applyAsInt(key);
+        topologyLock.readLock().lock();
+        try {
+            return Optional.ofNullable(topology.getEntries(position).remove(key));
+        } finally {
+            topologyLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Value> getValue(final Key key) {
+        return Optional.ofNullable(get(key));
+    }
+
+    public Value get(final Key key) {
+        final int position = keyToPositionCalculator.applyAsInt(key);
+        while (true) {
+            final Topology<Key, Value> current = topology;
+            final Value value = current.getEntries(position).get(key);
+            if (null != value || current == topology) {
+                return value;
+            }
+        }
+    }
+
+    @Override
+    public Stream<Map.Entry<Key, Value>> stream() {
+        // not DISTINCT: an entry moving between nodes during a topology change can be seen on both
+        return NodeSpliterator.stream(Arrays.asList(topology.nodeEntries), null, Spliterator.CONCURRENT);
+    }
+
+    @Override
+    public Stream<Map.Entry<Key, Value>> entriesOf(final Position position) {
+        final Topology<Key, Value> current = topology;
+        final int nodeIndex = Arrays.binarySearch(current.nodePositions, position.getValue());
+        return 0 > nodeIndex
+                ? Stream.empty()
+                : NodeSpliterator.stream(List.of(current.nodeEntries[nodeIndex]), null, Spliterator.CONCURRENT);
+    }
+
+    public int getNodeCount() {
+        return topology.nodePositions.length;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <Key, Value> ConcurrentHashMap<Key, Value>[] createNodeEntries(final int length) {
+        return (ConcurrentHashMap<Key, Value>[]) new ConcurrentHashMap[length];
+    }
+}
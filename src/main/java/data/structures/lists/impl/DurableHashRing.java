@@ -0,0 +1,189 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.ScannableHashRing;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+public class DurableHashRing<Key, Value> implements ScannableHashRing<Key, Value>, Closeable {
+    public static final String CHECKPOINT_FILE_NAME = "ring.checkpoint";
+    public static final String LOG_FILE_NAME = "ring.log";
+    public static final int DEFAULT_SYNC_BATCH_SIZE = 256;
+
+    public static <Key, Value> DurableHashRing<Key, Value> open(
+            final Path directory,
+            final Set<Position> initialNodePositions,
+            final ToIntFunction<Key> keyToPositionCalculator,
+            final Codec<Key> keyCodec,
+            final Codec<Value> valueCodec
+    ) throws IOException, AtLeastOneNodeMustExist {
+        return open(directory, initialNodePositions, keyToPositionCalculator, keyCodec, valueCodec, DEFAULT_SYNC_BATCH_SIZE);
+    }
+
+    public static <Key, Value> DurableHashRing<Key, Value> open(
+            final Path directory,
+            final Set<Position> initialNodePositions,
+            final ToIntFunction<Key> keyToPositionCalculator,
+            final Codec<Key> keyCodec,
+            final Codec<Value> valueCodec,
+            final int syncBatchSize
+    ) throws IOException, AtLeastOneNodeMustExist {
+        return openWith(
+                directory,
+                initialNodePositions,
+                positions -> SimpleHashRing.create(positions, keyToPositionCalculator),
+                keyCodec,
+                valueCodec,
+                syncBatchSize
+        );
+    }
+
+    public static <Key, Value> DurableHashRing<Key, Value> openWith(
+            final Path directory,
+            final Set<Position> initialNodePositions,
+            final RingFactory<Key, Value> ringFactory,
+            final Codec<Key> keyCodec,
+            final Codec<Value> valueCodec,
+            final int syncBatchSize
+    ) throws IOException, AtLeastOneNodeMustExist {
+        Files.createDirectories(directory);
+        final Path checkpointPath = directory.resolve(CHECKPOINT_FILE_NAME);
+        final Path logPath = directory.resolve(LOG_FILE_NAME);
+
+        final SimpleHashRing<Key, Value> hashRing = Files.exists(checkpointPath)
+                ? RingCheckpoint.loadWith(checkpointPath, ringFactory, keyCodec, valueCodec)
+                : ringFactory.create(initialNodePositions);
+        final long replayedRecords = RingLog.replay(logPath, hashRing, keyCodec, valueCodec);
+        final RingLog<Key, Value> log = RingLog.open(logPath, keyCodec, valueCodec, syncBatchSize);
+        return new DurableHashRing<>(hashRing, log, checkpointPath, keyCodec, valueCodec, replayedRecords);
+    }
+
+    // builds the ring for both a fresh start and checkpoint recovery, so builder options survive a restart
+    public interface RingFactory<Key, Value> {
+        SimpleHashRing<Key, Value> create(Set<Position> nodePositions) throws AtLeastOneNodeMustExist;
+    }
+
+    private final SimpleHashRing<Key, Value> hashRing;
+    private final RingLog<Key, Value> log;
+    private final Path checkpointPath;
+    private final Codec<Key> keyCodec;
+    private final Codec<Value> valueCodec;
+    private final long replayedRecords;
+
+    private DurableHashRing(
+            final SimpleHashRing<Key, Value> hashRing,
+            final RingLog<Key, Value> log,
+            final Path checkpointPath,
+            final Codec<Key> keyCodec,
+            final Codec<Value> valueCodec,
+            final long replayedRecords
+    ) {
+        this.hashRing = hashRing;
+        this.log = log;
+        this.checkpointPath = checkpointPath;
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.replayedRecords = replayedRecords;
+    }
+
+    @Override
+    public void addNode(final Position position) {
+        if (!hashRing.containsNode(position)) {
+            append(() -> log.appendAddNode(position));
+            hashRing.addNode(position);
+        }
+    }
+
+    @Override
+    public void removeNode(final Position position) throws AtLeastOneNodeMustExist {
+        if (hashRing.containsNode(position)) {
+            if (1 == hashRing.getNodeCount()) {
+                throw new AtLeastOneNodeMustExist();
+            }
+            append(() -> log.appendRemoveNode(position));
+            hashRing.removeNode(position);
+        }
+    }
+
+    @Override
+    public Optional<Value> addEntry(final Key key, final Value value) {
+        append(() -> log.appendAddEntry(key, value));
+        return hashRing.addEntry(key, value);
+    }
+
+    @Override
+    public Optional<Value> removeEntry(final Key key) {
+        if (hashRing.getValue(key).isEmpty()) {
+            return Optional.empty();
+        }
+        append(() -> log.appendRemoveEntry(key));
+        return hashRing.removeEntry(key);
+    }
+
+    @Override
+    public Optional<Value> getValue(final Key key) {
+        return hashRing.getValue(key);
+    }
+
+    @Override
+    public Stream<Map.Entry<Key, Value>> stream() {
+        return hashRing.stream();
+    }
+
+    @Override
+    public Stream<Map.Entry<Key, Value>> entriesOf(final Position position) {
+        return hashRing.entriesOf(position);
+    }
+
+    public void sync() throws IOException {
+        log.sync();
+    }
+
+    public void checkpoint() throws IOException {
+        log.sync();
+        RingCheckpoint.write(hashRing, checkpointPath, keyCodec, valueCodec);
+        log.truncate();
+    }
+
+    public long getLogSize() throws IOException {
+        return log.size();
+    }
+
+    public long getReplayedRecords() {
+        return replayedRecords;
+    }
+
+    public int getNodeCount() {
+        return hashRing.getNodeCount();
+    }
+
+    public LoadReport getLoadReport() {
+        return hashRing.getLoadReport();
+    }
+
+    @Override
+    public void close() throws IOException {
+        log.close();
+    }
+
+    private interface LogAppend {
+        void run() throws IOException;
+    }
+
+    // the record is written before the ring changes, so a failed encode or write leaves memory and log in agreement
+    private static void append(final LogAppend append) {
+        try {
+            append.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing.Position;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class HashRingMetrics implements HashRingMetricsMXBean {
+    public static final int DEFAULT_MIGRATION_LOG_CAPACITY = 256;
+
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder writes;
+    private final LongAdder removals;
+    private final LongAdder batchLookups;
+    private final LongAdder batchWrites;
+    private final LongAdder batchRemovals;
+    private final LongAdder batchedKeys;
+    private final LongAdder migrations;
+    private final LongAdder migratedEntries;
+    private final LatencyHistogram lookupLatency;
+    private final LatencyHistogram writeLatency;
+    private final LatencyHistogram batchLatency;
+    private final Supplier<Map<Position, Integer>> nodeLoads;
+    private final int migrationLogCapacity;
+    private final Deque<MigrationEvent> migrationLog;
+
+    HashRingMetrics(final Supplier<Map<Position, Integer>> nodeLoads, final int migrationLogCapacity) {
+        if (0 >= migrationLogCapacity) {
+            throw new IllegalArgumentException("migrationLogCapacity must be positive");
+        }
+
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.writes = new LongAdder();
+        this.removals = new LongAdder();
+        this.batchLookups = new LongAdder();
+        this.batchWrites = new LongAdder();
+        this.batchRemovals = new LongAdder();
+        this.batchedKeys = new LongAdder();
+        this.migrations = new LongAdder();
+        this.migratedEntries = new LongAdder();
+        this.lookupLatency = new LatencyHistogram();
+        this.writeLatency = new LatencyHistogram();
+        this.batchLatency = new LatencyHistogram();
+        this.nodeLoads = nodeLoads;
+        this.migrationLogCapacity = migrationLogCapacity;
+        this.migrationLog = new ArrayDeque<>(migrationLogCapacity);
+    }
+
+    void recordLookup(final boolean hit, final long latencyNanos) {
+        (hit ? hits : misses).increment();
+        lookupLatency.record(latencyNanos);
+    }
+
+    void recordWrite(final long latencyNanos) {
+        writes.increment();
+        writeLatency.record(latencyNanos);
+    }
+
+    void recordRemoval(final long latencyNanos) {
+        removals.increment();
+        writeLatency.record(latencyNanos);
+    }
+
+    void recordBatchLookup(final int keys, final long latencyNanos) {
+        recordBatch(batchLookups, keys, latencyNanos);
+    }
+
+    void recordBatchWrite(final int keys, final long latencyNanos) {
+        recordBatch(batchWrites, keys, latencyNanos);
+    }
+
+    void recordBatchRemoval(final int keys, final long latencyNanos) {
+        recordBatch(batchRemovals, keys, latencyNanos);
+    }
+
+    void recordMigration(final MigrationEvent event) {
+        migrations.increment();
+        migratedEntries.add(event.getMovedEntries());
+        synchronized (migrationLog) {
+            if (migrationLog.size() == migrationLogCapacity) {
+                migrationLog.removeFirst();
+            }
+            migrationLog.addLast(event);
+        }
+    }
+
+    public LatencyHistogram getLookupLatency() {
+        return lookupLatency;
+    }
+
+    public LatencyHistogram getWriteLatency() {
+        return writeLatency;
+    }
+
+    public LatencyHistogram getBatchLatency() {
+        return batchLatency;
+    }
+
+    public Map<Position, Integer> getNodeLoads() {
+        return nodeLoads.get();
+    }
+
+    public LoadReport getLoadReport() {
+        return LoadReport.of(nodeLoads.get().values());
+    }
+
+    public List<MigrationEvent> getMigrationEvents() {
+        synchronized (migrationLog) {
+            return new ArrayList<>(migrationLog);
+        }
+    }
+
+    @Override
+    public long getLookupCount() {
+        return hits.sum() + misses.sum();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getWriteCount() {
+        return writes.sum();
+    }
+
+    @Override
+    public long getRemovalCount() {
+        return removals.sum();
+    }
+
+    @Override
+    public double getLookupLatencyMeanNanos() {
+        return lookupLatency.getMean();
+    }
+
+    @Override
+    public long getLookupLatencyP50Nanos() {
+        return lookupLatency.getValueAtPercentile(50);
+    }
+
+    @Override
+    public long getLookupLatencyP99Nanos() {
+        return lookupLatency.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getLookupLatencyMaxNanos() {
+        return lookupLatency.getMaximum();
+    }
+
+    @Override
+    public long getWriteLatencyP99Nanos() {
+        return writeLatency.getValueAtPercentile(99);
+    }
+
+    @Override
+    public long getBatchLookupCount() {
+        return batchLookups.sum();
+    }
+
+    @Override
+    public long getBatchWriteCount() {
+        return batchWrites.sum();
+    }
+
+    @Override
+    public long getBatchRemovalCount() {
+        return batchRemovals.sum();
+    }
+
+    @Override
+    public long getBatchedKeyCount() {
+        return batchedKeys.sum();
+    }
+
+    @Override
+    public long getBatchLatencyP99Nanos() {
+        return batchLatency.getValueAtPercentile(99);
+    }
+
+    @Override
+    public int getNodeCount() {
+        return nodeLoads.get().size();
+    }
+
+    @Override
+    public Map<String, Integer> getEntriesPerNode() {
+        final Map<String, Integer> entriesPerNode = new TreeMap<>();
+        nodeLoads.get().forEach((position, entries) -> entriesPerNode.put(String.valueOf(position.getValue()), entries));
+        return entriesPerNode;
+    }
+
+    @Override
+    public double getImbalanceRatio() {
+        return getLoadReport().getImbalance();
+    }
+
+    @Override
+    public long getMigrationCount() {
+        return migrations.sum();
+    }
+
+    @Override
+    public long getMigratedEntries() {
+        return migratedEntries.sum();
+    }
+
+    @Override
+    public String[] getRecentMigrations() {
+        return getMigrationEvents().stream().map(MigrationEvent::toString).toArray(String[]::new);
+    }
+
+    @Override
+    public void reset() {
+        hits.reset();
+        misses.reset();
+        writes.reset();
+        removals.reset();
+        batchLookups.reset();
+        batchWrites.reset();
+        batchRemovals.reset();
+        batchedKeys.reset();
+        migrations.reset();
+        migratedEntries.reset();
+        lookupLatency.reset();
+        writeLatency.reset();
+        batchLatency.reset();
+        synchronized (migrationLog) {
+            migrationLog.clear();
+        }
+    }
+
+    private void recordBatch(final LongAdder batches, final int keys, final long latencyNanos) {
+        batches.increment();
+        batchedKeys.add(keys);
+        batchLatency.record(latencyNanos);
+    }
+}
@@ -0,0 +1,49 @@
+package data.structures.lists.impl;
+
+import java.util.Map;
+
+public interface HashRingMetricsMXBean {
+    long getLookupCount();
+
+    long getHitCount();
+
+    long getMissCount();
+
+    long getWriteCount();
+
+    long getRemovalCount();
+
+    double getLookupLatencyMeanNanos();
+
+    long getLookupLatencyP50Nanos();
+
+    long getLookupLatencyP99Nanos();
+
+    long getLookupLatencyMaxNanos();
+
+    long getWriteLatencyP99Nanos();
+
+    long getBatchLookupCount();
+
+    long getBatchWriteCount();
+
+    long getBatchRemovalCount();
+
+    long getBatchedKeyCount();
+
+    long getBatchLatencyP99Nanos();
+
+    int getNodeCount();
+
+    Map<String, Integer> getEntriesPerNode();
+
+    double getImbalanceRatio();
+
+    long getMigrationCount();
+
+    long getMigratedEntries();
+
+    String[] getRecentMigrations();
+
+    void reset();
+}
@@ -0,0 +1,151 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.ScannableHashRing;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public class InstrumentedHashRing<Key, Value> implements ScannableHashRing<Key, Value> {
+    public static <Key, Value> InstrumentedHashRing<Key, Value> of(final SimpleHashRing<Key, Value> hashRing) {
+        return of(hashRing, HashRingMetrics.DEFAULT_MIGRATION_LOG_CAPACITY);
+    }
+
+    public static <Key, Value> InstrumentedHashRing<Key, Value> of(
+            final SimpleHashRing<Key, Value> hashRing,
+            final int migrationLogCapacity
+    ) {
+        return new InstrumentedHashRing<>(hashRing, new HashRingMetrics(hashRing::getNodeLoads, migrationLogCapacity));
+    }
+
+    private final SimpleHashRing<Key, Value> hashRing;
+    private final HashRingMetrics metrics;
+
+    private InstrumentedHashRing(final SimpleHashRing<Key, Value> hashRing, final HashRingMetrics metrics) {
+        this.hashRing = hashRing;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void addNode(final Position position) {
+        final int nodeCount = hashRing.getNodeCount();
+        final MigrationProgress before = hashRing.getMigrationProgress();
+        final long start = System.nanoTime();
+        hashRing.addNode(position);
+        recordMigration(MigrationEvent.Type.NODE_ADDED, position, nodeCount, before, System.nanoTime() - start);
+    }
+
+    @Override
+    public void removeNode(final Position position) throws AtLeastOneNodeMustExist {
+        final int nodeCount = hashRing.getNodeCount();
+        final MigrationProgress before = hashRing.getMigrationProgress();
+        final long start = System.nanoTime();
+        hashRing.removeNode(position);
+        recordMigration(MigrationEvent.Type.NODE_REMOVED, position, nodeCount, before, System.nanoTime() - start);
+    }
+
+    @Override
+    public Optional<Value> addEntry(final Key key, final Value value) {
+        final long start = System.nanoTime();
+        final Optional<Value> previous = hashRing.addEntry(key, value);
+        metrics.recordWrite(System.nanoTime() - start);
+        return previous;
+    }
+
+    @Override
+    public Optional<Value> removeEntry(final Key key) {
+        final long start = System.nanoTime();
+        final Optional<Value> previous = hashRing.removeEntry(key);
+        metrics.recordRemoval(System.nanoTime() - start);
+        return previous;
+    }
+
+    @Override
+    public Optional<Value> getValue(final Key key) {
+        return Optional.ofNullable(get(key));
+    }
+
+    @Override
+    public Map<Key, Value> getAll(final Collection<? extends Key> keys) {
+        final long start = System.nanoTime();
+        final Map<Key, Value> values = hashRing.getAll(keys);
+        metrics.recordBatchLookup(keys.size(), System.nanoTime() - start);
+        return values;
+    }
+
+    @Override
+    public Map<Key, Value> putAll(final Map<? extends Key, ? extends Value> entries) {
+        final long start = System.nanoTime();
+        final Map<Key, Value> previous = hashRing.putAll(entries);
+        metrics.recordBatchWrite(entries.size(), System.nanoTime() - start);
+        return previous;
+    }
+
+    @Override
+    public Map<Key, Value> removeAll(final Collection<? extends Key> keys) {
+        final long start = System.nanoTime();
+        final Map<Key, Value> previous = hashRing.removeAll(keys);
+        metrics.recordBatchRemoval(keys.size(), System.nanoTime() - start);
+        return previous;
+    }
+
+    @Override
+    public Stream<Map.Entry<Key, Value>> stream() {
+        return hashRing.stream();
+    }
+
+    @Override
+    public Stream<Map.Entry<Key, Value>> entriesOf(final Position position) {
+        return hashRing.entriesOf(position);
+    }
+
+    public Value get(final Key key) {
+        final long start = System.nanoTime();
+        final Value value = hashRing.get(key);
+        metrics.recordLookup(null != value, System.nanoTime() - start);
+        return value;
+    }
+
+    public SimpleHashRing<Key, Value> getHashRing() {
+        return hashRing;
+    }
+
+    public HashRingMetrics getMetrics() {
+        return metrics;
+    }
+
+    public ObjectName registerMBean(final String name) throws JMException {
+        return registerMBean(ManagementFactory.getPlatformMBeanServer(), new ObjectName(name));
+    }
+
+    public ObjectName registerMBean(final MBeanServer server, final ObjectName name) throws JMException {
+        return server.registerMBean(metrics, name).getObjectName();
+    }
+
+    private void recordMigration(
+            final MigrationEvent.Type type,
+            final Position position,
+            final int previousNodeCount,
+            final MigrationProgress before,
+            final long durationNanos
+    ) {
+        if (previousNodeCount != hashRing.getNodeCount()) {
+            final MigrationProgress after = hashRing.getMigrationProgress();
+            metrics.recordMigration(
+                    new MigrationEvent(
+                            type,
+                            position,
+                            System.currentTimeMillis(),
+                            after.getMovedEntries() - before.getMovedEntries(),
+                            after.getRemainingEntries(),
+                            durationNanos
+                    )
+            );
+        }
+    }
+}
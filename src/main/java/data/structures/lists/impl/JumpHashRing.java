@@ -0,0 +1,63 @@
+package data.structures.lists.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+public class JumpHashRing<Key, Value> extends PlacementHashRing<Key, Value> {
+    private final List<Position> buckets;
+
+    public JumpHashRing(
+            final Set<Position> nodePositions,
+            final ToIntFunction<Key> keyToPositionCalculator
+    ) throws AtLeastOneNodeMustExist {
+        super(nodePositions, keyToPositionCalculator);
+        this.buckets = nodePositions
+                .stream()
+                .sorted(Comparator.comparingInt(Position::getValue))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Override
+    protected Position locate(final int keyPosition) {
+        return buckets.get(jump(mix(keyPosition), buckets.size()));
+    }
+
+    @Override
+    protected void placeNode(final Position position) {
+        buckets.add(position);
+    }
+
+    @Override
+    protected Collection<Position> findNodesAffectedByRemoval(final Position position) {
+        // the last bucket is moved into the removed node's slot, so only its keys are redistributed
+        final Position last = buckets.get(buckets.size() - 1);
+        return last.equals(position) ? Collections.emptyList() : List.of(last);
+    }
+
+    @Override
+    protected void displaceNode(final Position position) {
+        final int bucket = buckets.indexOf(position);
+        final Position last = buckets.remove(buckets.size() - 1);
+        if (bucket < buckets.size()) {
+            buckets.set(bucket, last);
+        }
+    }
+
+    static int jump(final long key, final int bucketCount) {
+        long hash = key;
+        long bucket = -1;
+        long next = 0;
+        while (next < bucketCount) {
+            bucket = next;
+            hash = hash * 2862933555777941757L + 1;
+            next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((hash >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
+}
@@ -0,0 +1,100 @@
+package data.structures.lists.impl;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final LongAdder[] counts;
+    private final LongAdder totalCount;
+    private final LongAdder totalValue;
+    private final LongAccumulator maximumValue;
+
+    public LatencyHistogram() {
+        this.counts = new LongAdder[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = new LongAdder();
+        }
+        this.totalCount = new LongAdder();
+        this.totalValue = new LongAdder();
+        this.maximumValue = new LongAccumulator(Math::max, 0);
+    }
+
+    public void record(final long value) {
+        final long recorded = Math.max(0, value);
+        counts[bucketIndex(recorded)].increment();
+        totalCount.increment();
+        totalValue.add(recorded);
+        maximumValue.accumulate(recorded);
+    }
+
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    public long getMaximum() {
+        return maximumValue.get();
+    }
+
+    public double getMean() {
+        final long count = totalCount.sum();
+        return 0 == count ? 0 : (double) totalValue.sum() / count;
+    }
+
+    public long getValueAtPercentile(final double percentile) {
+        if (0 > percentile || 100 < percentile) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+
+        final long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts[i].sum();
+            count += snapshot[i];
+        }
+        if (0 == count) {
+            return 0;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), getMaximum());
+            }
+        }
+        return getMaximum();
+    }
+
+    public void reset() {
+        for (final LongAdder count : counts) {
+            count.reset();
+        }
+        totalCount.reset();
+        totalValue.reset();
+        maximumValue.reset();
+    }
+
+    static int bucketIndex(final long value) {
+        if (SUB_BUCKET_COUNT > value) {
+            return (int) value;
+        }
+        final int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestEquivalentValue(final int bucketIndex) {
+        if (SUB_BUCKET_COUNT > bucketIndex) {
+            return bucketIndex;
+        }
+        final int shift = (bucketIndex - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        final long subBucket = (bucketIndex - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        return ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+}
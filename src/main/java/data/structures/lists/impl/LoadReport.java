@@ -0,0 +1,68 @@
+package data.structures.lists.impl;
+
+import java.util.Collection;
+
+public class LoadReport {
+    public static LoadReport of(final Collection<Integer> entryCountsByNode) {
+        if (entryCountsByNode.isEmpty()) {
+            throw new IllegalArgumentException("entryCountsByNode must not be empty");
+        }
+
+        int minimum = Integer.MAX_VALUE;
+        int maximum = 0;
+        long total = 0;
+        for (final int entryCount : entryCountsByNode) {
+            minimum = Math.min(minimum, entryCount);
+            maximum = Math.max(maximum, entryCount);
+            total += entryCount;
+        }
+        return new LoadReport(entryCountsByNode.size(), total, minimum, maximum);
+    }
+
+    private final int nodeCount;
+    private final long totalEntries;
+    private final int minimumEntries;
+    private final int maximumEntries;
+
+    private LoadReport(final int nodeCount, final long totalEntries, final int minimumEntries, final int maximumEntries) {
+        this.nodeCount = nodeCount;
+        this.totalEntries = totalEntries;
+        this.minimumEntries = minimumEntries;
+        this.maximumEntries = maximumEntries;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public long getTotalEntries() {
+        return totalEntries;
+    }
+
+    public int getMinimumEntries() {
+        return minimumEntries;
+    }
+
+    public int getMaximumEntries() {
+        return maximumEntries;
+    }
+
+    public double getMeanEntries() {
+        return (double) totalEntries / nodeCount;
+    }
+
+    public double getImbalance() {
+        return 0 == totalEntries ? 1.0 : maximumEntries / getMeanEntries();
+    }
+
+    @Override
+    public String toString() {
+        return "LoadReport{" +
+                "nodeCount=" + nodeCount +
+                ", totalEntries=" + totalEntries +
+                ", minimumEntries=" + minimumEntries +
+                ", maximumEntries=" + maximumEntries +
+                ", imbalance=" + getImbalance() +
+                '}';
+    }
+}
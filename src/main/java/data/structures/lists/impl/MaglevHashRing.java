@@ -0,0 +1,103 @@
+package data.structures.lists.impl;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.ToIntFunction;
+
+public class MaglevHashRing<Key, Value> extends PlacementHashRing<Key, Value> {
+    public static final int DEFAULT_TABLE_SIZE = 65_537;
+
+    private final int tableSize;
+    private final Set<Position> nodes;
+    private Position[] tableNodes;
+    private int[] table;
+
+    public MaglevHashRing(
+            final Set<Position> nodePositions,
+            final ToIntFunction<Key> keyToPositionCalculator
+    ) throws AtLeastOneNodeMustExist {
+        this(nodePositions, keyToPositionCalculator, DEFAULT_TABLE_SIZE);
+    }
+
+    public MaglevHashRing(
+            final Set<Position> nodePositions,
+            final ToIntFunction<Key> keyToPositionCalculator,
+            final int tableSize
+    ) throws AtLeastOneNodeMustExist {
+        super(nodePositions, keyToPositionCalculator);
+        if (!isPrime(tableSize)) {
+            throw new IllegalArgumentException("tableSize must be prime");
+        }
+
+        this.tableSize = tableSize;
+        this.nodes = new TreeSet<>(Comparator.comparingInt(Position::getValue));
+        this.nodes.addAll(nodePositions);
+        populate();
+    }
+
+    @Override
+    protected Position locate(final int keyPosition) {
+        return tableNodes[table[(int) Long.remainderUnsigned(mix(keyPosition), tableSize)]];
+    }
+
+    @Override
+    protected void placeNode(final Position position) {
+        nodes.add(position);
+        populate();
+    }
+
+    @Override
+    protected void displaceNode(final Position position) {
+        nodes.remove(position);
+        populate();
+    }
+
+    private void populate() {
+        if (nodes.size() > tableSize) {
+            throw new IllegalStateException("tableSize must be at least the number of nodes");
+        }
+
+        final Position[] positions = nodes.toArray(new Position[0]);
+        final long[] offsets = new long[positions.length];
+        final long[] skips = new long[positions.length];
+        final long[] nextIndices = new long[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            offsets[i] = Long.remainderUnsigned(mix(positions[i].getValue()), tableSize);
+            skips[i] = Long.remainderUnsigned(mix(~(long) positions[i].getValue()), tableSize - 1) + 1;
+        }
+
+        final int[] populated = new int[tableSize];
+        Arrays.fill(populated, -1);
+        int filled = 0;
+        while (true) {
+            for (int i = 0; i < positions.length; i++) {
+                int candidate = (int) ((offsets[i] + nextIndices[i] * skips[i]) % tableSize);
+                while (0 <= populated[candidate]) {
+                    nextIndices[i]++;
+                    candidate = (int) ((offsets[i] + nextIndices[i] * skips[i]) % tableSize);
+                }
+                populated[candidate] = i;
+                nextIndices[i]++;
+                if (++filled == tableSize) {
+                    tableNodes = positions;
+                    table = populated;
+                    return;
+                }
+            }
+        }
+    }
+
+    private static boolean isPrime(final int value) {
+        if (2 > value) {
+            return false;
+        }
+        for (int divisor = 2; (long) divisor * divisor <= value; divisor++) {
+            if (0 == value % divisor) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,70 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing.Position;
+
+public class MigrationEvent {
+    public enum Type {
+        NODE_ADDED,
+        NODE_REMOVED
+    }
+
+    private final Type type;
+    private final Position position;
+    private final long timestampMillis;
+    private final long movedEntries;
+    private final int pendingEntries;
+    private final long durationNanos;
+
+    MigrationEvent(
+            final Type type,
+            final Position position,
+            final long timestampMillis,
+            final long movedEntries,
+            final int pendingEntries,
+            final long durationNanos
+    ) {
+        this.type = type;
+        this.position = position;
+        this.timestampMillis = timestampMillis;
+        this.movedEntries = movedEntries;
+        this.pendingEntries = pendingEntries;
+        this.durationNanos = durationNanos;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Position getPosition() {
+        return position;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    public long getMovedEntries() {
+        return movedEntries;
+    }
+
+    public int getPendingEntries() {
+        return pendingEntries;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "%s position=%d movedEntries=%d pendingEntries=%d durationNanos=%d timestampMillis=%d",
+                type,
+                position.getValue(),
+                movedEntries,
+                pendingEntries,
+                durationNanos,
+                timestampMillis
+        );
+    }
+}
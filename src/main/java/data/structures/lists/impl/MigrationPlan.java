@@ -0,0 +1,102 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing.Position;
+
+import java.util.Collections;
+import java.util.List;
+
+public class MigrationPlan {
+    public static class Transfer {
+        private final int rangeStart;
+        private final int rangeEnd;
+        private final Position source;
+        private final Position target;
+        private final int entryCount;
+
+        Transfer(final int rangeStart, final int rangeEnd, final Position source, final Position target, final int entryCount) {
+            this.rangeStart = rangeStart;
+            this.rangeEnd = rangeEnd;
+            this.source = source;
+            this.target = target;
+            this.entryCount = entryCount;
+        }
+
+        public int getRangeStart() {
+            return rangeStart;
+        }
+
+        public int getRangeEnd() {
+            return rangeEnd;
+        }
+
+        public boolean isWrapping() {
+            return rangeStart >= rangeEnd;
+        }
+
+        public Position getSource() {
+            return source;
+        }
+
+        public Position getTarget() {
+            return target;
+        }
+
+        public int getEntryCount() {
+            return entryCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "(%d, %d] %d -> %d entries=%d",
+                    rangeStart,
+                    rangeEnd,
+                    source.getValue(),
+                    target.getValue(),
+                    entryCount
+            );
+        }
+    }
+
+    private final int nodeCountBefore;
+    private final int nodeCountAfter;
+    private final List<Transfer> transfers;
+    private final long totalEntries;
+
+    MigrationPlan(final int nodeCountBefore, final int nodeCountAfter, final List<Transfer> transfers) {
+        this.nodeCountBefore = nodeCountBefore;
+        this.nodeCountAfter = nodeCountAfter;
+        this.transfers = Collections.unmodifiableList(transfers);
+        long total = 0;
+        for (final Transfer transfer : transfers) {
+            total += transfer.getEntryCount();
+        }
+        this.totalEntries = total;
+    }
+
+    public int getNodeCountBefore() {
+        return nodeCountBefore;
+    }
+
+    public int getNodeCountAfter() {
+        return nodeCountAfter;
+    }
+
+    public List<Transfer> getTransfers() {
+        return transfers;
+    }
+
+    public long getTotalEntries() {
+        return totalEntries;
+    }
+
+    @Override
+    public String toString() {
+        return "MigrationPlan{" +
+                "nodeCountBefore=" + nodeCountBefore +
+                ", nodeCountAfter=" + nodeCountAfter +
+                ", transfers=" + transfers.size() +
+                ", totalEntries=" + totalEntries +
+                '}';
+    }
+}
@@ -0,0 +1,70 @@
+package data.structures.lists.impl;
+
+public class MigrationProgress {
+    private final boolean inProgress;
+    private final int remainingEntries;
+    private final long movedEntries;
+    private final long completedMigrations;
+    private final long lastPauseNanos;
+    private final long maximumPauseNanos;
+    private final long totalPauseNanos;
+
+    MigrationProgress(
+            final boolean inProgress,
+            final int remainingEntries,
+            final long movedEntries,
+            final long completedMigrations,
+            final long lastPauseNanos,
+            final long maximumPauseNanos,
+            final long totalPauseNanos
+    ) {
+        this.inProgress = inProgress;
+        this.remainingEntries = remainingEntries;
+        this.movedEntries = movedEntries;
+        this.completedMigrations = completedMigrations;
+        this.lastPauseNanos = lastPauseNanos;
+        this.maximumPauseNanos = maximumPauseNanos;
+        this.totalPauseNanos = totalPauseNanos;
+    }
+
+    public boolean isInProgress() {
+        return inProgress;
+    }
+
+    public int getRemainingEntries() {
+        return remainingEntries;
+    }
+
+    public long getMovedEntries() {
+        return movedEntries;
+    }
+
+    public long getCompletedMigrations() {
+        return completedMigrations;
+    }
+
+    public long getLastPauseNanos() {
+        return lastPauseNanos;
+    }
+
+    public long getMaximumPauseNanos() {
+        return maximumPauseNanos;
+    }
+
+    public long getTotalPauseNanos() {
+        return totalPauseNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "MigrationProgress{" +
+                "inProgress=" + inProgress +
+                ", remainingEntries=" + remainingEntries +
+                ", movedEntries=" + movedEntries +
+                ", completedMigrations=" + completedMigrations +
+                ", lastPauseNanos=" + lastPauseNanos +
+                ", maximumPauseNanos=" + maximumPauseNanos +
+                ", totalPauseNanos=" + totalPauseNanos +
+                '}';
+    }
+}
@@ -0,0 +1,87 @@
+package data.structures.lists.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+final class MpscBoundedQueue<E> {
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail;
+    private volatile long head;
+
+    MpscBoundedQueue(final int capacity) {
+        if (0 >= capacity || 0 != (capacity & (capacity - 1))) {
+            throw new IllegalArgumentException("capacity must be a positive power of two");
+        }
+
+        this.elements = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+        this.tail = new AtomicLong();
+    }
+
+    boolean offer(final E element) {
+        long slot;
+        int index;
+        while (true) {
+            slot = tail.get();
+            index = (int) slot & mask;
+            final long sequence = sequences.get(index);
+            if (sequence == slot) {
+                if (tail.compareAndSet(slot, slot + 1)) {
+                    break;
+                }
+            } else if (sequence < slot) {
+                return false;
+            }
+        }
+
+        elements[index] = element;
+        sequences.set(index, slot + 1);
+        return true;
+    }
+
+    E poll() {
+        final int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+
+        @SuppressWarnings("unchecked")
+        final E element = (E) elements[index];
+        elements[index] = null;
+        sequences.lazySet(index, head + elements.length);
+        head++;
+        return element;
+    }
+
+    int drain(final Consumer<? super E> consumer, final int limit) {
+        int drained = 0;
+        while (drained < limit) {
+            final E element = poll();
+            if (null == element) {
+                break;
+            }
+            consumer.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+
+    int size() {
+        return (int) Math.max(0, Math.min(elements.length, tail.get() - head));
+    }
+
+    int capacity() {
+        return elements.length;
+    }
+}
@@ -0,0 +1,158 @@
+package data.structures.lists.impl;
+
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+class NodeSpliterator<Key, Value> implements Spliterator<Map.Entry<Key, Value>> {
+    static <Key, Value> Stream<Map.Entry<Key, Value>> stream(final List<? extends Map<Key, Value>> nodes) {
+        return stream(nodes, null, DISTINCT);
+    }
+
+    static <Key, Value> Stream<Map.Entry<Key, Value>> stream(
+            final List<? extends Map<Key, Value>> nodes,
+            final BiPredicate<Map<Key, Value>, Key> filter,
+            final int extraCharacteristics
+    ) {
+        return StreamSupport.stream(new NodeSpliterator<>(nodes, 0, nodes.size(), filter, extraCharacteristics), false);
+    }
+
+    private final List<? extends Map<Key, Value>> nodes;
+    private final BiPredicate<Map<Key, Value>, Key> filter;
+    private final int characteristics;
+    private final Consumer<Map.Entry<Key, Value>> filteringAction;
+    private Consumer<? super Map.Entry<Key, Value>> action;
+    private boolean accepted;
+    private int index;
+    private int fence;
+    private Map<Key, Value> currentNode;
+    private Spliterator<Map.Entry<Key, Value>> current;
+
+    private NodeSpliterator(
+            final List<? extends Map<Key, Value>> nodes,
+            final int index,
+            final int fence,
+            final BiPredicate<Map<Key, Value>, Key> filter,
+            final int extraCharacteristics
+    ) {
+        this.nodes = nodes;
+        this.index = index;
+        this.fence = fence;
+        this.filter = filter;
+        this.characteristics = NONNULL | extraCharacteristics;
+        this.filteringAction = this::acceptCurrent;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super Map.Entry<Key, Value>> action) {
+        this.action = action;
+        accepted = false;
+        try {
+            while (true) {
+                if (null == current) {
+                    if (index >= fence) {
+                        return false;
+                    }
+                    openNode(nodes.get(index++));
+                }
+
+                while (!accepted && current.tryAdvance(filteringAction)) {
+                    // skip entries rejected by the filter
+                }
+                if (accepted) {
+                    return true;
+                }
+                current = null;
+            }
+        } finally {
+            this.action = null;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(final Consumer<? super Map.Entry<Key, Value>> action) {
+        if (null != current) {
+            final Map<Key, Value> node = currentNode;
+            current.forEachRemaining(entry -> accept(node, entry.getKey(), entry.getValue(), action));
+            current = null;
+        }
+        for (; index < fence; index++) {
+            final Map<Key, Value> node = nodes.get(index);
+            node.forEach((key, value) -> accept(node, key, value, action));
+        }
+    }
+
+    @Override
+    public Spliterator<Map.Entry<Key, Value>> trySplit() {
+        if (null == current) {
+            if (1 < fence - index) {
+                final int middle = (index + fence) >>> 1;
+                final NodeSpliterator<Key, Value> prefix = new NodeSpliterator<>(nodes, index, middle, filter, characteristics);
+                index = middle;
+                return prefix;
+            }
+            if (index == fence) {
+                return null;
+            }
+            openNode(nodes.get(index++));
+        }
+
+        if (index < fence) {
+            final NodeSpliterator<Key, Value> suffix = new NodeSpliterator<>(nodes, index, fence, filter, characteristics);
+            fence = index;
+            return suffix;
+        }
+
+        // a single node is left, so split its map instead
+        final Spliterator<Map.Entry<Key, Value>> split = current.trySplit();
+        if (null == split) {
+            return null;
+        }
+        final NodeSpliterator<Key, Value> prefix = new NodeSpliterator<>(nodes, fence, fence, filter, characteristics);
+        prefix.currentNode = currentNode;
+        prefix.current = split;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        long size = null == current ? 0 : current.estimateSize();
+        for (int i = index; i < fence; i++) {
+            size += nodes.get(i).size();
+        }
+        return size;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    private void acceptCurrent(final Map.Entry<Key, Value> entry) {
+        if (null == filter || filter.test(currentNode, entry.getKey())) {
+            action.accept(new AbstractMap.SimpleImmutableEntry<>(entry));
+            accepted = true;
+        }
+    }
+
+    private void openNode(final Map<Key, Value> node) {
+        currentNode = node;
+        current = node.entrySet().spliterator();
+    }
+
+    private void accept(
+            final Map<Key, Value> node,
+            final Key key,
+            final Value value,
+            final Consumer<? super Map.Entry<Key, Value>> action
+    ) {
+        if (null == filter || filter.test(node, key)) {
+            action.accept(new AbstractMap.SimpleImmutableEntry<>(key, value));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package data.structures.lists.impl;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+final class OwnerBatches {
+    static final int PARALLEL_THRESHOLD = 1 << 12;
+
+    private final int[] keyIndices;
+    private final int[] batchOwners;
+    private final int[] batchStarts;
+    private final int batchCount;
+
+    private OwnerBatches(final int[] keyIndices, final int[] batchOwners, final int[] batchStarts, final int batchCount) {
+        this.keyIndices = keyIndices;
+        this.batchOwners = batchOwners;
+        this.batchStarts = batchStarts;
+        this.batchCount = batchCount;
+    }
+
+    static OwnerBatches group(final int[] nodePositions, final int nodeCount, final int[] keyPositions) {
+        final int lastNodePosition = nodePositions[nodeCount - 1];
+        final long[] sortedKeys = new long[keyPositions.length];
+        for (int i = 0; i < keyPositions.length; i++) {
+            // rotate the ring so keys that wrap around to the first node sort ahead of every other key, then flip the
+            // sign bit so the signed sort orders rotated positions as unsigned, matching TokenSearch's signed order
+            final int rotatedPosition = (keyPositions[i] - lastNodePosition - 1) ^ Integer.MIN_VALUE;
+            sortedKeys[i] = ((long) rotatedPosition << 32) | i;
+        }
+        Arrays.sort(sortedKeys);
+
+        final int[] keyIndices = new int[keyPositions.length];
+        final int[] batchOwners = new int[Math.min(keyPositions.length, nodeCount)];
+        final int[] batchStarts = new int[batchOwners.length + 1];
+        int batchCount = 0;
+        int nodeIndex = 0;
+        for (int i = 0; i < sortedKeys.length; i++) {
+            final int keyIndex = (int) sortedKeys[i];
+            final int keyPosition = keyPositions[keyIndex];
+            int owner = 0;
+            if (keyPosition <= lastNodePosition) {
+                while (nodePositions[nodeIndex] < keyPosition) {
+                    nodeIndex++;
+                }
+                owner = nodeIndex;
+            }
+
+            if (0 == batchCount || batchOwners[batchCount - 1] != owner) {
+                batchOwners[batchCount] = owner;
+                batchStarts[batchCount] = i;
+                batchCount++;
+            }
+            keyIndices[i] = keyIndex;
+        }
+        batchStarts[batchCount] = sortedKeys.length;
+
+        return new OwnerBatches(keyIndices, batchOwners, batchStarts, batchCount);
+    }
+
+    int getBatchCount() {
+        return batchCount;
+    }
+
+    int getOwner(final int batch) {
+        return batchOwners[batch];
+    }
+
+    int getStart(final int batch) {
+        return batchStarts[batch];
+    }
+
+    int getEnd(final int batch) {
+        return batchStarts[batch + 1];
+    }
+
+    int getKeyIndex(final int sortedIndex) {
+        return keyIndices[sortedIndex];
+    }
+
+    void forEachBatch(final IntConsumer batchConsumer, final ForkJoinPool pool) {
+        if (null == pool || PARALLEL_THRESHOLD > keyIndices.length || 1 == batchCount) {
+            for (int batch = 0; batch < batchCount; batch++) {
+                batchConsumer.accept(batch);
+            }
+        } else {
+            pool.invoke(new BatchTask(batchConsumer, 0, batchCount));
+        }
+    }
+
+    private class BatchTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final IntConsumer batchConsumer;
+        private final int from;
+        private final int to;
+
+        private BatchTask(final IntConsumer batchConsumer, final int from, final int to) {
+            this.batchConsumer = batchConsumer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (PARALLEL_THRESHOLD >= batchStarts[to] - batchStarts[from] || 1 == to - from) {
+                for (int batch = from; batch < to; batch++) {
+                    batchConsumer.accept(batch);
+                }
+            } else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new BatchTask(batchConsumer, from, middle), new BatchTask(batchConsumer, middle, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,463 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing.AtLeastOneNodeMustExist;
+import data.structures.lists.interfaces.HashRing.Position;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+public class PartitionedExecutor<Key> implements AutoCloseable {
+    public static final int DEFAULT_QUEUE_CAPACITY = 1_024;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 64;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final int FULL_SPINS = 64;
+
+    public static class Builder<Key> {
+        private final Set<Position> lanePositions;
+        private final ToIntFunction<Key> keyToPositionCalculator;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+        private ThreadFactory threadFactory = Executors.defaultThreadFactory();
+        private Consumer<? super Throwable> exceptionHandler;
+
+        private Builder(final Set<Position> lanePositions, final ToIntFunction<Key> keyToPositionCalculator) {
+            this.lanePositions = lanePositions;
+            this.keyToPositionCalculator = keyToPositionCalculator;
+        }
+
+        public Builder<Key> queueCapacity(final int queueCapacity) {
+            if (0 >= queueCapacity || 0 != (queueCapacity & (queueCapacity - 1))) {
+                throw new IllegalArgumentException("queueCapacity must be a positive power of two");
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        public Builder<Key> maxBatchSize(final int maxBatchSize) {
+            if (0 >= maxBatchSize) {
+                throw new IllegalArgumentException("maxBatchSize must be positive");
+            }
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        public Builder<Key> threadFactory(final ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
+            return this;
+        }
+
+        public Builder<Key> exceptionHandler(final Consumer<? super Throwable> exceptionHandler) {
+            this.exceptionHandler = exceptionHandler;
+            return this;
+        }
+
+        public PartitionedExecutor<Key> build() throws AtLeastOneNodeMustExist {
+            return new PartitionedExecutor<>(this);
+        }
+    }
+
+    private static class Lane implements Runnable {
+        private final Position position;
+        private final MpscBoundedQueue<Runnable> queue;
+        private final int maxBatchSize;
+        private final LongAdder completedTasks;
+        private final LongAdder completedBatches;
+        private final Consumer<? super Throwable> exceptionHandler;
+        private final CountDownLatch terminated;
+        private Thread thread;
+        private volatile boolean waiting;
+        private volatile boolean closed;
+
+        private Lane(
+                final Position position,
+                final int queueCapacity,
+                final int maxBatchSize,
+                final LongAdder completedTasks,
+                final LongAdder completedBatches,
+                final Consumer<? super Throwable> exceptionHandler
+        ) {
+            this.position = position;
+            this.queue = new MpscBoundedQueue<>(queueCapacity);
+            this.maxBatchSize = maxBatchSize;
+            this.completedTasks = completedTasks;
+            this.completedBatches = completedBatches;
+            this.exceptionHandler = exceptionHandler;
+            this.terminated = new CountDownLatch(1);
+        }
+
+        private void start(final ThreadFactory threadFactory) {
+            thread = threadFactory.newThread(this);
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    if (0 < queue.drain(this::runTask, maxBatchSize)) {
+                        completedBatches.increment();
+                        continue;
+                    }
+                    if (closed && queue.isEmpty()) {
+                        return;
+                    }
+
+                    // publish the intent to sleep before re-checking, so a concurrent offer either sees it or is seen here
+                    waiting = true;
+                    if (queue.isEmpty() && !closed) {
+                        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                    }
+                    waiting = false;
+                }
+            } finally {
+                terminated.countDown();
+            }
+        }
+
+        private void runTask(final Runnable task) {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                if (null == exceptionHandler) {
+                    thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+                } else {
+                    exceptionHandler.accept(e);
+                }
+            }
+            completedTasks.increment();
+        }
+
+        private boolean offer(final Runnable task) {
+            if (!queue.offer(task)) {
+                return false;
+            }
+            if (waiting) {
+                LockSupport.unpark(thread);
+            }
+            return true;
+        }
+
+        private void close() {
+            closed = true;
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private static class Topology {
+        private final int[] lanePositions;
+        private final Lane[] lanes;
+
+        private Topology(final int[] lanePositions, final Lane[] lanes) {
+            this.lanePositions = lanePositions;
+            this.lanes = lanes;
+        }
+
+        private Lane findLane(final int position) {
+            return lanes[TokenSearch.findOwnerIndex(lanePositions, lanePositions.length, position)];
+        }
+    }
+
+    public static <Key> PartitionedExecutor<Key> create(
+            final Set<Position> lanePositions,
+            final ToIntFunction<Key> keyToPositionCalculator
+    ) throws AtLeastOneNodeMustExist {
+        return PartitionedExecutor.<Key>builder(lanePositions, keyToPositionCalculator).build();
+    }
+
+    public static <Key> Builder<Key> builder(final Set<Position> lanePositions, final ToIntFunction<Key> keyToPositionCalculator) {
+        return new Builder<>(lanePositions, keyToPositionCalculator);
+    }
+
+    private final ToIntFunction<Key> keyToPositionCalculator;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+    private final ThreadFactory threadFactory;
+    private final Consumer<? super Throwable> exceptionHandler;
+    private final ReadWriteLock topologyLock;
+    private final LongAdder completedTasks;
+    private final LongAdder completedBatches;
+    private final LongAdder rejectedTasks;
+    private volatile Topology topology;
+    private volatile boolean shutdown;
+
+    private PartitionedExecutor(final Builder<Key> builder) throws AtLeastOneNodeMustExist {
+        if (builder.lanePositions.isEmpty()) {
+            throw new AtLeastOneNodeMustExist();
+        }
+
+        this.keyToPositionCalculator = builder.keyToPositionCalculator;
+        this.queueCapacity = builder.queueCapacity;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.threadFactory = builder.threadFactory;
+        this.exceptionHandler = builder.exceptionHandler;
+        this.topologyLock = new ReentrantReadWriteLock();
+        this.completedTasks = new LongAdder();
+        this.completedBatches = new LongAdder();
+        this.rejectedTasks = new LongAdder();
+
+        final int[] positions = builder.lanePositions
+                .stream()
+                .mapToInt(Position::getValue)
+                .sorted()
+                .toArray();
+        final Lane[] lanes = new Lane[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            lanes[i] = createLane(new Position(positions[i]));
+        }
+        this.topology = new Topology(positions, lanes);
+        for (final Lane lane : lanes) {
+            lane.start(threadFactory);
+        }
+    }
+
+    public void submit(final Key key, final Runnable task) throws InterruptedException {
+        submit(key, task, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    public boolean trySubmit(final Key key, final Runnable task) {
+        Objects.requireNonNull(task);
+        if (offer(keyToPositionCalculator.applyAsInt(key), task)) {
+            return true;
+        }
+        rejectedTasks.increment();
+        return false;
+    }
+
+    public boolean submit(final Key key, final Runnable task, final long timeout, final TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(task);
+        final int position = keyToPositionCalculator.applyAsInt(key);
+        final long timeoutNanos = unit.toNanos(timeout);
+        final long start = System.nanoTime();
+        // the read lock is released between attempts so a lane task submitting here cannot stall a waiting
+        // topology change, and each retry routes through the latest topology
+        for (int attempt = 0; !offer(position, task); attempt++) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (Long.MAX_VALUE != timeoutNanos && System.nanoTime() - start >= timeoutNanos) {
+                rejectedTasks.increment();
+                return false;
+            }
+            backOff(attempt);
+        }
+        return true;
+    }
+
+    public Position laneFor(final Key key) {
+        return topology.findLane(keyToPositionCalculator.applyAsInt(key)).position;
+    }
+
+    public void addNode(final Position position) {
+        for (int attempt = 0; !tryAddNode(position); attempt++) {
+            backOff(attempt);
+        }
+    }
+
+    public void removeNode(final Position position) throws AtLeastOneNodeMustExist {
+        for (int attempt = 0; !tryRemoveNode(position); attempt++) {
+            backOff(attempt);
+        }
+    }
+
+    private boolean tryAddNode(final Position position) {
+        topologyLock.writeLock().lock();
+        try {
+            requireRunning();
+            final Topology current = topology;
+            final int searchedIndex = Arrays.binarySearch(current.lanePositions, position.getValue());
+            if (0 <= searchedIndex) {
+                return true;
+            }
+
+            final int laneCount = current.lanePositions.length;
+            final int laneIndex = -(searchedIndex + 1);
+            final int[] positions = new int[laneCount + 1];
+            final Lane[] lanes = new Lane[laneCount + 1];
+            System.arraycopy(current.lanePositions, 0, positions, 0, laneIndex);
+            System.arraycopy(current.lanes, 0, lanes, 0, laneIndex);
+            System.arraycopy(current.lanePositions, laneIndex, positions, laneIndex + 1, laneCount - laneIndex);
+            System.arraycopy(current.lanes, laneIndex, lanes, laneIndex + 1, laneCount - laneIndex);
+            positions[laneIndex] = position.getValue();
+            lanes[laneIndex] = createLane(position);
+
+            // the new lane holds its keys back until the previous owner has run everything queued before the split;
+            // a full owner queue fails the attempt rather than waiting on it with the write lock held
+            final CountDownLatch handedOver = new CountDownLatch(1);
+            if (!offerBarrier(current.lanes[laneIndex % laneCount], handedOver::countDown)) {
+                return false;
+            }
+            lanes[laneIndex].queue.offer(() -> awaitUninterruptibly(handedOver));
+
+            topology = new Topology(positions, lanes);
+            lanes[laneIndex].start(threadFactory);
+            return true;
+        } finally {
+            topologyLock.writeLock().unlock();
+        }
+    }
+
+    private boolean tryRemoveNode(final Position position) throws AtLeastOneNodeMustExist {
+        topologyLock.writeLock().lock();
+        try {
+            requireRunning();
+            final Topology current = topology;
+            final int laneIndex = Arrays.binarySearch(current.lanePositions, position.getValue());
+            if (0 > laneIndex) {
+                return true;
+            }
+
+            final int laneCount = current.lanePositions.length;
+            if (1 == laneCount) {
+                throw new AtLeastOneNodeMustExist();
+            }
+
+            // the successor inherits the removed lane's keys only after that lane has drained
+            final Lane removedLane = current.lanes[laneIndex];
+            if (!offerBarrier(current.lanes[(laneIndex + 1) % laneCount], () -> awaitUninterruptibly(removedLane.terminated))) {
+                return false;
+            }
+
+            final int[] positions = new int[laneCount - 1];
+            final Lane[] lanes = new Lane[laneCount - 1];
+            System.arraycopy(current.lanePositions, 0, positions, 0, laneIndex);
+            System.arraycopy(current.lanes, 0, lanes, 0, laneIndex);
+            System.arraycopy(current.lanePositions, laneIndex + 1, positions, laneIndex, laneCount - laneIndex - 1);
+            System.arraycopy(current.lanes, laneIndex + 1, lanes, laneIndex, laneCount - laneIndex - 1);
+            topology = new Topology(positions, lanes);
+            removedLane.close();
+            return true;
+        } finally {
+            topologyLock.writeLock().unlock();
+        }
+    }
+
+    public int getLaneCount() {
+        return topology.lanes.length;
+    }
+
+    public Map<Position, Integer> getQueueDepths() {
+        final Map<Position, Integer> queueDepths = new LinkedHashMap<>();
+        for (final Lane lane : topology.lanes) {
+            queueDepths.put(lane.position, lane.queue.size());
+        }
+        return queueDepths;
+    }
+
+    public long getCompletedTasks() {
+        return completedTasks.sum();
+    }
+
+    public long getRejectedTasks() {
+        return rejectedTasks.sum();
+    }
+
+    public long getCompletedBatches() {
+        return completedBatches.sum();
+    }
+
+    public void shutdown() {
+        topologyLock.writeLock().lock();
+        try {
+            if (!shutdown) {
+                shutdown = true;
+                for (final Lane lane : topology.lanes) {
+                    lane.close();
+                }
+            }
+        } finally {
+            topologyLock.writeLock().unlock();
+        }
+    }
+
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+        for (final Lane lane : topology.lanes) {
+            if (!lane.terminated.await(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isTerminated() {
+        return shutdown && Arrays.stream(topology.lanes).allMatch(lane -> 0 == lane.terminated.getCount());
+    }
+
+    @Override
+    public void close() {
+        shutdown();
+        for (final Lane lane : topology.lanes) {
+            awaitUninterruptibly(lane.terminated);
+        }
+    }
+
+    private boolean offer(final int position, final Runnable task) {
+        topologyLock.readLock().lock();
+        try {
+            requireRunning();
+            return topology.findLane(position).offer(task);
+        } finally {
+            topologyLock.readLock().unlock();
+        }
+    }
+
+    private static boolean offerBarrier(final Lane lane, final Runnable barrier) {
+        if (lane.offer(barrier)) {
+            return true;
+        }
+        // a task on the full lane would retry forever, since its lane cannot drain while the task runs
+        if (Thread.currentThread() == lane.thread) {
+            throw new IllegalStateException("a lane task cannot change the topology while its own lane is full");
+        }
+        return false;
+    }
+
+    private void requireRunning() {
+        if (shutdown) {
+            throw new RejectedExecutionException("executor has been shut down");
+        }
+    }
+
+    private static void backOff(final int attempt) {
+        if (attempt < FULL_SPINS) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Lane createLane(final Position position) {
+        return new Lane(position, queueCapacity, maxBatchSize, completedTasks, completedBatches, exceptionHandler);
+    }
+}
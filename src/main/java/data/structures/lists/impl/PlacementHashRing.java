@@ -0,0 +1,162 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.ScannableHashRing;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+public abstract class PlacementHashRing<Key, Value> implements ScannableHashRing<Key, Value> {
+    private final ToIntFunction<Key> keyToPositionCalculator;
+    private final Map<Position, Map<Key, Value>> entriesByPosition;
+    private long lastMovedEntries;
+    private long totalMovedEntries;
+    private long lastScannedEntries;
+
+    protected PlacementHashRing(
+            final Set<Position> nodePositions,
+            final ToIntFunction<Key> keyToPositionCalculator
+    ) throws AtLeastOneNodeMustExist {
+        if (nodePositions.isEmpty()) {
+            throw new AtLeastOneNodeMustExist();
+        }
+
+        this.keyToPositionCalculator = keyToPositionCalculator;
+        this.entriesByPosition = new HashMap<>();
+        nodePositions.forEach(position -> entriesByPosition.put(position, new HashMap<>()));
+    }
+
+    protected abstract Position locate(int keyPosition);
+
+    protected abstract void placeNode(Position position);
+
+    protected abstract void displaceNode(Position position);
+
+    // nodes, other than the removed one, whose entries may change owner once it is displaced; called before
+    // displaceNode, and by default every remaining node is rescanned
+    protected Collection<Position> findNodesAffectedByRemoval(final Position position) {
+        return entriesByPosition.keySet();
+    }
+
+    @Override
+    public void addNode(final Position position) {
+        if (!entriesByPosition.containsKey(position)) {
+            entriesByPosition.put(position, new HashMap<>());
+            placeNode(position);
+            // a new node may take entries from every other node, so all of them are rescanned
+            rebalance(Collections.emptyMap(), entriesByPosition.keySet());
+        }
+    }
+
+    @Override
+    public void removeNode(final Position position) throws AtLeastOneNodeMustExist {
+        if (entriesByPosition.containsKey(position)) {
+            if (1 == entriesByPosition.size()) {
+                throw new AtLeastOneNodeMustExist();
+            }
+
+            final Map<Key, Value> entries = entriesByPosition.remove(position);
+            final List<Position> affectedPositions = new ArrayList<>(findNodesAffectedByRemoval(position));
+            displaceNode(position);
+            rebalance(entries, affectedPositions);
+        }
+    }
+
+    @Override
+    public Optional<Value> addEntry(final Key key, final Value value) {
+        return Optional.ofNullable(getEntriesForKey(key).put(key, value));
+    }
+
+    @Override
+    public Optional<Value> removeEntry(final Key key) {
+        return Optional.ofNullable(getEntriesForKey(key).remove(key));
+    }
+
+    @Override
+    public Optional<Value> getValue(final Key key) {
+        return Optional.ofNullable(get(key));
+    }
+
+    @Override
+    public Stream<Map.Entry<Key, Value>> stream() {
+        return NodeSpliterator.stream(new ArrayList<>(entriesByPosition.values()));
+    }
+
+    @Override
+    public Stream<Map.Entry<Key, Value>> entriesOf(final Position position) {
+        final Map<Key, Value> entries = entriesByPosition.get(position);
+        return null == entries ? Stream.empty() : NodeSpliterator.stream(List.of(entries));
+    }
+
+    public Value get(final Key key) {
+        return getEntriesForKey(key).get(key);
+    }
+
+    public Position getOwner(final Key key) {
+        return locate(keyToPositionCalculator.applyAsInt(key));
+    }
+
+    public Set<Position> getNodePositions() {
+        return Collections.unmodifiableSet(entriesByPosition.keySet());
+    }
+
+    public long getLastMovedEntries() {
+        return lastMovedEntries;
+    }
+
+    public long getTotalMovedEntries() {
+        return totalMovedEntries;
+    }
+
+    public long getLastScannedEntries() {
+        return lastScannedEntries;
+    }
+
+    public LoadReport getLoadReport() {
+        final List<Integer> entryCounts = new ArrayList<>();
+        entriesByPosition.values().forEach(entries -> entryCounts.add(entries.size()));
+        return LoadReport.of(entryCounts);
+    }
+
+    protected static long mix(final long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private Map<Key, Value> getEntriesForKey(final Key key) {
+        return entriesByPosition.get(getOwner(key));
+    }
+
+    private void rebalance(final Map<Key, Value> displacedEntries, final Collection<Position> affectedPositions) {
+        long movedEntries = displacedEntries.size();
+        long scannedEntries = 0;
+        final Map<Key, Value> misplacedEntries = new HashMap<>();
+        for (final Position position : affectedPositions) {
+            final Map<Key, Value> nodeEntries = entriesByPosition.get(position);
+            if (null == nodeEntries) {
+                continue;
+            }
+            scannedEntries += nodeEntries.size();
+            final Iterator<Map.Entry<Key, Value>> entries = nodeEntries.entrySet().iterator();
+            while (entries.hasNext()) {
+                final Map.Entry<Key, Value> entry = entries.next();
+                if (!position.equals(getOwner(entry.getKey()))) {
+                    misplacedEntries.put(entry.getKey(), entry.getValue());
+                    entries.remove();
+                }
+            }
+        }
+        displacedEntries.forEach((key, value) -> getEntriesForKey(key).put(key, value));
+        misplacedEntries.forEach((key, value) -> getEntriesForKey(key).put(key, value));
+        movedEntries += misplacedEntries.size();
+
+        lastScannedEntries = scannedEntries;
+        lastMovedEntries = movedEntries;
+        totalMovedEntries += movedEntries;
+    }
+}
@@ -0,0 +1,296 @@
+package data.structures.lists.impl;
+
+import java.nio.ByteBuffer;
+import java.util.function.ToIntFunction;
+
+public enum PositionHasher {
+    MURMUR3 {
+        private static final int C1 = 0xCC9E2D51;
+        private static final int C2 = 0x1B873593;
+
+        @Override
+        @SuppressWarnings("fallthrough")
+        long hash(final Object input, final int offset, final int length, final ByteAccess access) {
+            int hash = 0;
+            final int blockEnd = offset + (length & ~3);
+            for (int index = offset; index < blockEnd; index += 4) {
+                hash = mixBlock(hash, access.getInt(input, index));
+            }
+
+            int tail = 0;
+            switch (length & 3) {
+                case 3:
+                    tail ^= access.getByte(input, blockEnd + 2) << 16;
+                    // fall through
+                case 2:
+                    tail ^= access.getByte(input, blockEnd + 1) << 8;
+                    // fall through
+                case 1:
+                    tail ^= access.getByte(input, blockEnd);
+                    hash ^= mixKey(tail);
+                    break;
+                default:
+            }
+            return finish(hash, length);
+        }
+
+        @Override
+        public int hashInt(final int value) {
+            return finish(mixBlock(0, value), Integer.BYTES) & Integer.MAX_VALUE;
+        }
+
+        @Override
+        public int hashLong(final long value) {
+            return finish(mixBlock(mixBlock(0, (int) value), (int) (value >>> 32)), Long.BYTES) & Integer.MAX_VALUE;
+        }
+
+        @Override
+        int fold(final long hash) {
+            return (int) hash & Integer.MAX_VALUE;
+        }
+
+        private int mixKey(final int key) {
+            return Integer.rotateLeft(key * C1, 15) * C2;
+        }
+
+        private int mixBlock(final int hash, final int block) {
+            return Integer.rotateLeft(hash ^ mixKey(block), 13) * 5 + 0xE6546B64;
+        }
+
+        private int finish(final int hash, final int length) {
+            int result = hash ^ length;
+            result ^= result >>> 16;
+            result *= 0x85EBCA6B;
+            result ^= result >>> 13;
+            result *= 0xC2B2AE35;
+            result ^= result >>> 16;
+            return result;
+        }
+    },
+    XXHASH64 {
+        private static final long P1 = 0x9E3779B185EBCA87L;
+        private static final long P2 = 0xC2B2AE3D27D4EB4FL;
+        private static final long P3 = 0x165667B19E3779F9L;
+        private static final long P4 = 0x85EBCA77C2B2AE63L;
+        private static final long P5 = 0x27D4EB2F165667C5L;
+
+        @Override
+        long hash(final Object input, final int offset, final int length, final ByteAccess access) {
+            final int end = offset + length;
+            int index = offset;
+            long hash;
+            if (32 <= length) {
+                long v1 = P1 + P2;
+                long v2 = P2;
+                long v3 = 0;
+                long v4 = -P1;
+                do {
+                    v1 = round(v1, access.getLong(input, index));
+                    v2 = round(v2, access.getLong(input, index + 8));
+                    v3 = round(v3, access.getLong(input, index + 16));
+                    v4 = round(v4, access.getLong(input, index + 24));
+                    index += 32;
+                } while (index <= end - 32);
+
+                hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+                hash = mergeRound(hash, v1);
+                hash = mergeRound(hash, v2);
+                hash = mergeRound(hash, v3);
+                hash = mergeRound(hash, v4);
+            } else {
+                hash = P5;
+            }
+
+            hash += length;
+            for (; index <= end - 8; index += 8) {
+                hash = mixLong(hash, access.getLong(input, index));
+            }
+            if (index <= end - 4) {
+                hash = mixInt(hash, access.getInt(input, index));
+                index += 4;
+            }
+            for (; index < end; index++) {
+                hash = Long.rotateLeft(hash ^ access.getByte(input, index) * P5, 11) * P1;
+            }
+            return avalanche(hash);
+        }
+
+        @Override
+        public int hashInt(final int value) {
+            return fold(avalanche(mixInt(P5 + Integer.BYTES, value)));
+        }
+
+        @Override
+        public int hashLong(final long value) {
+            return fold(avalanche(mixLong(P5 + Long.BYTES, value)));
+        }
+
+        private long round(final long accumulator, final long input) {
+            return Long.rotateLeft(accumulator + input * P2, 31) * P1;
+        }
+
+        private long mergeRound(final long accumulator, final long value) {
+            return (accumulator ^ round(0, value)) * P1 + P4;
+        }
+
+        private long mixLong(final long hash, final long value) {
+            return Long.rotateLeft(hash ^ round(0, value), 27) * P1 + P4;
+        }
+
+        private long mixInt(final long hash, final int value) {
+            return Long.rotateLeft(hash ^ (value & 0xFFFFFFFFL) * P1, 23) * P2 + P3;
+        }
+
+        private long avalanche(final long hash) {
+            long result = hash;
+            result ^= result >>> 33;
+            result *= P2;
+            result ^= result >>> 29;
+            result *= P3;
+            result ^= result >>> 32;
+            return result;
+        }
+    },
+    WYHASH {
+        private static final long S0 = 0x2D358DCCAA6C78A5L;
+        private static final long S1 = 0x8BB84B93962EACC9L;
+        private static final long S2 = 0x4B33A62ED433D4A3L;
+        private static final long S3 = 0x4D5A2DA51DE1AA47L;
+        private final long initialSeed = mix(S0, S1);
+
+        @Override
+        long hash(final Object input, final int offset, final int length, final ByteAccess access) {
+            long seed = initialSeed;
+            final long a;
+            final long b;
+            if (16 >= length) {
+                if (4 <= length) {
+                    final int shift = (length >>> 3) << 2;
+                    a = readInt(input, offset, access) << 32 | readInt(input, offset + shift, access);
+                    b = readInt(input, offset + length - 4, access) << 32 | readInt(input, offset + length - 4 - shift, access);
+                } else if (0 < length) {
+                    a = (long) access.getByte(input, offset) << 16
+                            | (long) access.getByte(input, offset + (length >>> 1)) << 8
+                            | access.getByte(input, offset + length - 1);
+                    b = 0;
+                } else {
+                    a = 0;
+                    b = 0;
+                }
+            } else {
+                int index = offset;
+                int remaining = length;
+                if (48 < remaining) {
+                    long see1 = seed;
+                    long see2 = seed;
+                    do {
+                        seed = mix(access.getLong(input, index) ^ S1, access.getLong(input, index + 8) ^ seed);
+                        see1 = mix(access.getLong(input, index + 16) ^ S2, access.getLong(input, index + 24) ^ see1);
+                        see2 = mix(access.getLong(input, index + 32) ^ S3, access.getLong(input, index + 40) ^ see2);
+                        index += 48;
+                        remaining -= 48;
+                    } while (48 < remaining);
+                    seed ^= see1 ^ see2;
+                }
+                while (16 < remaining) {
+                    seed = mix(access.getLong(input, index) ^ S1, access.getLong(input, index + 8) ^ seed);
+                    index += 16;
+                    remaining -= 16;
+                }
+                a = access.getLong(input, index + remaining - 16);
+                b = access.getLong(input, index + remaining - 8);
+            }
+            return finish(a, b, seed, length);
+        }
+
+        @Override
+        public int hashInt(final int value) {
+            final long unsigned = value & 0xFFFFFFFFL;
+            final long word = unsigned << 32 | unsigned;
+            return fold(finish(word, word, initialSeed, Integer.BYTES));
+        }
+
+        @Override
+        public int hashLong(final long value) {
+            final long low = value & 0xFFFFFFFFL;
+            final long high = value >>> 32;
+            return fold(finish(low << 32 | high, high << 32 | low, initialSeed, Long.BYTES));
+        }
+
+        private long readInt(final Object input, final int index, final ByteAccess access) {
+            return access.getInt(input, index) & 0xFFFFFFFFL;
+        }
+
+        private long finish(final long a, final long b, final long seed, final int length) {
+            final long x = a ^ S1;
+            final long y = b ^ seed;
+            final long low = x * y;
+            final long high = unsignedMultiplyHigh(x, y);
+            return mix(low ^ S0 ^ length, high ^ S1);
+        }
+
+        private long mix(final long x, final long y) {
+            return x * y ^ unsignedMultiplyHigh(x, y);
+        }
+
+        private long unsignedMultiplyHigh(final long x, final long y) {
+            return Math.multiplyHigh(x, y) + (x >> 63 & y) + (y >> 63 & x);
+        }
+    };
+
+    private final ToIntFunction<byte[]> bytes = this::hash;
+    private final ToIntFunction<ByteBuffer> byteBuffers = this::hash;
+    private final ToIntFunction<CharSequence> charSequences = this::hash;
+    private final ToIntFunction<Integer> integers = this::hashInt;
+    private final ToIntFunction<Long> longs = this::hashLong;
+
+    public int hash(final byte[] bytes) {
+        return hash(bytes, 0, bytes.length);
+    }
+
+    public int hash(final byte[] bytes, final int offset, final int length) {
+        if (0 > offset || 0 > length || bytes.length - length < offset) {
+            throw new IndexOutOfBoundsException("offset " + offset + " and length " + length + " exceed " + bytes.length);
+        }
+        return fold(hash(bytes, offset, length, ByteAccess.BYTE_ARRAY));
+    }
+
+    public int hash(final ByteBuffer buffer) {
+        return fold(hash(buffer, buffer.position(), buffer.remaining(), ByteAccess.BYTE_BUFFER));
+    }
+
+    public int hash(final CharSequence chars) {
+        return fold(hash(chars, 0, 2 * chars.length(), ByteAccess.CHAR_SEQUENCE));
+    }
+
+    public abstract int hashInt(int value);
+
+    public abstract int hashLong(long value);
+
+    public ToIntFunction<byte[]> bytes() {
+        return bytes;
+    }
+
+    public ToIntFunction<ByteBuffer> byteBuffers() {
+        return byteBuffers;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T extends CharSequence> ToIntFunction<T> charSequences() {
+        return (ToIntFunction<T>) charSequences;
+    }
+
+    public ToIntFunction<Integer> integers() {
+        return integers;
+    }
+
+    public ToIntFunction<Long> longs() {
+        return longs;
+    }
+
+    abstract long hash(Object input, int offset, int length, ByteAccess access);
+
+    int fold(final long hash) {
+        return (int) (hash ^ hash >>> 32) & Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,109 @@
+package data.structures.lists.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+
+public class RendezvousHashRing<Key, Value> extends PlacementHashRing<Key, Value> {
+    public static final double DEFAULT_WEIGHT = 1.0;
+
+    private Position[] nodes;
+    private double[] weights;
+
+    public RendezvousHashRing(
+            final Set<Position> nodePositions,
+            final ToIntFunction<Key> keyToPositionCalculator
+    ) throws AtLeastOneNodeMustExist {
+        this(
+                nodePositions
+                        .stream()
+                        .collect(
+                                Collectors.toMap(
+                                        Function.identity(),
+                                        (v) -> DEFAULT_WEIGHT
+                                )
+                        ),
+                keyToPositionCalculator
+        );
+    }
+
+    public RendezvousHashRing(
+            final Map<Position, Double> weightsByPosition,
+            final ToIntFunction<Key> keyToPositionCalculator
+    ) throws AtLeastOneNodeMustExist {
+        super(weightsByPosition.keySet(), keyToPositionCalculator);
+        weightsByPosition.values().forEach(RendezvousHashRing::requirePositiveWeight);
+
+        this.nodes = weightsByPosition.keySet().toArray(new Position[0]);
+        this.weights = new double[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            weights[i] = weightsByPosition.get(nodes[i]);
+        }
+    }
+
+    public void addNode(final Position position, final double weight) {
+        requirePositiveWeight(weight);
+        if (!getNodePositions().contains(position)) {
+            nodes = Arrays.copyOf(nodes, nodes.length + 1);
+            weights = Arrays.copyOf(weights, weights.length + 1);
+            nodes[nodes.length - 1] = position;
+            weights[weights.length - 1] = weight;
+            super.addNode(position);
+        }
+    }
+
+    @Override
+    public void addNode(final Position position) {
+        addNode(position, DEFAULT_WEIGHT);
+    }
+
+    @Override
+    protected Position locate(final int keyPosition) {
+        int owner = 0;
+        double maximumScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < nodes.length; i++) {
+            final long hash = mix(((long) keyPosition << 32) ^ mix(nodes[i].getValue()));
+            final double unit = ((hash >>> 11) + 0.5) * 0x1.0p-53;
+            final double score = -weights[i] / Math.log(unit);
+            if (score > maximumScore) {
+                maximumScore = score;
+                owner = i;
+            }
+        }
+        return nodes[owner];
+    }
+
+    @Override
+    protected void placeNode(final Position position) {
+    }
+
+    @Override
+    protected Collection<Position> findNodesAffectedByRemoval(final Position position) {
+        // every other key keeps its highest-scoring node
+        return Collections.emptyList();
+    }
+
+    @Override
+    protected void displaceNode(final Position position) {
+        for (int i = 0; i < nodes.length; i++) {
+            if (nodes[i].equals(position)) {
+                nodes[i] = nodes[nodes.length - 1];
+                weights[i] = weights[weights.length - 1];
+                nodes = Arrays.copyOf(nodes, nodes.length - 1);
+                weights = Arrays.copyOf(weights, weights.length - 1);
+                return;
+            }
+        }
+    }
+
+    private static void requirePositiveWeight(final double weight) {
+        if (!(0 < weight) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException("weight must be positive and finite");
+        }
+    }
+}
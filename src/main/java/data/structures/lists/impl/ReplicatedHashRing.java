@@ -0,0 +1,286 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.ScannableHashRing;
+
+import java.util.*;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class ReplicatedHashRing<Key, Value> implements ScannableHashRing<Key, Value> {
+    public enum ReadStrategy {
+        PRIMARY_FIRST,
+        ANY
+    }
+
+    public static class Builder<Key, Value> {
+        private final Map<Position, Integer> weightsByPosition;
+        private final ToIntFunction<Key> keyToPositionCalculator;
+        private int tokensPerWeight = DEFAULT_TOKENS_PER_WEIGHT;
+        private int replicationFactor = DEFAULT_REPLICATION_FACTOR;
+        private ReadStrategy readStrategy = ReadStrategy.PRIMARY_FIRST;
+
+        private Builder(final Map<Position, Integer> weightsByPosition, final ToIntFunction<Key> keyToPositionCalculator) {
+            this.weightsByPosition = weightsByPosition;
+            this.keyToPositionCalculator = keyToPositionCalculator;
+        }
+
+        public Builder<Key, Value> tokensPerWeight(final int tokensPerWeight) {
+            if (0 >= tokensPerWeight) {
+                throw new IllegalArgumentException("tokensPerWeight must be positive");
+            }
+            this.tokensPerWeight = tokensPerWeight;
+            return this;
+        }
+
+        public Builder<Key, Value> replicationFactor(final int replicationFactor) {
+            if (0 >= replicationFactor) {
+                throw new IllegalArgumentException("replicationFactor must be positive");
+            }
+            this.replicationFactor = replicationFactor;
+            return this;
+        }
+
+        public Builder<Key, Value> readStrategy(final ReadStrategy readStrategy) {
+            this.readStrategy = readStrategy;
+            return this;
+        }
+
+        public ReplicatedHashRing<Key, Value> build() throws AtLeastOneNodeMustExist {
+            return new ReplicatedHashRing<>(this);
+        }
+    }
+
+    public static final int DEFAULT_WEIGHT = 1;
+    public static final int DEFAULT_TOKENS_PER_WEIGHT = 64;
+    public static final int DEFAULT_REPLICATION_FACTOR = 3;
+
+    public static <Key, Value> Builder<Key, Value> builder(
+            final Set<Position> nodePositions,
+            final ToIntFunction<Key> keyToPositionCalculator
+    ) {
+        return new Builder<>(
+                nodePositions
+                        .stream()
+                        .collect(
+                                Collectors.toMap(
+                                        position -> position,
+                                        (v) -> DEFAULT_WEIGHT
+                                )
+                        ),
+                keyToPositionCalculator
+        );
+    }
+
+    public static <Key, Value> Builder<Key, Value> builder(
+            final Map<Position, Integer> weightsByPosition,
+            final ToIntFunction<Key> keyToPositionCalculator
+    ) {
+        return new Builder<>(weightsByPosition, keyToPositionCalculator);
+    }
+
+    private final ToIntFunction<Key> keyToPositionCalculator;
+    private final int tokensPerWeight;
+    private final int replicationFactor;
+    private final ReadStrategy readStrategy;
+    private final Map<Position, Integer> weightsByPosition;
+    private final Map<Position, Map<Key, Value>> entriesByPosition;
+    private TokenTable tokenTable;
+    private int nextReadReplica;
+    private long lastCopiedEntries;
+    private long totalCopiedEntries;
+
+    private ReplicatedHashRing(final Builder<Key, Value> builder) throws AtLeastOneNodeMustExist {
+        if (builder.weightsByPosition.isEmpty()) {
+            throw new AtLeastOneNodeMustExist();
+        }
+        builder.weightsByPosition.values().forEach(ReplicatedHashRing::requirePositiveWeight);
+
+        this.keyToPositionCalculator = builder.keyToPositionCalculator;
+        this.tokensPerWeight = builder.tokensPerWeight;
+        this.replicationFactor = builder.replicationFactor;
+        this.readStrategy = builder.readStrategy;
+        this.weightsByPosition = new HashMap<>(builder.weightsByPosition);
+        this.entriesByPosition = new HashMap<>();
+        weightsByPosition.keySet().forEach(position -> entriesByPosition.put(position, new HashMap<>()));
+        this.tokenTable = new TokenTable(weightsByPosition, tokensPerWeight);
+    }
+
+    @Override
+    public void addNode(final Position position) {
+        addNode(position, DEFAULT_WEIGHT);
+    }
+
+    public void addNode(final Position position, final int weight) {
+        requirePositiveWeight(weight);
+        if (weightsByPosition.containsKey(position)) {
+            return;
+        }
+
+        // every key that gains the new node as a replica is already stored on the old owner of one of its tokens
+        final TokenTable previousTokenTable = tokenTable;
+        final Set<Position> affectedOwners = new HashSet<>();
+        for (int i = 0; i < tokensPerWeight * weight; i++) {
+            affectedOwners.add(previousTokenTable.getOwner(TokenTable.calculateToken(position, i)));
+        }
+
+        weightsByPosition.put(position, weight);
+        final Map<Key, Value> nodeEntries = new HashMap<>();
+        entriesByPosition.put(position, nodeEntries);
+        tokenTable = new TokenTable(weightsByPosition, tokensPerWeight);
+
+        final Map<Key, Value> affectedEntries = new HashMap<>();
+        for (final Position affectedOwner : affectedOwners) {
+            for (final Map.Entry<Key, Value> entry : entriesByPosition.get(affectedOwner).entrySet()) {
+                if (!affectedEntries.containsKey(entry.getKey()) && replicasFor(entry.getKey()).contains(position)) {
+                    affectedEntries.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        affectedEntries.forEach((key, value) -> {
+            nodeEntries.put(key, value);
+            final List<Position> replicas = replicasFor(key);
+            for (final Position previousReplica : previousTokenTable.getDistinctOwners(calculatePosition(key), replicationFactor)) {
+                if (!replicas.contains(previousReplica)) {
+                    entriesByPosition.get(previousReplica).remove(key);
+                }
+            }
+        });
+        recordCopiedEntries(affectedEntries.size());
+    }
+
+    @Override
+    public void removeNode(final Position position) throws AtLeastOneNodeMustExist {
+        final Map<Key, Value> entries = entriesByPosition.get(position);
+        if (null != entries) {
+            if (1 < entriesByPosition.size()) {
+                weightsByPosition.remove(position);
+                entriesByPosition.remove(position);
+                tokenTable = new TokenTable(weightsByPosition, tokensPerWeight);
+
+                // only keys the removed node replicated lose a copy, so only they are re-replicated
+                long copiedEntries = 0;
+                for (final Map.Entry<Key, Value> entry : entries.entrySet()) {
+                    for (final Position replica : replicasFor(entry.getKey())) {
+                        if (null == entriesByPosition.get(replica).putIfAbsent(entry.getKey(), entry.getValue())) {
+                            copiedEntries++;
+                        }
+                    }
+                }
+                recordCopiedEntries(copiedEntries);
+                return;
+            }
+
+            throw new AtLeastOneNodeMustExist();
+        }
+    }
+
+    @Override
+    public Optional<Value> addEntry(final Key key, final Value value) {
+        Value previous = null;
+        for (final Position replica : replicasFor(key)) {
+            final Value replicaPrevious = entriesByPosition.get(replica).put(key, value);
+            if (null == previous) {
+                previous = replicaPrevious;
+            }
+        }
+        return Optional.ofNullable(previous);
+    }
+
+    @Override
+    public Optional<Value> removeEntry(final Key key) {
+        Value previous = null;
+        for (final Position replica : replicasFor(key)) {
+            final Value replicaPrevious = entriesByPosition.get(replica).remove(key);
+            if (null == previous) {
+                previous = replicaPrevious;
+            }
+        }
+        return Optional.ofNullable(previous);
+    }
+
+    @Override
+    public Optional<Value> getValue(final Key key) {
+        final List<Position> replicas = replicasFor(key);
+        final int firstReplica = ReadStrategy.ANY == readStrategy
+                ? Math.floorMod(nextReadReplica++, replicas.size())
+                : 0;
+        for (int i = 0; i < replicas.size(); i++) {
+            final Value value = entriesByPosition.get(replicas.get((firstReplica + i) % replicas.size())).get(key);
+            if (null != value) {
+                return Optional.of(value);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public Stream<Map.Entry<Key, Value>> stream() {
+        // every key is stored on its primary replica, so scanning only primary copies yields each key once
+        return NodeSpliterator.stream(
+                new ArrayList<>(entriesByPosition.values()),
+                (entries, key) -> entries == entriesByPosition.get(tokenTable.getOwner(calculatePosition(key))),
+                Spliterator.DISTINCT
+        );
+    }
+
+    @Override
+    public Stream<Map.Entry<Key, Value>> entriesOf(final Position position) {
+        final Map<Key, Value> entries = entriesByPosition.get(position);
+        return null == entries ? Stream.empty() : NodeSpliterator.stream(List.of(entries));
+    }
+
+    public List<Position> replicasFor(final Key key, final int replicaCount) {
+        if (0 >= replicaCount) {
+            throw new IllegalArgumentException("replicaCount must be positive");
+        }
+        return tokenTable.getDistinctOwners(calculatePosition(key), replicaCount);
+    }
+
+    public Optional<Value> getValue(final Key key, final Position replica) {
+        final Map<Key, Value> entries = entriesByPosition.get(replica);
+        return null == entries ? Optional.empty() : Optional.ofNullable(entries.get(key));
+    }
+
+    public int getReplicationFactor() {
+        return replicationFactor;
+    }
+
+    public long getLastCopiedEntries() {
+        return lastCopiedEntries;
+    }
+
+    public long getTotalCopiedEntries() {
+        return totalCopiedEntries;
+    }
+
+    public LoadReport getLoadReport() {
+        return LoadReport.of(
+                entriesByPosition
+                        .values()
+                        .stream()
+                        .map(Map::size)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    private List<Position> replicasFor(final Key key) {
+        return tokenTable.getDistinctOwners(calculatePosition(key), replicationFactor);
+    }
+
+    private int calculatePosition(final Key key) {
+        return keyToPositionCalculator.applyAsInt(key);
+    }
+
+    private void recordCopiedEntries(final long copiedEntries) {
+        lastCopiedEntries = copiedEntries;
+        totalCopiedEntries += copiedEntries;
+    }
+
+    private static void requirePositiveWeight(final int weight) {
+        if (0 >= weight) {
+            throw new IllegalArgumentException("weight must be positive");
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing;
+import data.structures.lists.interfaces.HashRing.Position;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+public final class RingCheckpoint {
+    public static class InvalidFileFormat extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        public InvalidFileFormat(final String message) {
+            super(message);
+        }
+    }
+
+    private static final int MAGIC = 0x48524350;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 12;
+    private static final int NODE_HEADER_BYTES = 24;
+
+    private RingCheckpoint() {
+    }
+
+    public static <Key, Value> void write(
+            final SimpleHashRing<Key, Value> hashRing,
+            final Path path,
+            final Codec<Key> keyCodec,
+            final Codec<Value> valueCodec
+    ) throws IOException {
+        hashRing.completeMigration();
+
+        final int nodeCount = hashRing.getNodeCount();
+        final long[] sectionOffsets = new long[nodeCount];
+        final long[] sectionLengths = new long[nodeCount];
+        final Path temporaryPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+                temporaryPath,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+        )) {
+            final ChannelWriter writer = new ChannelWriter(channel);
+            writer.putInt(MAGIC);
+            writer.putInt(VERSION);
+            writer.putInt(nodeCount);
+            for (int i = 0; i < nodeCount; i++) {
+                writer.putInt(hashRing.getNodePosition(i));
+                writer.putInt(hashRing.getNodeEntries(i).size());
+                writer.putLong(0);
+                writer.putLong(0);
+            }
+
+            for (int i = 0; i < nodeCount; i++) {
+                sectionOffsets[i] = writer.position();
+                for (final Map.Entry<Key, Value> entry : hashRing.getNodeEntries(i).entrySet()) {
+                    writer.put(keyCodec, entry.getKey());
+                    writer.put(valueCodec, entry.getValue());
+                }
+                sectionLengths[i] = writer.position() - sectionOffsets[i];
+                if (Integer.MAX_VALUE < sectionLengths[i]) {
+                    throw new IOException("Node section exceeds 2 GiB and cannot be memory-mapped");
+                }
+            }
+            writer.flush();
+
+            final ByteBuffer sections = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < nodeCount; i++) {
+                sections.clear();
+                sections.putLong(sectionOffsets[i]).putLong(sectionLengths[i]).flip();
+                channel.write(sections, HEADER_BYTES + (long) i * NODE_HEADER_BYTES + 8);
+            }
+            channel.force(true);
+        }
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public static Set<Position> readTopology(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer header = readHeader(channel, path);
+            final Set<Position> positions = new LinkedHashSet<>();
+            for (int i = 0; i < header.getInt(8); i++) {
+                positions.add(new Position(header.getInt(HEADER_BYTES + i * NODE_HEADER_BYTES)));
+            }
+            return positions;
+        }
+    }
+
+    public static <Key, Value> SimpleHashRing<Key, Value> load(
+            final Path path,
+            final ToIntFunction<Key> keyToPositionCalculator,
+            final Codec<Key> keyCodec,
+            final Codec<Value> valueCodec
+    ) throws IOException {
+        return loadWith(path, positions -> SimpleHashRing.create(positions, keyToPositionCalculator), keyCodec, valueCodec);
+    }
+
+    public static <Key, Value> SimpleHashRing<Key, Value> loadWith(
+            final Path path,
+            final DurableHashRing.RingFactory<Key, Value> ringFactory,
+            final Codec<Key> keyCodec,
+            final Codec<Value> valueCodec
+    ) throws IOException {
+        final SimpleHashRing<Key, Value> hashRing;
+        try {
+            hashRing = ringFactory.create(readTopology(path));
+        } catch (HashRing.AtLeastOneNodeMustExist e) {
+            throw new InvalidFileFormat("Checkpoint contains no nodes: " + path);
+        }
+        loadInto(path, hashRing, keyCodec, valueCodec);
+        return hashRing;
+    }
+
+    public static <Key, Value> void loadInto(
+            final Path path,
+            final SimpleHashRing<Key, Value> hashRing,
+            final Codec<Key> keyCodec,
+            final Codec<Value> valueCodec
+    ) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer header = readHeader(channel, path);
+            final int nodeCount = header.getInt(8);
+            final int[] positions = new int[nodeCount];
+            for (int i = 0; i < nodeCount; i++) {
+                positions[i] = header.getInt(HEADER_BYTES + i * NODE_HEADER_BYTES);
+            }
+            final int[] ringPositions = new int[hashRing.getNodeCount()];
+            for (int i = 0; i < ringPositions.length; i++) {
+                ringPositions[i] = hashRing.getNodePosition(i);
+            }
+            if (!Arrays.equals(positions, ringPositions)) {
+                throw new IllegalArgumentException("hashRing topology does not match the checkpoint");
+            }
+
+            for (int i = 0; i < nodeCount; i++) {
+                final int base = HEADER_BYTES + i * NODE_HEADER_BYTES;
+                final int entryCount = header.getInt(base + 4);
+                final long offset = header.getLong(base + 8);
+                final long length = header.getLong(base + 16);
+                if (0 > entryCount || 0 > offset || 0 > length || Integer.MAX_VALUE < length || offset + length > channel.size()) {
+                    throw new InvalidFileFormat("Corrupt node section " + i + " in " + path);
+                }
+
+                final MappedByteBuffer section = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+                section.order(ByteOrder.LITTLE_ENDIAN);
+                try {
+                    if (hashRing.isBoundedLoad()) {
+                        for (int entry = 0; entry < entryCount; entry++) {
+                            hashRing.addEntry(keyCodec.decode(section), valueCodec.decode(section));
+                        }
+                    } else {
+                        final Map<Key, Value> entries = hashRing.prepareBulkLoad(i, entryCount);
+                        for (int entry = 0; entry < entryCount; entry++) {
+                            entries.put(keyCodec.decode(section), valueCodec.decode(section));
+                        }
+                    }
+                } catch (BufferUnderflowException e) {
+                    throw new InvalidFileFormat("Truncated node section " + i + " in " + path);
+                }
+            }
+        }
+    }
+
+    private static ByteBuffer readHeader(final FileChannel channel, final Path path) throws IOException {
+        if (HEADER_BYTES > channel.size()) {
+            throw new InvalidFileFormat("File is too small to contain a header: " + path);
+        }
+
+        final ByteBuffer prefix = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        if (MAGIC != prefix.getInt(0)) {
+            throw new InvalidFileFormat("Unexpected magic number in " + path);
+        }
+        if (VERSION != prefix.getInt(4)) {
+            throw new InvalidFileFormat("Unsupported version " + prefix.getInt(4) + " in " + path);
+        }
+
+        final int nodeCount = prefix.getInt(8);
+        final long headerBytes = HEADER_BYTES + (long) nodeCount * NODE_HEADER_BYTES;
+        if (0 > nodeCount || headerBytes > channel.size()) {
+            throw new InvalidFileFormat("File is truncated: " + path);
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, headerBytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
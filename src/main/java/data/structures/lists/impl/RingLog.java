@@ -0,0 +1,293 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing;
+import data.structures.lists.interfaces.HashRing.Position;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+public class RingLog<Key, Value> implements Closeable {
+    private static final byte ADD_ENTRY = 1;
+    private static final byte REMOVE_ENTRY = 2;
+    private static final byte ADD_NODE = 3;
+    private static final byte REMOVE_NODE = 4;
+    private static final int FRAME_BYTES = 2 * Integer.BYTES;
+    private static final int READ_BUFFER_BYTES = 1 << 20;
+
+    public static <Key, Value> RingLog<Key, Value> open(
+            final Path path,
+            final Codec<Key> keyCodec,
+            final Codec<Value> valueCodec,
+            final int syncBatchSize
+    ) throws IOException {
+        if (0 >= syncBatchSize) {
+            throw new IllegalArgumentException("syncBatchSize must be positive");
+        }
+
+        final FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        );
+        try {
+            final long validBytes = scan(channel, null, keyCodec, valueCodec);
+            channel.truncate(validBytes);
+            channel.position(validBytes);
+            return new RingLog<>(channel, keyCodec, valueCodec, syncBatchSize);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public static <Key, Value> long replay(
+            final Path path,
+            final HashRing<Key, Value> hashRing,
+            final Codec<Key> keyCodec,
+            final Codec<Value> valueCodec
+    ) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long[] replayedRecords = new long[1];
+            scan(
+                    channel,
+                    record -> {
+                        apply(record, hashRing, keyCodec, valueCodec);
+                        replayedRecords[0]++;
+                    },
+                    keyCodec,
+                    valueCodec
+            );
+            return replayedRecords[0];
+        }
+    }
+
+    private interface RecordConsumer {
+        void accept(ByteBuffer record) throws IOException;
+    }
+
+    private final FileChannel channel;
+    private final ChannelWriter writer;
+    private final Codec<Key> keyCodec;
+    private final Codec<Value> valueCodec;
+    private final int syncBatchSize;
+    private final CRC32 checksum;
+    private int unsyncedRecords;
+    private long syncCount;
+    private int recordStart;
+
+    private RingLog(
+            final FileChannel channel,
+            final Codec<Key> keyCodec,
+            final Codec<Value> valueCodec,
+            final int syncBatchSize
+    ) {
+        this.channel = channel;
+        this.writer = new ChannelWriter(channel);
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.syncBatchSize = syncBatchSize;
+        this.checksum = new CRC32();
+    }
+
+    public void appendAddEntry(final Key key, final Value value) throws IOException {
+        final int payloadBytes = 1 + keyCodec.encodedSize(key) + valueCodec.encodedSize(value);
+        final ByteBuffer record = startRecord(payloadBytes);
+        record.put(ADD_ENTRY);
+        keyCodec.encode(key, record);
+        valueCodec.encode(value, record);
+        finishRecord(record, payloadBytes);
+    }
+
+    public void appendRemoveEntry(final Key key) throws IOException {
+        final int payloadBytes = 1 + keyCodec.encodedSize(key);
+        final ByteBuffer record = startRecord(payloadBytes);
+        record.put(REMOVE_ENTRY);
+        keyCodec.encode(key, record);
+        finishRecord(record, payloadBytes);
+    }
+
+    public void appendAddNode(final Position position) throws IOException {
+        appendNodeChange(ADD_NODE, position);
+    }
+
+    public void appendRemoveNode(final Position position) throws IOException {
+        appendNodeChange(REMOVE_NODE, position);
+    }
+
+    public void sync() throws IOException {
+        writer.flush();
+        if (0 < unsyncedRecords) {
+            channel.force(false);
+            unsyncedRecords = 0;
+            syncCount++;
+        }
+    }
+
+    public void truncate() throws IOException {
+        writer.flush();
+        channel.truncate(0);
+        channel.position(0);
+        channel.force(true);
+        unsyncedRecords = 0;
+    }
+
+    public long size() throws IOException {
+        return writer.position();
+    }
+
+    public long getSyncCount() {
+        return syncCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void appendNodeChange(final byte type, final Position position) throws IOException {
+        final int payloadBytes = 1 + Integer.BYTES;
+        final ByteBuffer record = startRecord(payloadBytes);
+        record.put(type);
+        record.putInt(position.getValue());
+        finishRecord(record, payloadBytes);
+    }
+
+    private ByteBuffer startRecord(final int payloadBytes) throws IOException {
+        final ByteBuffer record = writer.reserve(FRAME_BYTES + payloadBytes);
+        recordStart = record.position();
+        record.putInt(payloadBytes);
+        record.putInt(0);
+        return record;
+    }
+
+    private void finishRecord(final ByteBuffer record, final int payloadBytes) throws IOException {
+        final int writtenBytes = record.position() - recordStart - FRAME_BYTES;
+        if (writtenBytes != payloadBytes) {
+            record.position(recordStart);
+            throw new IllegalStateException("Codec wrote " + writtenBytes + " bytes but declared " + payloadBytes);
+        }
+        final int payloadStart = recordStart + FRAME_BYTES;
+        final ByteBuffer payload = record.duplicate();
+        payload.position(payloadStart).limit(record.position());
+        checksum.reset();
+        checksum.update(payload);
+        record.putInt(payloadStart - Integer.BYTES, (int) checksum.getValue());
+        writer.commit(record);
+
+        if (++unsyncedRecords >= syncBatchSize) {
+            sync();
+        }
+    }
+
+    private static <Key, Value> void apply(
+            final ByteBuffer record,
+            final HashRing<Key, Value> hashRing,
+            final Codec<Key> keyCodec,
+            final Codec<Value> valueCodec
+    ) throws IOException {
+        final byte type = record.get();
+        switch (type) {
+            case ADD_ENTRY:
+                hashRing.addEntry(keyCodec.decode(record), valueCodec.decode(record));
+                break;
+            case REMOVE_ENTRY:
+                hashRing.removeEntry(keyCodec.decode(record));
+                break;
+            case ADD_NODE:
+                hashRing.addNode(new Position(record.getInt()));
+                break;
+            case REMOVE_NODE:
+                try {
+                    hashRing.removeNode(new Position(record.getInt()));
+                } catch (HashRing.AtLeastOneNodeMustExist e) {
+                    throw new IOException("Log removes the last node", e);
+                }
+                break;
+            default:
+                throw new IOException("Unknown log record type " + type);
+        }
+    }
+
+    private static <Key, Value> long scan(
+            final FileChannel channel,
+            final RecordConsumer consumer,
+            final Codec<Key> keyCodec,
+            final Codec<Value> valueCodec
+    ) throws IOException {
+        final CRC32 checksum = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        long validBytes = 0;
+        long readPosition = 0;
+        buffer.limit(0);
+        while (true) {
+            if (FRAME_BYTES > buffer.remaining()) {
+                buffer.compact();
+                readPosition += fill(channel, buffer, readPosition);
+                buffer.flip();
+                if (FRAME_BYTES > buffer.remaining()) {
+                    return validBytes;
+                }
+            }
+
+            final int payloadBytes = buffer.getInt(buffer.position());
+            final int expectedChecksum = buffer.getInt(buffer.position() + Integer.BYTES);
+            if (0 >= payloadBytes || channel.size() - validBytes - FRAME_BYTES < payloadBytes) {
+                return validBytes;
+            }
+            if (buffer.remaining() < FRAME_BYTES + payloadBytes) {
+                if (buffer.capacity() < FRAME_BYTES + payloadBytes) {
+                    final ByteBuffer larger = ByteBuffer.allocate(FRAME_BYTES + payloadBytes).order(ByteOrder.LITTLE_ENDIAN);
+                    larger.put(buffer);
+                    buffer = larger;
+                } else {
+                    buffer.compact();
+                }
+                readPosition += fill(channel, buffer, readPosition);
+                buffer.flip();
+                if (buffer.remaining() < FRAME_BYTES + payloadBytes) {
+                    return validBytes;
+                }
+            }
+
+            final ByteBuffer payload = buffer.slice().order(ByteOrder.LITTLE_ENDIAN);
+            payload.position(FRAME_BYTES).limit(FRAME_BYTES + payloadBytes);
+            checksum.reset();
+            checksum.update(payload.duplicate());
+            if (expectedChecksum != (int) checksum.getValue()) {
+                return validBytes;
+            }
+            if (null != consumer) {
+                consumer.accept(payload);
+            }
+            buffer.position(buffer.position() + FRAME_BYTES + payloadBytes);
+            validBytes += FRAME_BYTES + payloadBytes;
+        }
+    }
+
+    private static int fill(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+        int read = 0;
+        while (buffer.hasRemaining()) {
+            final int bytes = channel.read(buffer, position + read);
+            if (0 > bytes) {
+                break;
+            }
+            read += bytes;
+        }
+        return read;
+    }
+}
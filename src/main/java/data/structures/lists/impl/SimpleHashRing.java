@@ -1,72 +1,246 @@
 package data.structures.lists.impl;
 
-import data.structures.lists.interfaces.HashRing;
+import data.structures.lists.interfaces.ScannableHashRing;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
-public class SimpleHashRing<Key, Value> implements HashRing<Key, Value> {
-    private final List<Position> nodePositions;
-    private final Map<Position, Map<Key, Value>> entriesByPosition;
-    private final Function<Key, Position> keyToPositionCalculator;
+public class SimpleHashRing<Key, Value> implements ScannableHashRing<Key, Value> {
+    public enum MigrationMode {
+        EAGER,
+        INCREMENTAL
+    }
+
+    public static class Builder<Key, Value> {
+        private final Set<Position> nodePositions;
+        private final ToIntFunction<Key> keyToPositionCalculator;
+        private MigrationMode migrationMode = MigrationMode.EAGER;
+        private int migrationBatchSize = DEFAULT_MIGRATION_BATCH_SIZE;
+        private boolean boundedLoad;
+        private double loadEpsilon;
+        private Supplier<? extends Map<Key, Value>> nodeStoreFactory;
+
+        private Builder(final Set<Position> nodePositions, final ToIntFunction<Key> keyToPositionCalculator) {
+            this.nodePositions = nodePositions;
+            this.keyToPositionCalculator = keyToPositionCalculator;
+        }
+
+        public Builder<Key, Value> migrationMode(final MigrationMode migrationMode) {
+            this.migrationMode = migrationMode;
+            return this;
+        }
+
+        public Builder<Key, Value> migrationBatchSize(final int migrationBatchSize) {
+            if (0 >= migrationBatchSize) {
+                throw new IllegalArgumentException("migrationBatchSize must be positive");
+            }
+            this.migrationBatchSize = migrationBatchSize;
+            return this;
+        }
+
+        public Builder<Key, Value> boundedLoad(final double loadEpsilon) {
+            if (!(0 < loadEpsilon) || Double.isInfinite(loadEpsilon)) {
+                throw new IllegalArgumentException("loadEpsilon must be positive and finite");
+            }
+            this.boundedLoad = true;
+            this.loadEpsilon = loadEpsilon;
+            return this;
+        }
+
+        public Builder<Key, Value> nodeStore(final Supplier<? extends Map<Key, Value>> nodeStoreFactory) {
+            this.nodeStoreFactory = nodeStoreFactory;
+            return this;
+        }
+
+        public SimpleHashRing<Key, Value> build() throws AtLeastOneNodeMustExist {
+            if (boundedLoad && MigrationMode.INCREMENTAL == migrationMode) {
+                throw new IllegalArgumentException("bounded load requires eager migration");
+            }
+            if (boundedLoad && null != nodeStoreFactory) {
+                throw new IllegalArgumentException("bounded load requires the default node store");
+            }
+            if (MigrationMode.INCREMENTAL == migrationMode && null != nodeStoreFactory) {
+                // fallback reads during a migration would expire, reorder or count hits on a custom store's entries
+                throw new IllegalArgumentException("incremental migration requires the default node store");
+            }
+            return new SimpleHashRing<>(this);
+        }
+    }
+
+    private static class Migration<Key, Value> {
+        private final Map<Key, Value> legacyEntries;
+        private final Iterator<Map.Entry<Key, Value>> cursor;
+        private final Map<Key, Value> firstTarget;
+        private final Map<Key, Value> secondTarget;
+        private final Set<Key> supersededKeys;
+
+        private Migration(
+                final Map<Key, Value> legacyEntries,
+                final Map<Key, Value> firstTarget,
+                final Map<Key, Value> secondTarget
+        ) {
+            this.legacyEntries = legacyEntries;
+            this.cursor = legacyEntries.entrySet().iterator();
+            this.firstTarget = firstTarget;
+            this.secondTarget = secondTarget;
+            this.supersededKeys = new HashSet<>();
+        }
+
+        private boolean isTarget(final Map<Key, Value> entries) {
+            return entries == firstTarget || entries == secondTarget;
+        }
+
+        private Value getFallback(final Map<Key, Value> entries, final Key key) {
+            if (!isTarget(entries) || supersededKeys.contains(key)) {
+                return null;
+            }
+            return legacyEntries.get(key);
+        }
+
+        private Value supersedeFallback(final Map<Key, Value> entries, final Key key) {
+            if (!isTarget(entries) || !legacyEntries.containsKey(key) || !supersededKeys.add(key)) {
+                return null;
+            }
+            return legacyEntries.get(key);
+        }
+    }
+
+    public static final int DEFAULT_MIGRATION_BATCH_SIZE = 1_024;
+
+    public static <Key, Value> SimpleHashRing<Key, Value> create(
+            final Set<Position> nodePositions,
+            final ToIntFunction<Key> keyToPositionCalculator
+    ) throws AtLeastOneNodeMustExist {
+        return SimpleHashRing.<Key, Value>builder(nodePositions, keyToPositionCalculator).build();
+    }
+
+    public static <Key, Value> Builder<Key, Value> builder(
+            final Set<Position> nodePositions,
+            final ToIntFunction<Key> keyToPositionCalculator
+    ) {
+        return new Builder<>(nodePositions, keyToPositionCalculator);
+    }
+
+    private int[] nodePositions;
+    private Map<Key, Value>[] nodeEntries;
+    private int nodeCount;
+    private final ToIntFunction<Key> keyToPositionCalculator;
+    private final MigrationMode migrationMode;
+    private final int migrationBatchSize;
+    private final boolean boundedLoad;
+    private final double loadEpsilon;
+    private final Supplier<? extends Map<Key, Value>> nodeStoreFactory;
+    private final boolean defaultNodeStore;
+    private int[] spilledKeyCounts;
+    private int entryCount;
+    private Migration<Key, Value> migration;
+    private long movedEntries;
+    private long completedMigrations;
+    private long lastPauseNanos;
+    private long maximumPauseNanos;
+    private long totalPauseNanos;
 
     public SimpleHashRing(final Set<Position> nodePositions, final Function<Key, Position> keyToPositionCalculator) throws AtLeastOneNodeMustExist {
-        if (nodePositions.isEmpty()) {
+        this(new Builder<>(nodePositions, key -> keyToPositionCalculator.apply(key).getValue()));
+    }
+
+    private SimpleHashRing(final Builder<Key, Value> builder) throws AtLeastOneNodeMustExist {
+        if (builder.nodePositions.isEmpty()) {
             throw new AtLeastOneNodeMustExist();
         }
 
-        this.nodePositions = nodePositions
+        this.nodePositions = builder.nodePositions
                 .stream()
-                .sorted(Comparator.comparingInt(Position::getValue))
-                .collect(Collectors.toList());
-        this.entriesByPosition = nodePositions
-                .stream()
-                .collect(
-                        Collectors.toMap(
-                                Function.identity(),
-                                (v) -> new HashMap<>()
-                        )
-                );
-        this.keyToPositionCalculator = keyToPositionCalculator;
+                .mapToInt(Position::getValue)
+                .sorted()
+                .toArray();
+        this.defaultNodeStore = null == builder.nodeStoreFactory;
+        this.nodeStoreFactory = defaultNodeStore ? HashMap::new : builder.nodeStoreFactory;
+        this.nodeEntries = createNodeEntries(this.nodePositions.length);
+        for (int i = 0; i < this.nodePositions.length; i++) {
+            this.nodeEntries[i] = nodeStoreFactory.get();
+        }
+        this.nodeCount = this.nodePositions.length;
+        this.keyToPositionCalculator = builder.keyToPositionCalculator;
+        this.migrationMode = builder.migrationMode;
+        this.migrationBatchSize = builder.migrationBatchSize;
+        this.boundedLoad = builder.boundedLoad;
+        this.loadEpsilon = builder.loadEpsilon;
+        this.spilledKeyCounts = new int[this.nodePositions.length];
     }
 
     @Override
     public void addNode(final Position position) {
-        final Map<Key, Value> positionEntries = entriesByPosition.putIfAbsent(position, new HashMap<>());
-        if (null == positionEntries) {
-            final int followingNodePosition = Math.abs(Collections.binarySearch(nodePositions, position) + 1);
-            final int currentNodeIndex = Math.max(followingNodePosition, 0);
-            nodePositions.add(currentNodeIndex, position);
-
-            final Map<Key, Value> followingNodeEntries = entriesByPosition.get(nodePositions.get(followingNodePosition));
-            final Map<Key, Value> currentNodeEntries = followingNodeEntries
-                    .entrySet()
-                    .stream()
-                    .filter(
-                            e -> 0 > this.keyToPositionCalculator.apply(e.getKey()).compareTo(position)
-                    )
-                    .collect(
-                            Collectors.toMap(
-                                    Map.Entry::getKey,
-                                    Map.Entry::getValue
-                            )
-                    );
-            entriesByPosition.put(position, currentNodeEntries);
-            followingNodeEntries.keySet().removeAll(currentNodeEntries.keySet());
+        final int searchedIndex = Arrays.binarySearch(nodePositions, 0, nodeCount, position.getValue());
+        if (0 > searchedIndex) {
+            completeMigration();
+
+            final long start = System.nanoTime();
+            final int currentNodeIndex = -(searchedIndex + 1);
+            if (nodeCount == nodePositions.length) {
+                nodePositions = Arrays.copyOf(nodePositions, 2 * nodeCount);
+                nodeEntries = Arrays.copyOf(nodeEntries, 2 * nodeCount);
+            }
+            System.arraycopy(nodePositions, currentNodeIndex, nodePositions, currentNodeIndex + 1, nodeCount - currentNodeIndex);
+            System.arraycopy(nodeEntries, currentNodeIndex, nodeEntries, currentNodeIndex + 1, nodeCount - currentNodeIndex);
+            nodeCount++;
+
+            final Map<Key, Value> currentNodeEntries = nodeStoreFactory.get();
+            nodePositions[currentNodeIndex] = position.getValue();
+            nodeEntries[currentNodeIndex] = currentNodeEntries;
+
+            final int followingNodeIndex = (currentNodeIndex + 1) % nodeCount;
+            final Map<Key, Value> followingNodeEntries = nodeEntries[followingNodeIndex];
+            if (boundedLoad) {
+                rebalanceBoundedLoad(Collections.emptyMap());
+            } else if (MigrationMode.INCREMENTAL == migrationMode) {
+                nodeEntries[followingNodeIndex] = nodeStoreFactory.get();
+                migration = new Migration<>(followingNodeEntries, currentNodeEntries, nodeEntries[followingNodeIndex]);
+            } else {
+                final Iterator<Map.Entry<Key, Value>> entries = followingNodeEntries.entrySet().iterator();
+                while (entries.hasNext()) {
+                    final Map.Entry<Key, Value> entry = entries.next();
+                    if (currentNodeIndex == calculateNodeIndexForKey(entry.getKey())) {
+                        currentNodeEntries.put(entry.getKey(), entry.getValue());
+                        entries.remove();
+                        movedEntries++;
+                    }
+                }
+                completedMigrations++;
+            }
+            recordPause(start);
         }
     }
 
     @Override
     public void removeNode(final Position position) throws AtLeastOneNodeMustExist {
-        final Map<Key, Value> entries = entriesByPosition.get(position);
-        if (null != entries) {
-            if (1 < entriesByPosition.size()) {
-                final int currentNodeIndex = Collections.binarySearch(nodePositions, position);
-                final int followingNodeIndex = (currentNodeIndex + 1) % nodePositions.size();
-                this.entriesByPosition.get(this.nodePositions.get(followingNodeIndex)).putAll(entries);
-                entriesByPosition.remove(position);
-                nodePositions.remove(currentNodeIndex);
+        final int currentNodeIndex = Arrays.binarySearch(nodePositions, 0, nodeCount, position.getValue());
+        if (0 <= currentNodeIndex) {
+            if (1 < nodeCount) {
+                completeMigration();
+
+                final long start = System.nanoTime();
+                final Map<Key, Value> entries = nodeEntries[currentNodeIndex];
+                final Map<Key, Value> followingNodeEntries = nodeEntries[(currentNodeIndex + 1) % nodeCount];
+                if (MigrationMode.INCREMENTAL == migrationMode) {
+                    migration = new Migration<>(entries, followingNodeEntries, followingNodeEntries);
+                } else if (!boundedLoad) {
+                    followingNodeEntries.putAll(entries);
+                    movedEntries += entries.size();
+                    completedMigrations++;
+                }
+                System.arraycopy(nodePositions, currentNodeIndex + 1, nodePositions, currentNodeIndex, nodeCount - currentNodeIndex - 1);
+                System.arraycopy(nodeEntries, currentNodeIndex + 1, nodeEntries, currentNodeIndex, nodeCount - currentNodeIndex - 1);
+                nodeCount--;
+                nodeEntries[nodeCount] = null;
+                if (boundedLoad) {
+                    rebalanceBoundedLoad(entries);
+                }
+                recordPause(start);
                 return;
             }
 
@@ -74,41 +248,639 @@ public class SimpleHashRing<Key, Value> implements HashRing<Key, Value> {
         }
     }
 
+    public void addNodes(final Set<Position> positions) {
+        final int[] addedPositions = findAbsentPositions(positions);
+        if (0 == addedPositions.length) {
+            return;
+        }
+        completeMigration();
+
+        final long start = System.nanoTime();
+        final int previousNodeCount = nodeCount;
+        final int[] previousPositions = Arrays.copyOf(nodePositions, nodeCount);
+        final Map<Key, Value>[] previousEntries = Arrays.copyOf(nodeEntries, nodeCount);
+        final boolean[] affectedNodes = findSuccessors(previousPositions, previousNodeCount, addedPositions);
+
+        nodePositions = mergePositions(previousPositions, addedPositions);
+        nodeCount = nodePositions.length;
+        nodeEntries = createNodeEntries(nodeCount);
+        for (int i = 0, previous = 0; i < nodeCount; i++) {
+            if (previous < previousNodeCount && previousPositions[previous] == nodePositions[i]) {
+                nodeEntries[i] = previousEntries[previous++];
+            } else {
+                nodeEntries[i] = nodeStoreFactory.get();
+            }
+        }
+
+        if (boundedLoad) {
+            rebalanceBoundedLoad(Collections.emptyMap());
+        } else {
+            // only the old successor of an added position can lose keys, and each key moves straight to its final owner
+            for (int i = 0; i < previousNodeCount; i++) {
+                if (affectedNodes[i]) {
+                    final Iterator<Map.Entry<Key, Value>> entries = previousEntries[i].entrySet().iterator();
+                    while (entries.hasNext()) {
+                        final Map.Entry<Key, Value> entry = entries.next();
+                        final Map<Key, Value> ownerEntries = getEntriesForKey(entry.getKey());
+                        if (ownerEntries != previousEntries[i]) {
+                            ownerEntries.put(entry.getKey(), entry.getValue());
+                            entries.remove();
+                            movedEntries++;
+                        }
+                    }
+                }
+            }
+            completedMigrations++;
+        }
+        recordPause(start);
+    }
+
+    public void removeNodes(final Set<Position> positions) throws AtLeastOneNodeMustExist {
+        final boolean[] removedNodes = findPresentNodes(positions);
+        final int removedCount = countSet(removedNodes);
+        if (0 == removedCount) {
+            return;
+        }
+        if (removedCount == nodeCount) {
+            throw new AtLeastOneNodeMustExist();
+        }
+        completeMigration();
+
+        final long start = System.nanoTime();
+        final int previousNodeCount = nodeCount;
+        final int[] previousPositions = Arrays.copyOf(nodePositions, nodeCount);
+        final Map<Key, Value>[] previousEntries = Arrays.copyOf(nodeEntries, nodeCount);
+        nodeCount = 0;
+        for (int i = 0; i < previousNodeCount; i++) {
+            if (!removedNodes[i]) {
+                nodePositions[nodeCount] = previousPositions[i];
+                nodeEntries[nodeCount] = previousEntries[i];
+                nodeCount++;
+            }
+        }
+        Arrays.fill(nodeEntries, nodeCount, previousNodeCount, null);
+
+        if (boundedLoad) {
+            final Map<Key, Value> displacedEntries = new HashMap<>();
+            for (int i = 0; i < previousNodeCount; i++) {
+                if (removedNodes[i]) {
+                    displacedEntries.putAll(previousEntries[i]);
+                }
+            }
+            rebalanceBoundedLoad(displacedEntries);
+        } else {
+            // runs of removed nodes hand their entries directly to the first surviving successor
+            for (int i = 0; i < previousNodeCount; i++) {
+                if (removedNodes[i]) {
+                    nodeEntries[TokenSearch.findOwnerIndex(nodePositions, nodeCount, previousPositions[i])].putAll(previousEntries[i]);
+                    movedEntries += previousEntries[i].size();
+                }
+            }
+            completedMigrations++;
+        }
+        recordPause(start);
+    }
+
+    public MigrationPlan planAddNodes(final Set<Position> positions) {
+        requirePlannableState();
+
+        final int[] addedPositions = findAbsentPositions(positions);
+        final int[] mergedPositions = mergePositions(Arrays.copyOf(nodePositions, nodeCount), addedPositions);
+        final boolean[] affectedNodes = findSuccessors(nodePositions, nodeCount, addedPositions);
+        final int[] incomingEntries = new int[mergedPositions.length];
+        for (int i = 0; i < nodeCount; i++) {
+            if (affectedNodes[i]) {
+                for (final Key key : nodeEntries[i].keySet()) {
+                    final int ownerIndex = TokenSearch.findOwnerIndex(
+                            mergedPositions,
+                            mergedPositions.length,
+                            keyToPositionCalculator.applyAsInt(key)
+                    );
+                    if (mergedPositions[ownerIndex] != nodePositions[i]) {
+                        incomingEntries[ownerIndex]++;
+                    }
+                }
+            }
+        }
+
+        final List<MigrationPlan.Transfer> transfers = new ArrayList<>(addedPositions.length);
+        for (int i = 0; i < mergedPositions.length; i++) {
+            if (0 <= Arrays.binarySearch(addedPositions, mergedPositions[i])) {
+                transfers.add(
+                        new MigrationPlan.Transfer(
+                                mergedPositions[(i + mergedPositions.length - 1) % mergedPositions.length],
+                                mergedPositions[i],
+                                new Position(nodePositions[TokenSearch.findOwnerIndex(nodePositions, nodeCount, mergedPositions[i])]),
+                                new Position(mergedPositions[i]),
+                                incomingEntries[i]
+                        )
+                );
+            }
+        }
+        return new MigrationPlan(nodeCount, mergedPositions.length, transfers);
+    }
+
+    public MigrationPlan planRemoveNodes(final Set<Position> positions) throws AtLeastOneNodeMustExist {
+        requirePlannableState();
+
+        final boolean[] removedNodes = findPresentNodes(positions);
+        final int removedCount = countSet(removedNodes);
+        if (0 < removedCount && removedCount == nodeCount) {
+            throw new AtLeastOneNodeMustExist();
+        }
+
+        final int[] survivingPositions = new int[nodeCount - removedCount];
+        for (int i = 0, surviving = 0; i < nodeCount; i++) {
+            if (!removedNodes[i]) {
+                survivingPositions[surviving++] = nodePositions[i];
+            }
+        }
+
+        final List<MigrationPlan.Transfer> transfers = new ArrayList<>(removedCount);
+        for (int i = 0; i < nodeCount; i++) {
+            if (removedNodes[i]) {
+                transfers.add(
+                        new MigrationPlan.Transfer(
+                                nodePositions[(i + nodeCount - 1) % nodeCount],
+                                nodePositions[i],
+                                new Position(nodePositions[i]),
+                                new Position(survivingPositions[TokenSearch.findOwnerIndex(survivingPositions, survivingPositions.length, nodePositions[i])]),
+                                nodeEntries[i].size()
+                        )
+                );
+            }
+        }
+        return new MigrationPlan(nodeCount, survivingPositions.length, transfers);
+    }
 
     @Override
     public Optional<Value> addEntry(final Key key, final Value value) {
-        return getEntriesForKey(key).map(entries -> entries.put(key, value));
+        if (boundedLoad) {
+            return Optional.ofNullable(putBoundedEntry(key, value));
+        }
+
+        final Map<Key, Value> entries = getEntriesForKey(key);
+        Value previous = entries.put(key, value);
+        if (null != migration) {
+            final Value fallback = migration.supersedeFallback(entries, key);
+            if (null == previous) {
+                previous = fallback;
+            }
+            migrateStep();
+        }
+        return Optional.ofNullable(previous);
     }
 
     @Override
     public Optional<Value> removeEntry(final Key key) {
-        return getEntriesForKey(key).map(entries -> entries.remove(key));
+        if (boundedLoad) {
+            return Optional.ofNullable(removeBoundedEntry(key));
+        }
+
+        final Map<Key, Value> entries = getEntriesForKey(key);
+        Value previous = entries.remove(key);
+        if (null != migration) {
+            final Value fallback = migration.supersedeFallback(entries, key);
+            if (null == previous) {
+                previous = fallback;
+            }
+            migrateStep();
+        }
+        return Optional.ofNullable(previous);
     }
 
     @Override
     public Optional<Value> getValue(final Key key) {
-        return getEntriesForKey(key).map(entries -> entries.get(key));
+        return Optional.ofNullable(get(key));
+    }
+
+    public Value get(final Key key) {
+        if (boundedLoad) {
+            final int nodeIndex = findBoundedNodeIndex(key);
+            return 0 > nodeIndex ? null : nodeEntries[nodeIndex].get(key);
+        }
+
+        final Map<Key, Value> entries = getEntriesForKey(key);
+        Value value = entries.get(key);
+        if (null != migration) {
+            if (null == value) {
+                value = migration.getFallback(entries, key);
+            }
+            // read-heavy workloads would otherwise leave the fallback lookups in place indefinitely
+            migrateStep();
+        }
+        return value;
+    }
+
+    @Override
+    public Stream<Map.Entry<Key, Value>> stream() {
+        final Stream<Map.Entry<Key, Value>> entries = NodeSpliterator.stream(Arrays.asList(Arrays.copyOf(nodeEntries, nodeCount)));
+        return null == migration ? entries : Stream.concat(entries, pendingEntries(null));
+    }
+
+    @Override
+    public Stream<Map.Entry<Key, Value>> entriesOf(final Position position) {
+        final int nodeIndex = Arrays.binarySearch(nodePositions, 0, nodeCount, position.getValue());
+        if (0 > nodeIndex) {
+            return Stream.empty();
+        }
+
+        final Map<Key, Value> ownerEntries = nodeEntries[nodeIndex];
+        final Stream<Map.Entry<Key, Value>> entries = NodeSpliterator.stream(List.of(ownerEntries));
+        return null == migration || !migration.isTarget(ownerEntries)
+                ? entries
+                : Stream.concat(entries, pendingEntries(ownerEntries));
+    }
+
+    @Override
+    public Map<Key, Value> getAll(final Collection<? extends Key> keys) {
+        return getAll(keys, null);
+    }
+
+    public Map<Key, Value> getAll(final Collection<? extends Key> keys, final ForkJoinPool pool) {
+        if (boundedLoad || null != migration) {
+            return ScannableHashRing.super.getAll(keys);
+        }
+
+        final Object[] batchKeys = keys.toArray();
+        final Object[] values = new Object[batchKeys.length];
+        final OwnerBatches batches = groupByOwner(batchKeys);
+        batches.forEachBatch(
+                batch -> {
+                    final Map<Key, Value> entries = nodeEntries[batches.getOwner(batch)];
+                    for (int i = batches.getStart(batch); i < batches.getEnd(batch); i++) {
+                        final int keyIndex = batches.getKeyIndex(i);
+                        values[keyIndex] = entries.get(batchKeys[keyIndex]);
+                    }
+                },
+                pool
+        );
+        return collectPresentValues(batchKeys, values);
+    }
+
+    @Override
+    public Map<Key, Value> putAll(final Map<? extends Key, ? extends Value> entries) {
+        return putAll(entries, null);
+    }
+
+    public Map<Key, Value> putAll(final Map<? extends Key, ? extends Value> entries, final ForkJoinPool pool) {
+        if (boundedLoad || null != migration) {
+            return ScannableHashRing.super.putAll(entries);
+        }
+
+        final Object[] batchKeys = new Object[entries.size()];
+        final Object[] values = new Object[entries.size()];
+        int index = 0;
+        for (final Map.Entry<? extends Key, ? extends Value> entry : entries.entrySet()) {
+            batchKeys[index] = entry.getKey();
+            values[index] = entry.getValue();
+            index++;
+        }
+
+        final OwnerBatches batches = groupByOwner(batchKeys);
+        batches.forEachBatch(
+                batch -> {
+                    final Map<Key, Value> ownerEntries = nodeEntries[batches.getOwner(batch)];
+                    for (int i = batches.getStart(batch); i < batches.getEnd(batch); i++) {
+                        final int keyIndex = batches.getKeyIndex(i);
+                        values[keyIndex] = ownerEntries.put(castKey(batchKeys[keyIndex]), castValue(values[keyIndex]));
+                    }
+                },
+                pool
+        );
+        return collectPresentValues(batchKeys, values);
+    }
+
+    @Override
+    public Map<Key, Value> removeAll(final Collection<? extends Key> keys) {
+        return removeAll(keys, null);
+    }
+
+    public Map<Key, Value> removeAll(final Collection<? extends Key> keys, final ForkJoinPool pool) {
+        if (boundedLoad || null != migration) {
+            return ScannableHashRing.super.removeAll(keys);
+        }
+
+        final Object[] batchKeys = keys.toArray();
+        final Object[] values = new Object[batchKeys.length];
+        final OwnerBatches batches = groupByOwner(batchKeys);
+        batches.forEachBatch(
+                batch -> {
+                    final Map<Key, Value> entries = nodeEntries[batches.getOwner(batch)];
+                    for (int i = batches.getStart(batch); i < batches.getEnd(batch); i++) {
+                        final int keyIndex = batches.getKeyIndex(i);
+                        values[keyIndex] = entries.remove(batchKeys[keyIndex]);
+                    }
+                },
+                pool
+        );
+        return collectPresentValues(batchKeys, values);
+    }
+
+    public boolean migrateStep() {
+        if (null == migration) {
+            return false;
+        }
+
+        final long start = System.nanoTime();
+        final Migration<Key, Value> current = migration;
+        for (int i = 0; i < migrationBatchSize && current.cursor.hasNext(); i++) {
+            final Map.Entry<Key, Value> entry = current.cursor.next();
+            current.cursor.remove();
+            if (!current.supersededKeys.remove(entry.getKey())) {
+                getEntriesForKey(entry.getKey()).put(entry.getKey(), entry.getValue());
+                movedEntries++;
+            }
+        }
+        if (!current.cursor.hasNext()) {
+            migration = null;
+            completedMigrations++;
+        }
+        recordPause(start);
+
+        return null != migration;
+    }
+
+    public void completeMigration() {
+        while (migrateStep()) {
+            // keep moving batches until the legacy entries are drained
+        }
     }
 
-    private Optional<Map<Key, Value>> getEntriesForKey(final Key key) {
-        return Optional.ofNullable(
-                entriesByPosition.get(
-                        nodePositions.get(calculateNodePositionForKey(key))
-                )
+    public MigrationProgress getMigrationProgress() {
+        return new MigrationProgress(
+                null != migration,
+                null == migration ? 0 : migration.legacyEntries.size(),
+                movedEntries,
+                completedMigrations,
+                lastPauseNanos,
+                maximumPauseNanos,
+                totalPauseNanos
         );
     }
 
-    private int calculateNodePositionForKey(final Key key) {
-        final int nodePositionIndex;
-        {
-            final int searchedIndex = Collections.binarySearch(nodePositions, keyToPositionCalculator.apply(key));
-            if (0 > searchedIndex) {
-                nodePositionIndex = Math.abs(searchedIndex) - 1;
+    public List<Position> replicasFor(final Key key, final int replicaCount) {
+        if (0 >= replicaCount) {
+            throw new IllegalArgumentException("replicaCount must be positive");
+        }
+
+        final List<Position> replicas = new ArrayList<>(Math.min(replicaCount, nodeCount));
+        int nodeIndex = calculateNodeIndexForKey(key);
+        while (replicas.size() < Math.min(replicaCount, nodeCount)) {
+            replicas.add(new Position(nodePositions[nodeIndex]));
+            nodeIndex = (nodeIndex + 1) % nodeCount;
+        }
+        return replicas;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public Map<Position, Integer> getNodeLoads() {
+        final Map<Position, Integer> nodeLoads = new LinkedHashMap<>();
+        for (int i = 0; i < nodeCount; i++) {
+            nodeLoads.put(new Position(nodePositions[i]), nodeEntries[i].size());
+        }
+        return nodeLoads;
+    }
+
+    public LoadReport getLoadReport() {
+        final List<Integer> entryCounts = new ArrayList<>(nodeCount);
+        for (int i = 0; i < nodeCount; i++) {
+            entryCounts.add(nodeEntries[i].size());
+        }
+        return LoadReport.of(entryCounts);
+    }
+
+    public int getNodeCapacity() {
+        return boundedLoad ? calculateNodeCapacity(entryCount) : Integer.MAX_VALUE;
+    }
+
+    boolean isBoundedLoad() {
+        return boundedLoad;
+    }
+
+    boolean containsNode(final Position position) {
+        return 0 <= Arrays.binarySearch(nodePositions, 0, nodeCount, position.getValue());
+    }
+
+    int getNodePosition(final int nodeIndex) {
+        return nodePositions[nodeIndex];
+    }
+
+    Map<Key, Value> getNodeEntries(final int nodeIndex) {
+        return nodeEntries[nodeIndex];
+    }
+
+    Map<Key, Value> prepareBulkLoad(final int nodeIndex, final int expectedEntries) {
+        if (defaultNodeStore && nodeEntries[nodeIndex].isEmpty()) {
+            nodeEntries[nodeIndex] = new HashMap<>((int) Math.ceil(expectedEntries / 0.75));
+        }
+        return nodeEntries[nodeIndex];
+    }
+
+    // legacy entries that have not been moved yet, so a scan can run without finishing the migration first
+    private Stream<Map.Entry<Key, Value>> pendingEntries(final Map<Key, Value> owner) {
+        final Migration<Key, Value> current = migration;
+        return current.legacyEntries.entrySet().stream().filter(
+                entry -> !current.supersededKeys.contains(entry.getKey())
+                        && (null == owner || owner == getEntriesForKey(entry.getKey()))
+        );
+    }
+
+    private int calculateNodeCapacity(final int entries) {
+        return Math.max(1, (int) Math.ceil((1 + loadEpsilon) * entries / nodeCount));
+    }
+
+    private int findBoundedNodeIndex(final Key key) {
+        int nodeIndex = calculateNodeIndexForKey(key);
+        for (int step = 0; step < nodeCount; step++) {
+            if (nodeEntries[nodeIndex].containsKey(key)) {
+                return nodeIndex;
+            }
+            if (0 == spilledKeyCounts[nodeIndex]) {
+                return -1;
+            }
+            nodeIndex = (nodeIndex + 1) % nodeCount;
+        }
+        return -1;
+    }
+
+    private Value putBoundedEntry(final Key key, final Value value) {
+        final int nodeIndex = findBoundedNodeIndex(key);
+        if (0 <= nodeIndex) {
+            return nodeEntries[nodeIndex].put(key, value);
+        }
+
+        placeBoundedEntry(key, value, calculateNodeCapacity(entryCount + 1));
+        entryCount++;
+        return null;
+    }
+
+    private int placeBoundedEntry(final Key key, final Value value, final int capacity) {
+        int nodeIndex = calculateNodeIndexForKey(key);
+        while (nodeEntries[nodeIndex].size() >= capacity) {
+            spilledKeyCounts[nodeIndex]++;
+            nodeIndex = (nodeIndex + 1) % nodeCount;
+        }
+        nodeEntries[nodeIndex].put(key, value);
+        return nodeIndex;
+    }
+
+    private Value removeBoundedEntry(final Key key) {
+        final int nodeIndex = findBoundedNodeIndex(key);
+        if (0 > nodeIndex) {
+            return null;
+        }
+
+        for (int i = calculateNodeIndexForKey(key); i != nodeIndex; i = (i + 1) % nodeCount) {
+            spilledKeyCounts[i]--;
+        }
+        entryCount--;
+        return nodeEntries[nodeIndex].remove(key);
+    }
+
+    private void rebalanceBoundedLoad(final Map<Key, Value> displacedEntries) {
+        final int[] previousPositions = Arrays.copyOf(nodePositions, nodeCount);
+        final Map<Key, Value>[] previousEntries = Arrays.copyOf(nodeEntries, nodeCount);
+        final int capacity = calculateNodeCapacity(entryCount);
+        spilledKeyCounts = new int[nodePositions.length];
+        for (int i = 0; i < nodeCount; i++) {
+            nodeEntries[i] = nodeStoreFactory.get();
+        }
+
+        // keys whose owner is unchanged keep their slot first, so only spilled or re-owned keys move
+        for (int i = 0; i < nodeCount; i++) {
+            for (final Map.Entry<Key, Value> entry : previousEntries[i].entrySet()) {
+                final int nodeIndex = calculateNodeIndexForKey(entry.getKey());
+                if (nodePositions[nodeIndex] == previousPositions[i] && nodeEntries[nodeIndex].size() < capacity) {
+                    nodeEntries[nodeIndex].put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        for (int i = 0; i < nodeCount; i++) {
+            for (final Map.Entry<Key, Value> entry : previousEntries[i].entrySet()) {
+                final int ownerIndex = calculateNodeIndexForKey(entry.getKey());
+                if (nodePositions[ownerIndex] != previousPositions[i] || !nodeEntries[ownerIndex].containsKey(entry.getKey())) {
+                    if (previousPositions[i] != nodePositions[placeBoundedEntry(entry.getKey(), entry.getValue(), capacity)]) {
+                        movedEntries++;
+                    }
+                }
+            }
+        }
+        for (final Map.Entry<Key, Value> entry : displacedEntries.entrySet()) {
+            placeBoundedEntry(entry.getKey(), entry.getValue(), capacity);
+            movedEntries++;
+        }
+        completedMigrations++;
+    }
+
+    private void requirePlannableState() {
+        if (boundedLoad) {
+            throw new IllegalStateException("migration plans are not available in bounded load mode");
+        }
+        if (null != migration) {
+            throw new IllegalStateException("complete the pending migration before planning another");
+        }
+    }
+
+    private int[] findAbsentPositions(final Set<Position> positions) {
+        return positions
+                .stream()
+                .mapToInt(Position::getValue)
+                .filter(position -> 0 > Arrays.binarySearch(nodePositions, 0, nodeCount, position))
+                .sorted()
+                .toArray();
+    }
+
+    private boolean[] findPresentNodes(final Set<Position> positions) {
+        final boolean[] presentNodes = new boolean[nodeCount];
+        for (final Position position : positions) {
+            final int nodeIndex = Arrays.binarySearch(nodePositions, 0, nodeCount, position.getValue());
+            if (0 <= nodeIndex) {
+                presentNodes[nodeIndex] = true;
+            }
+        }
+        return presentNodes;
+    }
+
+    private static boolean[] findSuccessors(final int[] positions, final int positionCount, final int[] addedPositions) {
+        final boolean[] successors = new boolean[positionCount];
+        for (final int addedPosition : addedPositions) {
+            successors[TokenSearch.findOwnerIndex(positions, positionCount, addedPosition)] = true;
+        }
+        return successors;
+    }
+
+    private static int[] mergePositions(final int[] positions, final int[] addedPositions) {
+        final int[] mergedPositions = new int[positions.length + addedPositions.length];
+        int existing = 0;
+        int added = 0;
+        for (int i = 0; i < mergedPositions.length; i++) {
+            if (added == addedPositions.length || (existing < positions.length && positions[existing] < addedPositions[added])) {
+                mergedPositions[i] = positions[existing++];
             } else {
-                nodePositionIndex = searchedIndex;
+                mergedPositions[i] = addedPositions[added++];
+            }
+        }
+        return mergedPositions;
+    }
+
+    private static int countSet(final boolean[] flags) {
+        int count = 0;
+        for (final boolean flag : flags) {
+            if (flag) {
+                count++;
             }
         }
+        return count;
+    }
+
+    private OwnerBatches groupByOwner(final Object[] keys) {
+        final int[] keyPositions = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            keyPositions[i] = keyToPositionCalculator.applyAsInt(castKey(keys[i]));
+        }
+        return OwnerBatches.group(nodePositions, nodeCount, keyPositions);
+    }
+
+    private Map<Key, Value> collectPresentValues(final Object[] keys, final Object[] values) {
+        final Map<Key, Value> presentValues = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            if (null != values[i]) {
+                presentValues.put(castKey(keys[i]), castValue(values[i]));
+            }
+        }
+        return presentValues;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Key> Key castKey(final Object key) {
+        return (Key) key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Value> Value castValue(final Object value) {
+        return (Value) value;
+    }
+
+    private void recordPause(final long start) {
+        lastPauseNanos = System.nanoTime() - start;
+        maximumPauseNanos = Math.max(maximumPauseNanos, lastPauseNanos);
+        totalPauseNanos += lastPauseNanos;
+    }
+
+    private Map<Key, Value> getEntriesForKey(final Key key) {
+        return nodeEntries[calculateNodeIndexForKey(key)];
+    }
+
+    private int calculateNodeIndexForKey(final Key key) {
+        return TokenSearch.findOwnerIndex(nodePositions, nodeCount, keyToPositionCalculator.applyAsInt(key));
+    }
 
-        return nodePositionIndex % nodePositions.size();
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <Key, Value> Map<Key, Value>[] createNodeEntries(final int length) {
+        return (Map<Key, Value>[]) new Map[length];
     }
 }
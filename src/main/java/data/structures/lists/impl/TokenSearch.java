@@ -0,0 +1,19 @@
+package data.structures.lists.impl;
+
+final class TokenSearch {
+    private TokenSearch() {
+    }
+
+    static int findOwnerIndex(final int[] tokens, final int tokenCount, final int position) {
+        int base = 0;
+        int length = tokenCount;
+        while (1 < length) {
+            final int half = length >>> 1;
+            base = tokens[base + half] < position ? base + half : base;
+            length -= half;
+        }
+
+        final int index = base + (tokens[base] < position ? 1 : 0);
+        return index == tokenCount ? 0 : index;
+    }
+}
@@ -0,0 +1,69 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing.Position;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class TokenTable {
+    private final int[] tokens;
+    private final Position[] tokenOwners;
+    private final int nodeCount;
+
+    TokenTable(final Map<Position, Integer> weightsByPosition, final int tokensPerWeight) {
+        final int tokenCount = weightsByPosition.values().stream().mapToInt(weight -> weight * tokensPerWeight).sum();
+        final long[] sortedTokens = new long[tokenCount];
+        final Map<Integer, Position> positionsByValue = new HashMap<>();
+        int tokenIndex = 0;
+        for (final Map.Entry<Position, Integer> node : weightsByPosition.entrySet()) {
+            positionsByValue.put(node.getKey().getValue(), node.getKey());
+            for (int i = 0; i < node.getValue() * tokensPerWeight; i++) {
+                sortedTokens[tokenIndex++] = ((long) calculateToken(node.getKey(), i) << 32) | node.getKey().getValue();
+            }
+        }
+        Arrays.sort(sortedTokens);
+
+        this.tokens = new int[tokenCount];
+        this.tokenOwners = new Position[tokenCount];
+        this.nodeCount = weightsByPosition.size();
+        for (int i = 0; i < tokenCount; i++) {
+            tokens[i] = (int) (sortedTokens[i] >>> 32);
+            tokenOwners[i] = positionsByValue.get((int) sortedTokens[i]);
+        }
+    }
+
+    int getTokenCount() {
+        return tokens.length;
+    }
+
+    Position getOwner(final int position) {
+        return tokenOwners[TokenSearch.findOwnerIndex(tokens, tokens.length, position)];
+    }
+
+    List<Position> getDistinctOwners(final int position, final int ownerCount) {
+        final int count = Math.min(ownerCount, nodeCount);
+        final List<Position> owners = new ArrayList<>(count);
+        int tokenIndex = TokenSearch.findOwnerIndex(tokens, tokens.length, position);
+        for (int step = 0; owners.size() < count && step < tokens.length; step++) {
+            final Position owner = tokenOwners[tokenIndex];
+            if (!owners.contains(owner)) {
+                owners.add(owner);
+            }
+            tokenIndex = tokenIndex + 1 == tokens.length ? 0 : tokenIndex + 1;
+        }
+        return owners;
+    }
+
+    static int calculateToken(final Position position, final int tokenIndex) {
+        long hash = ((long) position.getValue() << 32) | tokenIndex;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return (int) hash & Integer.MAX_VALUE;
+    }
+}
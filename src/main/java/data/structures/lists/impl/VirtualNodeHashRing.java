@@ -0,0 +1,172 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.ScannableHashRing;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class VirtualNodeHashRing<Key, Value> implements ScannableHashRing<Key, Value> {
+    public static final int DEFAULT_WEIGHT = 1;
+
+    private final int tokensPerWeight;
+    private final Function<Key, Position> keyToPositionCalculator;
+    private final Map<Position, Integer> weightsByPosition;
+    private final Map<Position, Map<Key, Value>> entriesByPosition;
+    private TokenTable tokenTable;
+
+    public VirtualNodeHashRing(
+            final Set<Position> nodePositions,
+            final Function<Key, Position> keyToPositionCalculator,
+            final int tokensPerWeight
+    ) throws AtLeastOneNodeMustExist {
+        this(
+                nodePositions
+                        .stream()
+                        .collect(
+                                Collectors.toMap(
+                                        Function.identity(),
+                                        (v) -> DEFAULT_WEIGHT
+                                )
+                        ),
+                keyToPositionCalculator,
+                tokensPerWeight
+        );
+    }
+
+    public VirtualNodeHashRing(
+            final Map<Position, Integer> weightsByPosition,
+            final Function<Key, Position> keyToPositionCalculator,
+            final int tokensPerWeight
+    ) throws AtLeastOneNodeMustExist {
+        if (weightsByPosition.isEmpty()) {
+            throw new AtLeastOneNodeMustExist();
+        }
+        if (0 >= tokensPerWeight) {
+            throw new IllegalArgumentException("tokensPerWeight must be positive");
+        }
+        weightsByPosition.values().forEach(VirtualNodeHashRing::requirePositiveWeight);
+
+        this.tokensPerWeight = tokensPerWeight;
+        this.keyToPositionCalculator = keyToPositionCalculator;
+        this.weightsByPosition = new HashMap<>(weightsByPosition);
+        this.entriesByPosition = new HashMap<>();
+        weightsByPosition.keySet().forEach(position -> entriesByPosition.put(position, new HashMap<>()));
+        this.tokenTable = new TokenTable(this.weightsByPosition, tokensPerWeight);
+    }
+
+    @Override
+    public void addNode(final Position position) {
+        addNode(position, DEFAULT_WEIGHT);
+    }
+
+    public void addNode(final Position position, final int weight) {
+        requirePositiveWeight(weight);
+        if (weightsByPosition.containsKey(position)) {
+            return;
+        }
+
+        final Set<Position> previousOwners = new HashSet<>();
+        for (int i = 0; i < tokensPerWeight * weight; i++) {
+            previousOwners.add(tokenTable.getOwner(TokenTable.calculateToken(position, i)));
+        }
+
+        weightsByPosition.put(position, weight);
+        final Map<Key, Value> nodeEntries = new HashMap<>();
+        entriesByPosition.put(position, nodeEntries);
+        tokenTable = new TokenTable(weightsByPosition, tokensPerWeight);
+
+        for (final Position previousOwner : previousOwners) {
+            final Iterator<Map.Entry<Key, Value>> entries = entriesByPosition.get(previousOwner).entrySet().iterator();
+            while (entries.hasNext()) {
+                final Map.Entry<Key, Value> entry = entries.next();
+                if (position.equals(calculateOwner(entry.getKey()))) {
+                    nodeEntries.put(entry.getKey(), entry.getValue());
+                    entries.remove();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void removeNode(final Position position) throws AtLeastOneNodeMustExist {
+        final Map<Key, Value> entries = entriesByPosition.get(position);
+        if (null != entries) {
+            if (1 < entriesByPosition.size()) {
+                weightsByPosition.remove(position);
+                entriesByPosition.remove(position);
+                tokenTable = new TokenTable(weightsByPosition, tokensPerWeight);
+                entries.forEach((key, value) -> entriesByPosition.get(calculateOwner(key)).put(key, value));
+                return;
+            }
+
+            throw new AtLeastOneNodeMustExist();
+        }
+    }
+
+    @Override
+    public Optional<Value> addEntry(final Key key, final Value value) {
+        return Optional.ofNullable(getEntriesForKey(key).put(key, value));
+    }
+
+    @Override
+    public Optional<Value> removeEntry(final Key key) {
+        return Optional.ofNullable(getEntriesForKey(key).remove(key));
+    }
+
+    @Override
+    public Optional<Value> getValue(final Key key) {
+        return Optional.ofNullable(getEntriesForKey(key).get(key));
+    }
+
+    @Override
+    public Stream<Map.Entry<Key, Value>> stream() {
+        return NodeSpliterator.stream(new ArrayList<>(entriesByPosition.values()));
+    }
+
+    @Override
+    public Stream<Map.Entry<Key, Value>> entriesOf(final Position position) {
+        final Map<Key, Value> entries = entriesByPosition.get(position);
+        return null == entries ? Stream.empty() : NodeSpliterator.stream(List.of(entries));
+    }
+
+    public Position getOwner(final Key key) {
+        return calculateOwner(key);
+    }
+
+    public List<Position> replicasFor(final Key key, final int replicaCount) {
+        if (0 >= replicaCount) {
+            throw new IllegalArgumentException("replicaCount must be positive");
+        }
+        return tokenTable.getDistinctOwners(keyToPositionCalculator.apply(key).getValue(), replicaCount);
+    }
+
+    public int getTokenCount() {
+        return tokenTable.getTokenCount();
+    }
+
+    public LoadReport getLoadReport() {
+        return LoadReport.of(
+                entriesByPosition
+                        .values()
+                        .stream()
+                        .map(Map::size)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    private Map<Key, Value> getEntriesForKey(final Key key) {
+        return entriesByPosition.get(calculateOwner(key));
+    }
+
+    private Position calculateOwner(final Key key) {
+        return tokenTable.getOwner(keyToPositionCalculator.apply(key).getValue());
+    }
+
+    private static void requirePositiveWeight(final int weight) {
+        if (0 >= weight) {
+            throw new IllegalArgumentException("weight must be positive");
+        }
+    }
+}
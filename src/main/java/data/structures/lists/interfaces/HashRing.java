@@ -1,5 +1,8 @@
 package data.structures.lists.interfaces;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -49,4 +52,22 @@ public interface HashRing<Key, Value> {
     Optional<Value> removeEntry(Key key);
 
     Optional<Value> getValue(Key key);
+
+    default Map<Key, Value> getAll(final Collection<? extends Key> keys) {
+        final Map<Key, Value> values = new HashMap<>();
+        keys.forEach(key -> getValue(key).ifPresent(value -> values.put(key, value)));
+        return values;
+    }
+
+    default Map<Key, Value> putAll(final Map<? extends Key, ? extends Value> entries) {
+        final Map<Key, Value> previousValues = new HashMap<>();
+        entries.forEach((key, value) -> addEntry(key, value).ifPresent(previous -> previousValues.put(key, previous)));
+        return previousValues;
+    }
+
+    default Map<Key, Value> removeAll(final Collection<? extends Key> keys) {
+        final Map<Key, Value> removedValues = new HashMap<>();
+        keys.forEach(key -> removeEntry(key).ifPresent(removed -> removedValues.put(key, removed)));
+        return removedValues;
+    }
 }
@@ -0,0 +1,10 @@
+package data.structures.lists.interfaces;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+public interface ScannableHashRing<Key, Value> extends HashRing<Key, Value> {
+    Stream<Map.Entry<Key, Value>> stream();
+
+    Stream<Map.Entry<Key, Value>> entriesOf(Position position);
+}
@@ -0,0 +1,57 @@
+package data.structures.maps;
+
+public class CacheStats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long expirationCount;
+
+    CacheStats(final long hitCount, final long missCount, final long evictionCount, final long expirationCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getExpirationCount() {
+        return expirationCount;
+    }
+
+    public double getHitRate() {
+        final long requestCount = hitCount + missCount;
+        return 0 == requestCount ? 1 : (double) hitCount / requestCount;
+    }
+
+    public CacheStats plus(final CacheStats other) {
+        return new CacheStats(
+                hitCount + other.hitCount,
+                missCount + other.missCount,
+                evictionCount + other.evictionCount,
+                expirationCount + other.expirationCount
+        );
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "hits=%d misses=%d evictions=%d expirations=%d hitRate=%.3f",
+                hitCount,
+                missCount,
+                evictionCount,
+                expirationCount,
+                getHitRate()
+        );
+    }
+}
@@ -0,0 +1,398 @@
+package data.structures.maps;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+
+public class EvictingMap<Key, Value> extends AbstractMap<Key, Value> {
+    public enum Policy {
+        LRU,
+        W_TINY_LFU
+    }
+
+    public static class Builder<Key, Value> {
+        private final long maximumWeight;
+        private Policy policy = Policy.W_TINY_LFU;
+        private ToIntBiFunction<? super Key, ? super Value> weigher = (key, value) -> 1;
+        private long expireAfterWriteNanos = NEVER_EXPIRES;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(final long maximumWeight) {
+            if (0 >= maximumWeight) {
+                throw new IllegalArgumentException("maximum must be positive");
+            }
+            this.maximumWeight = maximumWeight;
+        }
+
+        public Builder<Key, Value> policy(final Policy policy) {
+            this.policy = policy;
+            return this;
+        }
+
+        public Builder<Key, Value> weigher(final ToIntBiFunction<? super Key, ? super Value> weigher) {
+            this.weigher = weigher;
+            return this;
+        }
+
+        public Builder<Key, Value> expireAfterWrite(final long duration, final TimeUnit unit) {
+            if (0 >= duration) {
+                throw new IllegalArgumentException("duration must be positive");
+            }
+            this.expireAfterWriteNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        public Builder<Key, Value> ticker(final LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public EvictingMap<Key, Value> build() {
+            return new EvictingMap<>(this);
+        }
+    }
+
+    private static final long NEVER_EXPIRES = Long.MAX_VALUE;
+    private static final int WINDOW_PERCENT = 1;
+    private static final int PROTECTED_PERCENT = 80;
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private static class Node<Key, Value> {
+        private final Key key;
+        private Value value;
+        private int weight;
+        private long writeNanos;
+        private int queue;
+        private Node<Key, Value> previous;
+        private Node<Key, Value> next;
+
+        private Node(final Key key) {
+            this.key = key;
+        }
+    }
+
+    private static class Queue<Key, Value> {
+        private Node<Key, Value> head;
+        private Node<Key, Value> tail;
+        private long weight;
+
+        private void addLast(final Node<Key, Value> node) {
+            node.previous = tail;
+            node.next = null;
+            if (null == tail) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            weight += node.weight;
+        }
+
+        private void remove(final Node<Key, Value> node) {
+            if (null == node.previous) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (null == node.next) {
+                tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            weight -= node.weight;
+        }
+    }
+
+    public static <Key, Value> Builder<Key, Value> maximumEntries(final long maximumEntries) {
+        return new Builder<>(maximumEntries);
+    }
+
+    public static <Key, Value> Builder<Key, Value> maximumWeight(
+            final long maximumWeight,
+            final ToIntBiFunction<? super Key, ? super Value> weigher
+    ) {
+        return new Builder<Key, Value>(maximumWeight).weigher(weigher);
+    }
+
+    private final Map<Key, Node<Key, Value>> nodes;
+    private final Queue<Key, Value>[] queues;
+    private final Policy policy;
+    private final long maximumWeight;
+    private final long windowMaximumWeight;
+    private final long protectedMaximumWeight;
+    private final ToIntBiFunction<? super Key, ? super Value> weigher;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+    private final FrequencySketch sketch;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long expirationCount;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private EvictingMap(final Builder<Key, Value> builder) {
+        this.nodes = new HashMap<>();
+        this.queues = (Queue<Key, Value>[]) new Queue[]{new Queue<>(), new Queue<>(), new Queue<>()};
+        this.policy = builder.policy;
+        this.maximumWeight = builder.maximumWeight;
+        this.windowMaximumWeight = Math.max(1, builder.maximumWeight * WINDOW_PERCENT / 100);
+        this.protectedMaximumWeight = (builder.maximumWeight - windowMaximumWeight) * PROTECTED_PERCENT / 100;
+        this.weigher = builder.weigher;
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.ticker = builder.ticker;
+        this.sketch = Policy.W_TINY_LFU == policy ? new FrequencySketch(builder.maximumWeight) : null;
+    }
+
+    @Override
+    public Value get(final Object key) {
+        final Node<Key, Value> node = nodes.get(key);
+        if (null == node || expireIfNeeded(node)) {
+            missCount++;
+            recordFrequency(key);
+            return null;
+        }
+
+        hitCount++;
+        recordFrequency(key);
+        onAccess(node);
+        return node.value;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        final Node<Key, Value> node = nodes.get(key);
+        return null != node && !expireIfNeeded(node);
+    }
+
+    @Override
+    public Value put(final Key key, final Value value) {
+        if (null == key || null == value) {
+            throw new NullPointerException("keys and values must not be null");
+        }
+
+        final int weight = weigher.applyAsInt(key, value);
+        if (0 > weight) {
+            throw new IllegalArgumentException("weight must be non-negative");
+        }
+
+        recordFrequency(key);
+        Node<Key, Value> node = nodes.get(key);
+        Value previous = null;
+        if (null != node && !expireIfNeeded(node)) {
+            previous = node.value;
+            final Queue<Key, Value> queue = queues[node.queue];
+            queue.weight += weight - node.weight;
+            node.weight = weight;
+            node.value = value;
+            node.writeNanos = ticker.getAsLong();
+            onAccess(node);
+        } else {
+            node = new Node<>(key);
+            node.value = value;
+            node.weight = weight;
+            node.writeNanos = ticker.getAsLong();
+            node.queue = WINDOW;
+            nodes.put(key, node);
+            queues[WINDOW].addLast(node);
+        }
+        evict();
+        return previous;
+    }
+
+    @Override
+    public Value remove(final Object key) {
+        final Node<Key, Value> node = nodes.get(key);
+        if (null == node) {
+            return null;
+        }
+        if (expireIfNeeded(node)) {
+            return null;
+        }
+        unlink(node);
+        return node.value;
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    @Override
+    public void clear() {
+        nodes.clear();
+        for (final Queue<Key, Value> queue : queues) {
+            queue.head = null;
+            queue.tail = null;
+            queue.weight = 0;
+        }
+    }
+
+    @Override
+    public Set<Entry<Key, Value>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<Key, Value>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return nodes.size();
+            }
+        };
+    }
+
+    public long weightedSize() {
+        return queues[WINDOW].weight + queues[PROBATION].weight + queues[PROTECTED].weight;
+    }
+
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    public int cleanUp() {
+        int expired = 0;
+        final Iterator<Node<Key, Value>> iterator = nodes.values().iterator();
+        while (iterator.hasNext()) {
+            final Node<Key, Value> node = iterator.next();
+            if (isExpired(node)) {
+                iterator.remove();
+                queues[node.queue].remove(node);
+                expirationCount++;
+                expired++;
+            }
+        }
+        return expired;
+    }
+
+    public CacheStats getStats() {
+        return new CacheStats(hitCount, missCount, evictionCount, expirationCount);
+    }
+
+    private void recordFrequency(final Object key) {
+        if (null != sketch && null != key) {
+            sketch.increment(key);
+        }
+    }
+
+    private boolean isExpired(final Node<Key, Value> node) {
+        return NEVER_EXPIRES != expireAfterWriteNanos && ticker.getAsLong() - node.writeNanos >= expireAfterWriteNanos;
+    }
+
+    private boolean expireIfNeeded(final Node<Key, Value> node) {
+        if (!isExpired(node)) {
+            return false;
+        }
+        unlink(node);
+        expirationCount++;
+        return true;
+    }
+
+    private void unlink(final Node<Key, Value> node) {
+        nodes.remove(node.key);
+        queues[node.queue].remove(node);
+    }
+
+    private void onAccess(final Node<Key, Value> node) {
+        final Queue<Key, Value> queue = queues[node.queue];
+        queue.remove(node);
+        if (PROBATION == node.queue) {
+            node.queue = PROTECTED;
+            queues[PROTECTED].addLast(node);
+            while (queues[PROTECTED].weight > protectedMaximumWeight && queues[PROTECTED].head != node) {
+                final Node<Key, Value> demoted = queues[PROTECTED].head;
+                queues[PROTECTED].remove(demoted);
+                demoted.queue = PROBATION;
+                queues[PROBATION].addLast(demoted);
+            }
+        } else {
+            queue.addLast(node);
+        }
+    }
+
+    private void evict() {
+        if (Policy.LRU == policy) {
+            while (queues[WINDOW].weight > maximumWeight) {
+                evict(queues[WINDOW].head);
+            }
+            return;
+        }
+
+        while (queues[WINDOW].weight > windowMaximumWeight && queues[WINDOW].head != queues[WINDOW].tail) {
+            final Node<Key, Value> candidate = queues[WINDOW].head;
+            queues[WINDOW].remove(candidate);
+            candidate.queue = PROBATION;
+            queues[PROBATION].addLast(candidate);
+        }
+
+        while (weightedSize() > maximumWeight) {
+            final Node<Key, Value> victim = queues[PROBATION].head;
+            final Node<Key, Value> candidate = queues[PROBATION].tail;
+            if (null == victim) {
+                evict(null != queues[PROTECTED].head ? queues[PROTECTED].head : queues[WINDOW].head);
+            } else if (victim == candidate || sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evict(victim);
+            } else {
+                evict(candidate);
+            }
+        }
+    }
+
+    private void evict(final Node<Key, Value> node) {
+        unlink(node);
+        evictionCount++;
+    }
+
+    private class EntryIterator implements Iterator<Entry<Key, Value>> {
+        private final Iterator<Node<Key, Value>> iterator = nodes.values().iterator();
+        private Node<Key, Value> next;
+        private Node<Key, Value> current;
+
+        @Override
+        public boolean hasNext() {
+            while (null == next && iterator.hasNext()) {
+                final Node<Key, Value> candidate = iterator.next();
+                if (!isExpired(candidate)) {
+                    next = candidate;
+                }
+            }
+            return null != next;
+        }
+
+        @Override
+        public Entry<Key, Value> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            next = null;
+            return new SimpleImmutableEntry<>(current.key, current.value);
+        }
+
+        @Override
+        public void remove() {
+            if (null == current) {
+                throw new IllegalStateException();
+            }
+            // hasNext may already have advanced the backing iterator past current
+            if (null != next) {
+                throw new IllegalStateException("remove must follow next directly");
+            }
+            iterator.remove();
+            queues[current.queue].remove(current);
+            current = null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package data.structures.maps;
+
+final class FrequencySketch {
+    private static final int DEPTH = 4;
+    private static final int MAXIMUM_FREQUENCY = 15;
+    private static final long[] SEEDS = {
+            0x97CB3127L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0x85EBCA77C2B2AE63L
+    };
+
+    private final byte[] counters;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(final long expectedEntries) {
+        final int width = Integer.highestOneBit((int) Math.max(16, Math.min(1 << 24, 2 * expectedEntries)) - 1) << 1;
+        this.counters = new byte[DEPTH * width];
+        this.mask = width - 1;
+        this.sampleSize = 10 * width;
+    }
+
+    int frequency(final Object key) {
+        final int hash = spread(key.hashCode());
+        int frequency = MAXIMUM_FREQUENCY;
+        for (int row = 0; row < DEPTH; row++) {
+            frequency = Math.min(frequency, counters[indexOf(hash, row)]);
+        }
+        return frequency;
+    }
+
+    void increment(final Object key) {
+        final int hash = spread(key.hashCode());
+        final int frequency = frequency(key);
+        if (MAXIMUM_FREQUENCY == frequency) {
+            return;
+        }
+
+        for (int row = 0; row < DEPTH; row++) {
+            final int index = indexOf(hash, row);
+            if (counters[index] == frequency) {
+                counters[index]++;
+            }
+        }
+        if (++additions == sampleSize) {
+            age();
+        }
+    }
+
+    private void age() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] >>= 1;
+        }
+        additions /= 2;
+    }
+
+    private int indexOf(final int hash, final int row) {
+        long rowHash = (hash + SEEDS[row]) * SEEDS[row];
+        rowHash += rowHash >>> 32;
+        return row * (mask + 1) + ((int) rowHash & mask);
+    }
+
+    private static int spread(final int hash) {
+        int spread = hash;
+        spread ^= spread >>> 16;
+        spread *= 0x45D9F3B;
+        spread ^= spread >>> 16;
+        return spread;
+    }
+}
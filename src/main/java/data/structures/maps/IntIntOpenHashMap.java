@@ -0,0 +1,151 @@
+package data.structures.maps;
+
+import java.util.Arrays;
+
+public class IntIntOpenHashMap {
+    private static final int FREE_KEY = 0;
+    private static final int MINIMUM_CAPACITY = 8;
+
+    private final int missingValue;
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+    private boolean hasFreeKey;
+    private int freeKeyValue;
+
+    public IntIntOpenHashMap(final int expectedSize, final int missingValue) {
+        if (0 > expectedSize) {
+            throw new IllegalArgumentException("expectedSize must be non-negative");
+        }
+
+        this.missingValue = missingValue;
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int get(final int key) {
+        if (FREE_KEY == key) {
+            return hasFreeKey ? freeKeyValue : missingValue;
+        }
+
+        int index = mix(key) & mask;
+        while (true) {
+            final int candidate = keys[index];
+            if (candidate == key) {
+                return values[index];
+            }
+            if (FREE_KEY == candidate) {
+                return missingValue;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public boolean containsKey(final int key) {
+        if (FREE_KEY == key) {
+            return hasFreeKey;
+        }
+
+        int index = mix(key) & mask;
+        while (true) {
+            final int candidate = keys[index];
+            if (candidate == key) {
+                return true;
+            }
+            if (FREE_KEY == candidate) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public int put(final int key, final int value) {
+        if (FREE_KEY == key) {
+            final int previous = hasFreeKey ? freeKeyValue : missingValue;
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                size++;
+            }
+            freeKeyValue = value;
+            return previous;
+        }
+
+        int index = mix(key) & mask;
+        while (true) {
+            final int candidate = keys[index];
+            if (candidate == key) {
+                final int previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            if (FREE_KEY == candidate) {
+                keys[index] = key;
+                values[index] = value;
+                if (++size > resizeThreshold) {
+                    rehash(keys.length << 1);
+                }
+                return missingValue;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getMissingValue() {
+        return missingValue;
+    }
+
+    public void ensureCapacity(final int expectedSize) {
+        final int capacity = capacityFor(expectedSize);
+        if (capacity > keys.length) {
+            rehash(capacity);
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        hasFreeKey = false;
+        size = 0;
+    }
+
+    private void rehash(final int capacity) {
+        final int[] oldKeys = keys;
+        final int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            final int key = oldKeys[i];
+            if (FREE_KEY != key) {
+                int index = mix(key) & mask;
+                while (FREE_KEY != keys[index]) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = capacity >>> 1;
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        final long required = Math.max(MINIMUM_CAPACITY, 2L * expectedSize);
+        if (required > (1 << 30)) {
+            throw new IllegalArgumentException("expectedSize is too large: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) required - 1) << 1;
+    }
+
+    private static int mix(final int key) {
+        final int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
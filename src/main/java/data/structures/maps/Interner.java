@@ -0,0 +1,125 @@
+package data.structures.maps;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+public class Interner<T> {
+    public static final int ABSENT = -1;
+    private static final int MINIMUM_CAPACITY = 8;
+
+    private int[] ids;
+    private int[] hashes;
+    private Object[] keysById;
+    private int mask;
+    private int size;
+    private int resizeThreshold;
+
+    public Interner(final int expectedSize) {
+        if (0 > expectedSize) {
+            throw new IllegalArgumentException("expectedSize must be non-negative");
+        }
+
+        allocate(capacityFor(expectedSize));
+        keysById = new Object[Math.max(expectedSize, MINIMUM_CAPACITY)];
+    }
+
+    public int intern(final T key) {
+        final int hash = hash(key);
+        int index = hash & mask;
+        while (true) {
+            final int id = ids[index];
+            if (ABSENT == id) {
+                break;
+            }
+            if (hashes[index] == hash && keysById[id].equals(key)) {
+                return id;
+            }
+            index = (index + 1) & mask;
+        }
+
+        final int id = size++;
+        if (id == keysById.length) {
+            keysById = Arrays.copyOf(keysById, 2 * keysById.length);
+        }
+        keysById[id] = key;
+        ids[index] = id;
+        hashes[index] = hash;
+        if (size > resizeThreshold) {
+            rehash(ids.length << 1);
+        }
+        return id;
+    }
+
+    public int idOf(final T key) {
+        final int hash = hash(key);
+        int index = hash & mask;
+        while (true) {
+            final int id = ids[index];
+            if (ABSENT == id) {
+                return ABSENT;
+            }
+            if (hashes[index] == hash && keysById[id].equals(key)) {
+                return id;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public T keyOf(final int id) {
+        Objects.checkIndex(id, size);
+        return (T) keysById[id];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void ensureCapacity(final int expectedSize) {
+        final int capacity = capacityFor(expectedSize);
+        if (capacity > ids.length) {
+            rehash(capacity);
+        }
+        if (expectedSize > keysById.length) {
+            keysById = Arrays.copyOf(keysById, expectedSize);
+        }
+    }
+
+    private void rehash(final int capacity) {
+        final int[] oldIds = ids;
+        final int[] oldHashes = hashes;
+        allocate(capacity);
+        for (int i = 0; i < oldIds.length; i++) {
+            final int id = oldIds[i];
+            if (ABSENT != id) {
+                int index = oldHashes[i] & mask;
+                while (ABSENT != ids[index]) {
+                    index = (index + 1) & mask;
+                }
+                ids[index] = id;
+                hashes[index] = oldHashes[i];
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        ids = new int[capacity];
+        Arrays.fill(ids, ABSENT);
+        hashes = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = capacity >>> 1;
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        final long required = Math.max(MINIMUM_CAPACITY, 2L * expectedSize);
+        if (required > (1 << 30)) {
+            throw new IllegalArgumentException("expectedSize is too large: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) required - 1) << 1;
+    }
+
+    private static int hash(final Object key) {
+        final int hash = key.hashCode() * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
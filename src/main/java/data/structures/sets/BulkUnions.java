@@ -0,0 +1,175 @@
+package data.structures.sets;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
+
+final class BulkUnions {
+    static final int PARALLEL_THRESHOLD = 1 << 15;
+    private static final int LEAF_SIZE = 1 << 12;
+
+    private BulkUnions() {
+    }
+
+    static int[][] splitPairs(final IntStream pairs) {
+        final int[] values = pairs.toArray();
+        if (0 != values.length % 2) {
+            throw new IllegalArgumentException("pairs must contain an even number of values");
+        }
+
+        final int[] left = new int[values.length / 2];
+        final int[] right = new int[values.length / 2];
+        for (int i = 0; i < left.length; i++) {
+            left[i] = values[2 * i];
+            right[i] = values[2 * i + 1];
+        }
+        return new int[][]{left, right};
+    }
+
+    static int[] spanningForest(
+            final IntDisjointSet target,
+            final int[] left,
+            final int[] right,
+            final ForkJoinPool pool
+    ) throws DisjointSet.UnableToIdentifyRootForValue {
+        final int[] forest = pool.invoke(new SpanningForestTask(target, left, right, 0, left.length));
+        if (null == forest) {
+            throw new DisjointSet.UnableToIdentifyRootForValue();
+        }
+        return forest;
+    }
+
+    static void unionAll(
+            final ConcurrentDisjointSet target,
+            final int[] left,
+            final int[] right,
+            final ForkJoinPool pool
+    ) {
+        pool.invoke(new ConcurrentUnionTask(target, left, right, 0, left.length));
+    }
+
+    private static class SpanningForestTask extends RecursiveTask<int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final IntDisjointSet target;
+        private final int[] left;
+        private final int[] right;
+        private final int from;
+        private final int to;
+
+        private SpanningForestTask(
+                final IntDisjointSet target,
+                final int[] left,
+                final int[] right,
+                final int from,
+                final int to
+        ) {
+            this.target = target;
+            this.left = left;
+            this.right = right;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (LEAF_SIZE >= to - from) {
+                return computeLeaf();
+            }
+
+            final int middle = (from + to) >>> 1;
+            final SpanningForestTask head = new SpanningForestTask(target, left, right, from, middle);
+            final SpanningForestTask tail = new SpanningForestTask(target, left, right, middle, to);
+            tail.fork();
+            final int[] headForest = head.compute();
+            final int[] tailForest = tail.join();
+            if (null == headForest || null == tailForest) {
+                return null;
+            }
+
+            return merge(headForest, tailForest);
+        }
+
+        private int[] computeLeaf() {
+            final IntDisjointSet forestSet = IntDisjointSet.createSparse(to - from);
+            final int[] forest = new int[2 * (to - from)];
+            int forestLength = 0;
+            for (int i = from; i < to; i++) {
+                final int slot1 = target.slotOf(left[i]);
+                final int slot2 = target.slotOf(right[i]);
+                if (IntDisjointSet.ABSENT == slot1 || IntDisjointSet.ABSENT == slot2) {
+                    return null;
+                }
+
+                final int root1 = target.findRootSlotWithoutCompression(slot1);
+                final int root2 = target.findRootSlotWithoutCompression(slot2);
+                if (root1 != root2 && forestSet.addAndUnion(root1, root2)) {
+                    forest[forestLength++] = root1;
+                    forest[forestLength++] = root2;
+                }
+            }
+
+            return Arrays.copyOf(forest, forestLength);
+        }
+
+        private static int[] merge(final int[] headForest, final int[] tailForest) {
+            final IntDisjointSet forestSet = IntDisjointSet.createSparse(headForest.length + tailForest.length);
+            final int[] forest = Arrays.copyOf(headForest, headForest.length + tailForest.length);
+            for (int i = 0; i < headForest.length; i += 2) {
+                forestSet.addAndUnion(headForest[i], headForest[i + 1]);
+            }
+
+            int forestLength = headForest.length;
+            for (int i = 0; i < tailForest.length; i += 2) {
+                if (forestSet.addAndUnion(tailForest[i], tailForest[i + 1])) {
+                    forest[forestLength++] = tailForest[i];
+                    forest[forestLength++] = tailForest[i + 1];
+                }
+            }
+
+            return Arrays.copyOf(forest, forestLength);
+        }
+    }
+
+    private static class ConcurrentUnionTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ConcurrentDisjointSet target;
+        private final int[] left;
+        private final int[] right;
+        private final int from;
+        private final int to;
+
+        private ConcurrentUnionTask(
+                final ConcurrentDisjointSet target,
+                final int[] left,
+                final int[] right,
+                final int from,
+                final int to
+        ) {
+            this.target = target;
+            this.left = left;
+            this.right = right;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (LEAF_SIZE >= to - from) {
+                for (int i = from; i < to; i++) {
+                    target.unionOf(left[i], right[i]);
+                }
+                return;
+            }
+
+            final int middle = (from + to) >>> 1;
+            invokeAll(
+                    new ConcurrentUnionTask(target, left, right, from, middle),
+                    new ConcurrentUnionTask(target, left, right, middle, to)
+            );
+        }
+    }
+}
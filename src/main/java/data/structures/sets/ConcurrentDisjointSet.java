@@ -0,0 +1,155 @@
+package data.structures.sets;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+public class ConcurrentDisjointSet {
+    public static ConcurrentDisjointSet create(final int size) {
+        if (0 > size) {
+            throw new IllegalArgumentException("size must be non-negative");
+        }
+
+        final AtomicIntegerArray parents = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            parents.set(i, i);
+        }
+        return new ConcurrentDisjointSet(parents);
+    }
+
+    private final AtomicIntegerArray parents;
+
+    private ConcurrentDisjointSet(final AtomicIntegerArray parents) {
+        this.parents = parents;
+    }
+
+    public int size() {
+        return parents.length();
+    }
+
+    public int findRoot(final int value) throws DisjointSet.UnableToIdentifyRootForValue {
+        return findRootOf(requireValue(value));
+    }
+
+    public void union(final int value1, final int value2) throws DisjointSet.UnableToIdentifyRootForValue {
+        unionOf(requireValue(value1), requireValue(value2));
+    }
+
+    public void unionAll(final int[] left, final int[] right) throws DisjointSet.UnableToIdentifyRootForValue {
+        unionAll(left, right, ForkJoinPool.commonPool());
+    }
+
+    public void unionAll(
+            final int[] left,
+            final int[] right,
+            final ForkJoinPool pool
+    ) throws DisjointSet.UnableToIdentifyRootForValue {
+        if (left.length != right.length) {
+            throw new IllegalArgumentException("left and right must have the same length");
+        }
+
+        for (int i = 0; i < left.length; i++) {
+            requireValue(left[i]);
+            requireValue(right[i]);
+        }
+
+        if (BulkUnions.PARALLEL_THRESHOLD > left.length || 1 == pool.getParallelism()) {
+            for (int i = 0; i < left.length; i++) {
+                unionOf(left[i], right[i]);
+            }
+            return;
+        }
+
+        BulkUnions.unionAll(this, left, right, pool);
+    }
+
+    public void unionAll(final IntStream pairs) throws DisjointSet.UnableToIdentifyRootForValue {
+        unionAll(pairs, ForkJoinPool.commonPool());
+    }
+
+    public void unionAll(final IntStream pairs, final ForkJoinPool pool) throws DisjointSet.UnableToIdentifyRootForValue {
+        final int[][] edges = BulkUnions.splitPairs(pairs);
+        unionAll(edges[0], edges[1], pool);
+    }
+
+    public boolean sameSet(final int value1, final int value2) throws DisjointSet.UnableToIdentifyRootForValue {
+        int root1 = requireValue(value1);
+        int root2 = requireValue(value2);
+        while (true) {
+            root1 = findRootOf(root1);
+            root2 = findRootOf(root2);
+            if (root1 == root2) {
+                return true;
+            }
+            if (parents.get(root1) == root1) {
+                return false;
+            }
+        }
+    }
+
+    int findRootOf(final int value) {
+        int current = value;
+        while (true) {
+            final int parent = parents.get(current);
+            final int grandparent = parents.get(parent);
+            if (parent == grandparent) {
+                return parent;
+            }
+            parents.compareAndSet(current, parent, grandparent);
+            current = grandparent;
+        }
+    }
+
+    int parentOf(final int value) {
+        return parents.get(value);
+    }
+
+    void compress(final int value) {
+        parents.set(value, findRootOf(value));
+    }
+
+    boolean unionOf(final int value1, final int value2) {
+        int root1 = value1;
+        int root2 = value2;
+        while (true) {
+            root1 = findRootOf(root1);
+            root2 = findRootOf(root2);
+            if (root1 == root2) {
+                return false;
+            }
+
+            final int childRoot;
+            final int parentRoot;
+            {
+                if (priorityOf(root1) < priorityOf(root2)) {
+                    childRoot = root1;
+                    parentRoot = root2;
+                } else {
+                    childRoot = root2;
+                    parentRoot = root1;
+                }
+            }
+
+            if (parents.compareAndSet(childRoot, childRoot, parentRoot)) {
+                return true;
+            }
+        }
+    }
+
+    private int requireValue(final int value) throws DisjointSet.UnableToIdentifyRootForValue {
+        if (0 > value || value >= parents.length()) {
+            throw new DisjointSet.UnableToIdentifyRootForValue();
+        }
+        return value;
+    }
+
+    private static int priorityOf(final int value) {
+        int hash = value;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
@@ -0,0 +1,240 @@
+package data.structures.sets;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public class ConnectedComponents {
+    public enum Mode {
+        SEQUENTIAL,
+        PARALLEL
+    }
+
+    public interface EdgeSource {
+        interface BatchConsumer {
+            void accept(int[] left, int[] right, int length) throws DisjointSet.UnableToIdentifyRootForValue;
+        }
+
+        int BATCH_SIZE = 1 << 16;
+
+        void forEachBatch(BatchConsumer consumer) throws DisjointSet.UnableToIdentifyRootForValue;
+
+        static EdgeSource of(final int[] left, final int[] right) {
+            if (left.length != right.length) {
+                throw new IllegalArgumentException("left and right must have the same length");
+            }
+
+            return consumer -> consumer.accept(left, right, left.length);
+        }
+
+        static EdgeSource of(final ByteBuffer packedPairs) {
+            if (0 != packedPairs.remaining() % (2 * Integer.BYTES)) {
+                throw new IllegalArgumentException("packedPairs must contain a whole number of int pairs");
+            }
+
+            return consumer -> {
+                final IntBuffer pairs = packedPairs.duplicate().order(packedPairs.order()).asIntBuffer();
+                final int[] values = new int[2 * Math.min(BATCH_SIZE, pairs.remaining() / 2)];
+                final int[] left = new int[values.length / 2];
+                final int[] right = new int[values.length / 2];
+                while (pairs.hasRemaining()) {
+                    final int length = Math.min(left.length, pairs.remaining() / 2);
+                    pairs.get(values, 0, 2 * length);
+                    for (int i = 0; i < length; i++) {
+                        left[i] = values[2 * i];
+                        right[i] = values[2 * i + 1];
+                    }
+                    consumer.accept(left, right, length);
+                }
+            };
+        }
+
+        static EdgeSource of(final PrimitiveIterator.OfInt pairs) {
+            return consumer -> {
+                final int[] left = new int[BATCH_SIZE];
+                final int[] right = new int[BATCH_SIZE];
+                while (pairs.hasNext()) {
+                    int length = 0;
+                    while (length < BATCH_SIZE && pairs.hasNext()) {
+                        left[length] = pairs.nextInt();
+                        if (!pairs.hasNext()) {
+                            throw new IllegalArgumentException("pairs must contain an even number of values");
+                        }
+                        right[length] = pairs.nextInt();
+                        length++;
+                    }
+                    consumer.accept(left, right, length);
+                }
+            };
+        }
+    }
+
+    private static final int SAMPLE_STRIDE = 8;
+
+    public static ConnectedComponents compute(
+            final int vertexCount,
+            final EdgeSource edges
+    ) throws DisjointSet.UnableToIdentifyRootForValue {
+        return compute(vertexCount, edges, Mode.PARALLEL, ForkJoinPool.commonPool());
+    }
+
+    public static ConnectedComponents compute(
+            final int vertexCount,
+            final EdgeSource edges,
+            final Mode mode
+    ) throws DisjointSet.UnableToIdentifyRootForValue {
+        return compute(vertexCount, edges, mode, ForkJoinPool.commonPool());
+    }
+
+    public static ConnectedComponents compute(
+            final int vertexCount,
+            final EdgeSource edges,
+            final Mode mode,
+            final ForkJoinPool pool
+    ) throws DisjointSet.UnableToIdentifyRootForValue {
+        if (0 > vertexCount) {
+            throw new IllegalArgumentException("vertexCount must be non-negative");
+        }
+
+        final int[] roots = Mode.SEQUENTIAL == mode
+                ? computeRootsSequentially(vertexCount, edges)
+                : computeRootsInParallel(vertexCount, edges, pool);
+        return label(roots);
+    }
+
+    private static int[] computeRootsSequentially(
+            final int vertexCount,
+            final EdgeSource edges
+    ) throws DisjointSet.UnableToIdentifyRootForValue {
+        final IntDisjointSet disjointSet = IntDisjointSet.createDense(vertexCount);
+        for (int i = 0; i < vertexCount; i++) {
+            disjointSet.add(i);
+        }
+
+        edges.forEachBatch((left, right, length) -> {
+            requireVertices(vertexCount, left, right, length);
+            for (int i = 0; i < length; i++) {
+                disjointSet.unionSlots(left[i], right[i]);
+            }
+        });
+
+        final int[] roots = new int[vertexCount];
+        for (int i = 0; i < vertexCount; i++) {
+            roots[i] = disjointSet.findRootSlotWithoutCompression(i);
+        }
+        return roots;
+    }
+
+    private static int[] computeRootsInParallel(
+            final int vertexCount,
+            final EdgeSource edges,
+            final ForkJoinPool pool
+    ) throws DisjointSet.UnableToIdentifyRootForValue {
+        final ConcurrentDisjointSet disjointSet = ConcurrentDisjointSet.create(vertexCount);
+
+        edges.forEachBatch((left, right, length) -> {
+            requireVertices(vertexCount, left, right, length);
+            pool.submit(
+                    () -> IntStream
+                            .range(0, (length + SAMPLE_STRIDE - 1) / SAMPLE_STRIDE)
+                            .parallel()
+                            .forEach(i -> disjointSet.unionOf(left[i * SAMPLE_STRIDE], right[i * SAMPLE_STRIDE]))
+            ).join();
+            // only this batch's endpoints are read below, so compressing them keeps each batch O(length)
+            pool.submit(
+                    () -> IntStream
+                            .range(0, length)
+                            .parallel()
+                            .forEach(i -> {
+                                disjointSet.compress(left[i]);
+                                disjointSet.compress(right[i]);
+                            })
+            ).join();
+            // edges whose endpoints already share a parent after sampling are skipped without a find walk; Afforest's
+            // largest-component skip needs both directions of every edge, which an edge list does not guarantee
+            pool.submit(
+                    () -> IntStream
+                            .range(0, length)
+                            .parallel()
+                            .filter(i -> 0 != i % SAMPLE_STRIDE)
+                            .forEach(i -> {
+                                if (disjointSet.parentOf(left[i]) != disjointSet.parentOf(right[i])) {
+                                    disjointSet.unionOf(left[i], right[i]);
+                                }
+                            })
+            ).join();
+        });
+
+        final int[] roots = new int[vertexCount];
+        pool.submit(
+                () -> IntStream
+                        .range(0, vertexCount)
+                        .parallel()
+                        .forEach(i -> roots[i] = disjointSet.findRootOf(i))
+        ).join();
+        return roots;
+    }
+
+    private static void requireVertices(
+            final int vertexCount,
+            final int[] left,
+            final int[] right,
+            final int length
+    ) throws DisjointSet.UnableToIdentifyRootForValue {
+        for (int i = 0; i < length; i++) {
+            if (0 > left[i] || left[i] >= vertexCount || 0 > right[i] || right[i] >= vertexCount) {
+                throw new DisjointSet.UnableToIdentifyRootForValue();
+            }
+        }
+    }
+
+    private static ConnectedComponents label(final int[] roots) {
+        final int[] componentIdsByRoot = new int[roots.length];
+        final int[] componentIds = new int[roots.length];
+        int componentCount = 0;
+        for (int i = 0; i < roots.length; i++) {
+            final int root = roots[i];
+            if (0 == componentIdsByRoot[root]) {
+                componentIdsByRoot[root] = ++componentCount;
+            }
+            componentIds[i] = componentIdsByRoot[root] - 1;
+        }
+
+        final int[] componentSizes = new int[componentCount];
+        for (final int componentId : componentIds) {
+            componentSizes[componentId]++;
+        }
+
+        return new ConnectedComponents(componentIds, componentSizes);
+    }
+
+    private final int[] componentIds;
+    private final int[] componentSizes;
+
+    private ConnectedComponents(final int[] componentIds, final int[] componentSizes) {
+        this.componentIds = componentIds;
+        this.componentSizes = componentSizes;
+    }
+
+    public int[] getComponentIds() {
+        return componentIds.clone();
+    }
+
+    public int[] getComponentSizes() {
+        return componentSizes.clone();
+    }
+
+    public int getComponentCount() {
+        return componentSizes.length;
+    }
+
+    public int getComponentId(final int vertex) {
+        return componentIds[vertex];
+    }
+
+    public int getComponentSize(final int vertex) {
+        return componentSizes[componentIds[vertex]];
+    }
+}
@@ -0,0 +1,469 @@
+package data.structures.sets;
+
+import data.structures.maps.IntIntOpenHashMap;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+public class IntDisjointSet {
+    public enum FindStrategy {
+        PATH_COMPRESSION,
+        PATH_HALVING,
+        PATH_SPLITTING
+    }
+
+    public enum UnionStrategy {
+        BY_SIZE,
+        BY_RANK
+    }
+
+    public interface MergeListener {
+        void onMerge(int parentRoot, int childRoot);
+    }
+
+    private static final MergeListener[] NO_MERGE_LISTENERS = new MergeListener[0];
+    static final int ABSENT = -1;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    public static IntDisjointSet create(final Set<Integer> values) {
+        return create(values, FindStrategy.PATH_COMPRESSION, UnionStrategy.BY_SIZE);
+    }
+
+    public static IntDisjointSet create(
+            final Set<Integer> values,
+            final FindStrategy findStrategy,
+            final UnionStrategy unionStrategy
+    ) {
+        final IntDisjointSet disjointSet = createSparse(values.size(), findStrategy, unionStrategy);
+        for (final int value : values) {
+            disjointSet.add(value);
+        }
+        return disjointSet;
+    }
+
+    public static IntDisjointSet createDense(final int capacity) {
+        return createDense(capacity, FindStrategy.PATH_COMPRESSION, UnionStrategy.BY_SIZE);
+    }
+
+    public static IntDisjointSet createDense(
+            final int capacity,
+            final FindStrategy findStrategy,
+            final UnionStrategy unionStrategy
+    ) {
+        if (0 > capacity || MAXIMUM_CAPACITY < capacity) {
+            throw new IllegalArgumentException("capacity must be between 0 and " + MAXIMUM_CAPACITY);
+        }
+
+        final int[] parents = new int[Math.max(capacity, DEFAULT_CAPACITY)];
+        Arrays.fill(parents, ABSENT);
+        return new IntDisjointSet(
+                parents,
+                new int[parents.length],
+                createRanks(parents.length, unionStrategy),
+                null,
+                null,
+                findStrategy,
+                unionStrategy
+        );
+    }
+
+    public static IntDisjointSet createSparse(final int expectedSize) {
+        return createSparse(expectedSize, FindStrategy.PATH_COMPRESSION, UnionStrategy.BY_SIZE);
+    }
+
+    public static IntDisjointSet createSparse(
+            final int expectedSize,
+            final FindStrategy findStrategy,
+            final UnionStrategy unionStrategy
+    ) {
+        if (0 > expectedSize) {
+            throw new IllegalArgumentException("expectedSize must be non-negative");
+        }
+
+        final int capacity = Math.max(expectedSize, DEFAULT_CAPACITY);
+        return new IntDisjointSet(
+                new int[capacity],
+                new int[capacity],
+                createRanks(capacity, unionStrategy),
+                new IntIntOpenHashMap(expectedSize, ABSENT),
+                new int[capacity],
+                findStrategy,
+                unionStrategy
+        );
+    }
+
+    private static byte[] createRanks(final int capacity, final UnionStrategy unionStrategy) {
+        return UnionStrategy.BY_RANK == unionStrategy ? new byte[capacity] : null;
+    }
+
+    private int[] parents;
+    private int[] sizes;
+    private int[] nextMembers;
+    private byte[] ranks;
+    private final IntIntOpenHashMap slotsByValue;
+    private int[] valuesBySlot;
+    private final FindStrategy findStrategy;
+    private final UnionStrategy unionStrategy;
+    private int slotCount;
+    private int componentCount;
+    private MergeListener[] mergeListeners = NO_MERGE_LISTENERS;
+
+    private IntDisjointSet(
+            final int[] parents,
+            final int[] sizes,
+            final byte[] ranks,
+            final IntIntOpenHashMap slotsByValue,
+            final int[] valuesBySlot,
+            final FindStrategy findStrategy,
+            final UnionStrategy unionStrategy
+    ) {
+        this.parents = parents;
+        this.sizes = sizes;
+        this.nextMembers = new int[parents.length];
+        this.ranks = ranks;
+        this.slotsByValue = slotsByValue;
+        this.valuesBySlot = valuesBySlot;
+        this.findStrategy = findStrategy;
+        this.unionStrategy = unionStrategy;
+    }
+
+    public FindStrategy getFindStrategy() {
+        return findStrategy;
+    }
+
+    public UnionStrategy getUnionStrategy() {
+        return unionStrategy;
+    }
+
+    public boolean isDense() {
+        return null == slotsByValue;
+    }
+
+    public int size() {
+        return slotCount;
+    }
+
+    public int componentCount() {
+        return componentCount;
+    }
+
+    public int componentSize(final int value) throws DisjointSet.UnableToIdentifyRootForValue {
+        return sizes[findRootSlot(requireSlot(value))];
+    }
+
+    public PrimitiveIterator.OfInt members(final int value) throws DisjointSet.UnableToIdentifyRootForValue {
+        final int firstSlot = requireSlot(value);
+        return new PrimitiveIterator.OfInt() {
+            private int slot = firstSlot;
+            private boolean hasNext = true;
+
+            @Override
+            public boolean hasNext() {
+                return hasNext;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext) {
+                    throw new NoSuchElementException();
+                }
+
+                final int member = valueOf(slot);
+                slot = nextMembers[slot];
+                hasNext = slot != firstSlot;
+                return member;
+            }
+        };
+    }
+
+    public void forEachMember(final int value, final IntConsumer consumer) throws DisjointSet.UnableToIdentifyRootForValue {
+        final int firstSlot = requireSlot(value);
+        int slot = firstSlot;
+        do {
+            consumer.accept(valueOf(slot));
+            slot = nextMembers[slot];
+        } while (slot != firstSlot);
+    }
+
+    public void addMergeListener(final MergeListener mergeListener) {
+        final MergeListener[] listeners = Arrays.copyOf(mergeListeners, mergeListeners.length + 1);
+        listeners[mergeListeners.length] = mergeListener;
+        mergeListeners = listeners;
+    }
+
+    public void removeMergeListener(final MergeListener mergeListener) {
+        for (int i = 0; i < mergeListeners.length; i++) {
+            if (mergeListeners[i] == mergeListener) {
+                final MergeListener[] listeners = new MergeListener[mergeListeners.length - 1];
+                System.arraycopy(mergeListeners, 0, listeners, 0, i);
+                System.arraycopy(mergeListeners, i + 1, listeners, i, listeners.length - i);
+                mergeListeners = listeners;
+                return;
+            }
+        }
+    }
+
+    public boolean contains(final int value) {
+        return ABSENT != slotOf(value);
+    }
+
+    public void add(final int value) {
+        if (isDense()) {
+            if (0 > value) {
+                throw new IllegalArgumentException("dense values must be non-negative");
+            }
+            if (MAXIMUM_CAPACITY <= value) {
+                throw new IllegalArgumentException("dense values must be below " + MAXIMUM_CAPACITY + "; use a sparse set for larger values");
+            }
+            ensureSlotCapacity(value + 1L);
+            if (ABSENT == parents[value]) {
+                parents[value] = value;
+                sizes[value] = 1;
+                nextMembers[value] = value;
+                slotCount++;
+                componentCount++;
+            }
+            return;
+        }
+
+        if (!slotsByValue.containsKey(value)) {
+            final int slot = slotCount;
+            ensureSlotCapacity(slot + 1L);
+            slotsByValue.put(value, slot);
+            valuesBySlot[slot] = value;
+            parents[slot] = slot;
+            sizes[slot] = 1;
+            nextMembers[slot] = slot;
+            slotCount++;
+            componentCount++;
+        }
+    }
+
+    public int findRoot(final int value) throws DisjointSet.UnableToIdentifyRootForValue {
+        return valueOf(findRootSlot(requireSlot(value)));
+    }
+
+    public void union(final int value1, final int value2) throws DisjointSet.UnableToIdentifyRootForValue {
+        final int slot1 = requireSlot(value1);
+        final int slot2 = requireSlot(value2);
+        final int root1 = findRootSlot(slot1);
+        final int root2 = findRootSlot(slot2);
+
+        if (root1 != root2) {
+            linkRoots(root1, root2);
+        }
+    }
+
+    public void unionAll(final int[] left, final int[] right) throws DisjointSet.UnableToIdentifyRootForValue {
+        unionAll(left, right, ForkJoinPool.commonPool());
+    }
+
+    public void unionAll(
+            final int[] left,
+            final int[] right,
+            final ForkJoinPool pool
+    ) throws DisjointSet.UnableToIdentifyRootForValue {
+        if (left.length != right.length) {
+            throw new IllegalArgumentException("left and right must have the same length");
+        }
+
+        if (BulkUnions.PARALLEL_THRESHOLD > left.length || 1 == pool.getParallelism()) {
+            for (int i = 0; i < left.length; i++) {
+                requireSlot(left[i]);
+                requireSlot(right[i]);
+            }
+            for (int i = 0; i < left.length; i++) {
+                unionSlots(slotOf(left[i]), slotOf(right[i]));
+            }
+            return;
+        }
+
+        final int[] forest = BulkUnions.spanningForest(this, left, right, pool);
+        for (int i = 0; i < forest.length; i += 2) {
+            unionSlots(forest[i], forest[i + 1]);
+        }
+    }
+
+    public void unionAll(final IntStream pairs) throws DisjointSet.UnableToIdentifyRootForValue {
+        unionAll(pairs, ForkJoinPool.commonPool());
+    }
+
+    public void unionAll(final IntStream pairs, final ForkJoinPool pool) throws DisjointSet.UnableToIdentifyRootForValue {
+        final int[][] edges = BulkUnions.splitPairs(pairs);
+        unionAll(edges[0], edges[1], pool);
+    }
+
+    void ensureCapacity(final int expectedSize) {
+        ensureSlotCapacity(expectedSize);
+        if (!isDense()) {
+            slotsByValue.ensureCapacity(expectedSize);
+        }
+    }
+
+    boolean addAndUnion(final int value1, final int value2) {
+        add(value1);
+        add(value2);
+        return unionSlots(slotOf(value1), slotOf(value2));
+    }
+
+    boolean unionSlots(final int slot1, final int slot2) {
+        final int root1 = findRootSlot(slot1);
+        final int root2 = findRootSlot(slot2);
+        if (root1 == root2) {
+            return false;
+        }
+
+        linkRoots(root1, root2);
+        return true;
+    }
+
+    int findRootSlotWithoutCompression(final int slot) {
+        int current = slot;
+        while (parents[current] != current) {
+            current = parents[current];
+        }
+        return current;
+    }
+
+    private void linkRoots(final int root1, final int root2) {
+        final int parentRoot;
+        final int childRoot;
+        {
+            final boolean root1IsSmaller;
+            if (UnionStrategy.BY_RANK == unionStrategy) {
+                final byte root1Rank = ranks[root1];
+                final byte root2Rank = ranks[root2];
+                if (root1Rank == root2Rank) {
+                    ranks[root1]++;
+                }
+                root1IsSmaller = root1Rank < root2Rank;
+            } else {
+                root1IsSmaller = sizes[root1] < sizes[root2];
+            }
+
+            if (root1IsSmaller) {
+                parentRoot = root2;
+                childRoot = root1;
+            } else {
+                parentRoot = root1;
+                childRoot = root2;
+            }
+        }
+
+        parents[childRoot] = parentRoot;
+        sizes[parentRoot] += sizes[childRoot];
+        componentCount--;
+
+        final int parentNext = nextMembers[parentRoot];
+        nextMembers[parentRoot] = nextMembers[childRoot];
+        nextMembers[childRoot] = parentNext;
+
+        final MergeListener[] listeners = mergeListeners;
+        if (0 < listeners.length) {
+            final int parentValue = valueOf(parentRoot);
+            final int childValue = valueOf(childRoot);
+            for (final MergeListener listener : listeners) {
+                listener.onMerge(parentValue, childValue);
+            }
+        }
+    }
+
+    private int findRootSlot(final int slot) {
+        switch (findStrategy) {
+            case PATH_HALVING:
+                return findRootSlotWithPathHalving(slot);
+            case PATH_SPLITTING:
+                return findRootSlotWithPathSplitting(slot);
+            default:
+                return findRootSlotWithPathCompression(slot);
+        }
+    }
+
+    private int findRootSlotWithPathCompression(final int slot) {
+        int root = slot;
+        while (parents[root] != root) {
+            root = parents[root];
+        }
+
+        int current = slot;
+        while (current != root) {
+            final int parent = parents[current];
+            parents[current] = root;
+            current = parent;
+        }
+
+        return root;
+    }
+
+    private int findRootSlotWithPathHalving(final int slot) {
+        int current = slot;
+        while (parents[current] != current) {
+            final int grandparent = parents[parents[current]];
+            parents[current] = grandparent;
+            current = grandparent;
+        }
+
+        return current;
+    }
+
+    private int findRootSlotWithPathSplitting(final int slot) {
+        int current = slot;
+        while (parents[current] != current) {
+            final int parent = parents[current];
+            parents[current] = parents[parent];
+            current = parent;
+        }
+
+        return current;
+    }
+
+    private int requireSlot(final int value) throws DisjointSet.UnableToIdentifyRootForValue {
+        final int slot = slotOf(value);
+        if (ABSENT == slot) {
+            throw new DisjointSet.UnableToIdentifyRootForValue();
+        }
+        return slot;
+    }
+
+    int slotOf(final int value) {
+        if (isDense()) {
+            if (0 > value || value >= parents.length || ABSENT == parents[value]) {
+                return ABSENT;
+            }
+            return value;
+        }
+
+        return slotsByValue.get(value);
+    }
+
+    private int valueOf(final int slot) {
+        return isDense() ? slot : valuesBySlot[slot];
+    }
+
+    private void ensureSlotCapacity(final long required) {
+        if (required > parents.length) {
+            if (MAXIMUM_CAPACITY < required) {
+                throw new IllegalArgumentException("cannot hold more than " + MAXIMUM_CAPACITY + " slots");
+            }
+            final int capacity = (int) Math.min(MAXIMUM_CAPACITY, Math.max(required, 2L * parents.length));
+            final int previousCapacity = parents.length;
+            parents = Arrays.copyOf(parents, capacity);
+            sizes = Arrays.copyOf(sizes, capacity);
+            nextMembers = Arrays.copyOf(nextMembers, capacity);
+            if (null != ranks) {
+                ranks = Arrays.copyOf(ranks, capacity);
+            }
+            if (isDense()) {
+                Arrays.fill(parents, previousCapacity, capacity, ABSENT);
+            } else {
+                valuesBySlot = Arrays.copyOf(valuesBySlot, capacity);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package data.structures.sets;
+
+import data.structures.maps.Interner;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+
+public class KeyedDisjointSet<T> {
+    public static <T> KeyedDisjointSet<T> create(final Set<T> values) {
+        final KeyedDisjointSet<T> disjointSet = create(values.size());
+        disjointSet.addAll(values);
+        return disjointSet;
+    }
+
+    public static <T> KeyedDisjointSet<T> create(final int expectedSize) {
+        return new KeyedDisjointSet<>(new Interner<>(expectedSize), IntDisjointSet.createDense(expectedSize));
+    }
+
+    private final Interner<T> interner;
+    private final IntDisjointSet disjointSet;
+
+    private KeyedDisjointSet(final Interner<T> interner, final IntDisjointSet disjointSet) {
+        this.interner = interner;
+        this.disjointSet = disjointSet;
+    }
+
+    public int size() {
+        return interner.size();
+    }
+
+    public boolean contains(final T value) {
+        return Interner.ABSENT != interner.idOf(Objects.requireNonNull(value));
+    }
+
+    public void add(final T value) {
+        disjointSet.add(interner.intern(Objects.requireNonNull(value)));
+    }
+
+    public void addAll(final Collection<? extends T> values) {
+        final int expectedSize = interner.size() + values.size();
+        interner.ensureCapacity(expectedSize);
+        disjointSet.ensureCapacity(expectedSize);
+        for (final T value : values) {
+            add(value);
+        }
+    }
+
+    public T findRoot(final T value) throws DisjointSet.UnableToIdentifyRootForValue {
+        return interner.keyOf(disjointSet.findRoot(requireId(value)));
+    }
+
+    public void union(final T value1, final T value2) throws DisjointSet.UnableToIdentifyRootForValue {
+        disjointSet.union(requireId(value1), requireId(value2));
+    }
+
+    public boolean sameSet(final T value1, final T value2) throws DisjointSet.UnableToIdentifyRootForValue {
+        return disjointSet.findRoot(requireId(value1)) == disjointSet.findRoot(requireId(value2));
+    }
+
+    public int componentSize(final T value) throws DisjointSet.UnableToIdentifyRootForValue {
+        return disjointSet.componentSize(requireId(value));
+    }
+
+    public int componentCount() {
+        return disjointSet.componentCount();
+    }
+
+    private int requireId(final T value) throws DisjointSet.UnableToIdentifyRootForValue {
+        final int id = interner.idOf(Objects.requireNonNull(value));
+        if (Interner.ABSENT == id) {
+            throw new DisjointSet.UnableToIdentifyRootForValue();
+        }
+        return id;
+    }
+}
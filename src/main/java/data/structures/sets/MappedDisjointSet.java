@@ -0,0 +1,190 @@
+package data.structures.sets;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class MappedDisjointSet implements Closeable {
+    public static class InvalidFileFormat extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        public InvalidFileFormat(final String message) {
+            super(message);
+        }
+    }
+
+    private static final int MAGIC = 0x44534A53;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int CHUNK_SHIFT = 28;
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    public static MappedDisjointSet create(final Path path, final int size) throws IOException {
+        if (0 > size) {
+            throw new IllegalArgumentException("size must be non-negative");
+        }
+
+        final FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        );
+        try {
+            final MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(0, MAGIC);
+            header.putInt(4, VERSION);
+            header.putInt(8, size);
+
+            final MappedDisjointSet disjointSet = new MappedDisjointSet(channel, header, size);
+            for (int i = 0; i < size; i++) {
+                disjointSet.setParent(i, i);
+                disjointSet.setSize(i, 1);
+            }
+            return disjointSet;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public static MappedDisjointSet open(final Path path) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (HEADER_BYTES > channel.size()) {
+                throw new InvalidFileFormat("File is too small to contain a header: " + path);
+            }
+
+            final MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.order(ByteOrder.LITTLE_ENDIAN);
+            if (MAGIC != header.getInt(0)) {
+                throw new InvalidFileFormat("Unexpected magic number in " + path);
+            }
+            if (VERSION != header.getInt(4)) {
+                throw new InvalidFileFormat("Unsupported version " + header.getInt(4) + " in " + path);
+            }
+
+            final int size = header.getInt(8);
+            if (0 > size || HEADER_BYTES + 8L * size > channel.size()) {
+                throw new InvalidFileFormat("File is truncated: " + path);
+            }
+
+            return new MappedDisjointSet(channel, header, size);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer[] parents;
+    private final MappedByteBuffer[] sizes;
+    private final int size;
+
+    private MappedDisjointSet(final FileChannel channel, final MappedByteBuffer header, final int size) throws IOException {
+        this.channel = channel;
+        this.header = header;
+        this.size = size;
+        this.parents = map(channel, HEADER_BYTES, size);
+        this.sizes = map(channel, HEADER_BYTES + 4L * size, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int findRoot(final int value) throws DisjointSet.UnableToIdentifyRootForValue {
+        return findRootOf(requireValue(value));
+    }
+
+    public void union(final int value1, final int value2) throws DisjointSet.UnableToIdentifyRootForValue {
+        final int root1 = findRootOf(requireValue(value1));
+        final int root2 = findRootOf(requireValue(value2));
+
+        if (root1 != root2) {
+            final int root1Size = getSize(root1);
+            final int root2Size = getSize(root2);
+            final int parentRoot;
+            final int childRoot;
+            {
+                if (root1Size < root2Size) {
+                    parentRoot = root2;
+                    childRoot = root1;
+                } else {
+                    parentRoot = root1;
+                    childRoot = root2;
+                }
+            }
+
+            setParent(childRoot, parentRoot);
+            setSize(parentRoot, root1Size + root2Size);
+        }
+    }
+
+    public void force() {
+        header.force();
+        for (final MappedByteBuffer chunk : parents) {
+            chunk.force();
+        }
+        for (final MappedByteBuffer chunk : sizes) {
+            chunk.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private int findRootOf(final int value) {
+        int current = value;
+        while (getParent(current) != current) {
+            final int grandparent = getParent(getParent(current));
+            setParent(current, grandparent);
+            current = grandparent;
+        }
+        return current;
+    }
+
+    private int requireValue(final int value) throws DisjointSet.UnableToIdentifyRootForValue {
+        if (0 > value || value >= size) {
+            throw new DisjointSet.UnableToIdentifyRootForValue();
+        }
+        return value;
+    }
+
+    private int getParent(final int value) {
+        return parents[value >>> CHUNK_SHIFT].getInt((value & CHUNK_MASK) << 2);
+    }
+
+    private void setParent(final int value, final int parent) {
+        parents[value >>> CHUNK_SHIFT].putInt((value & CHUNK_MASK) << 2, parent);
+    }
+
+    private int getSize(final int value) {
+        return sizes[value >>> CHUNK_SHIFT].getInt((value & CHUNK_MASK) << 2);
+    }
+
+    private void setSize(final int value, final int size) {
+        sizes[value >>> CHUNK_SHIFT].putInt((value & CHUNK_MASK) << 2, size);
+    }
+
+    private static MappedByteBuffer[] map(final FileChannel channel, final long offset, final int length) throws IOException {
+        final int chunkCount = (int) ((length + (long) CHUNK_MASK) >>> CHUNK_SHIFT);
+        final MappedByteBuffer[] chunks = new MappedByteBuffer[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            final long chunkStart = (long) i << CHUNK_SHIFT;
+            final long chunkLength = Math.min(1L << CHUNK_SHIFT, length - chunkStart);
+            chunks[i] = channel.map(FileChannel.MapMode.READ_WRITE, offset + 4 * chunkStart, 4 * chunkLength);
+            chunks[i].order(ByteOrder.LITTLE_ENDIAN);
+        }
+        return chunks;
+    }
+}
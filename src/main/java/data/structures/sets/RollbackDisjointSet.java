@@ -0,0 +1,108 @@
+package data.structures.sets;
+
+import java.util.Arrays;
+
+public class RollbackDisjointSet {
+    public static RollbackDisjointSet create(final int size) {
+        if (0 > size) {
+            throw new IllegalArgumentException("size must be non-negative");
+        }
+
+        final int[] parents = new int[size];
+        final int[] sizes = new int[size];
+        for (int i = 0; i < size; i++) {
+            parents[i] = i;
+            sizes[i] = 1;
+        }
+        return new RollbackDisjointSet(parents, sizes);
+    }
+
+    private final int[] parents;
+    private final int[] sizes;
+    private int[] linkedChildRoots;
+    private int linkCount;
+
+    private RollbackDisjointSet(final int[] parents, final int[] sizes) {
+        this.parents = parents;
+        this.sizes = sizes;
+        this.linkedChildRoots = new int[16];
+    }
+
+    public int size() {
+        return parents.length;
+    }
+
+    public int componentCount() {
+        return parents.length - linkCount;
+    }
+
+    public int componentSize(final int value) throws DisjointSet.UnableToIdentifyRootForValue {
+        return sizes[findRootOf(requireValue(value))];
+    }
+
+    public int findRoot(final int value) throws DisjointSet.UnableToIdentifyRootForValue {
+        return findRootOf(requireValue(value));
+    }
+
+    public boolean sameSet(final int value1, final int value2) throws DisjointSet.UnableToIdentifyRootForValue {
+        return findRootOf(requireValue(value1)) == findRootOf(requireValue(value2));
+    }
+
+    public void union(final int value1, final int value2) throws DisjointSet.UnableToIdentifyRootForValue {
+        final int root1 = findRootOf(requireValue(value1));
+        final int root2 = findRootOf(requireValue(value2));
+
+        if (root1 != root2) {
+            final int parentRoot;
+            final int childRoot;
+            {
+                if (sizes[root1] < sizes[root2]) {
+                    parentRoot = root2;
+                    childRoot = root1;
+                } else {
+                    parentRoot = root1;
+                    childRoot = root2;
+                }
+            }
+
+            if (linkCount == linkedChildRoots.length) {
+                linkedChildRoots = Arrays.copyOf(linkedChildRoots, 2 * linkedChildRoots.length);
+            }
+            linkedChildRoots[linkCount++] = childRoot;
+            parents[childRoot] = parentRoot;
+            sizes[parentRoot] += sizes[childRoot];
+        }
+    }
+
+    public int checkpoint() {
+        return linkCount;
+    }
+
+    public void rollback(final int checkpoint) {
+        if (0 > checkpoint || checkpoint > linkCount) {
+            throw new IllegalArgumentException("checkpoint " + checkpoint + " is not reachable from " + linkCount);
+        }
+
+        while (linkCount > checkpoint) {
+            final int childRoot = linkedChildRoots[--linkCount];
+            final int parentRoot = parents[childRoot];
+            sizes[parentRoot] -= sizes[childRoot];
+            parents[childRoot] = childRoot;
+        }
+    }
+
+    private int findRootOf(final int value) {
+        int current = value;
+        while (parents[current] != current) {
+            current = parents[current];
+        }
+        return current;
+    }
+
+    private int requireValue(final int value) throws DisjointSet.UnableToIdentifyRootForValue {
+        if (0 > value || value >= parents.length) {
+            throw new DisjointSet.UnableToIdentifyRootForValue();
+        }
+        return value;
+    }
+}
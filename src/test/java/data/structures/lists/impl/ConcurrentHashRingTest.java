@@ -0,0 +1,156 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing;
+import junit.framework.TestCase;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ConcurrentHashRingTest extends TestCase {
+
+    public void test() throws HashRing.AtLeastOneNodeMustExist {
+        try {
+            new ConcurrentHashRing<Integer, Integer>(Collections.emptySet(), HashRing.Position::new);
+            throw new RuntimeException("unexpected");
+        } catch (HashRing.AtLeastOneNodeMustExist e) {
+            // expected
+        }
+
+        final ConcurrentHashRing<Integer, Integer> hashRing = ConcurrentHashRing.create(Set.of(new HashRing.Position(100)), key -> key);
+        for (int i = 0; i <= 200; i++) {
+            hashRing.addEntry(i, i);
+        }
+
+        hashRing.addNode(new HashRing.Position(50));
+        hashRing.addNode(new HashRing.Position(150));
+        hashRing.addNode(new HashRing.Position(150));
+        Assert.assertEquals(3, hashRing.getNodeCount());
+        for (int i = 0; i <= 200; i++) {
+            Assert.assertEquals(Optional.of(i), hashRing.getValue(i));
+        }
+
+        hashRing.removeNode(new HashRing.Position(100));
+        hashRing.removeNode(new HashRing.Position(50));
+        for (int i = 0; i <= 200; i++) {
+            Assert.assertEquals(Integer.valueOf(i), hashRing.get(i));
+        }
+        Assert.assertEquals(Optional.of(3), hashRing.removeEntry(3));
+        Assert.assertNull(hashRing.get(3));
+
+        try {
+            hashRing.removeNode(new HashRing.Position(150));
+            throw new RuntimeException("unexpected");
+        } catch (HashRing.AtLeastOneNodeMustExist e) {
+            // expected
+        }
+    }
+
+    public void testReadsStayConsistentDuringTopologyChanges() throws Exception {
+        final int keyCount = 50_000;
+        final ConcurrentHashRing<Integer, Integer> hashRing = ConcurrentHashRing.create(
+                Set.of(new HashRing.Position(0)),
+                key -> key * 40_000 & Integer.MAX_VALUE
+        );
+        for (int i = 0; i < keyCount; i++) {
+            hashRing.addEntry(i, i);
+        }
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> tasks = new ArrayList<>();
+            for (int reader = 0; reader < 3; reader++) {
+                final int seed = reader;
+                tasks.add(executor.submit(() -> {
+                    final Random random = new Random(seed);
+                    while (running.get()) {
+                        final int key = random.nextInt(keyCount);
+                        Assert.assertEquals(Integer.valueOf(key), hashRing.get(key));
+                    }
+                    return null;
+                }));
+            }
+            tasks.add(executor.submit(() -> {
+                final Random random = new Random(42);
+                final List<HashRing.Position> added = new ArrayList<>();
+                for (int i = 0; i < 200; i++) {
+                    if (added.isEmpty() || random.nextBoolean()) {
+                        final HashRing.Position position = new HashRing.Position(1 + random.nextInt(Integer.MAX_VALUE - 1));
+                        hashRing.addNode(position);
+                        added.add(position);
+                    } else {
+                        hashRing.removeNode(added.remove(random.nextInt(added.size())));
+                    }
+                    final int key = random.nextInt(keyCount);
+                    hashRing.addEntry(key, key);
+                }
+                running.set(false);
+                return null;
+            }));
+
+            for (final Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            running.set(false);
+            executor.shutdown();
+            Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        }
+
+        for (int i = 0; i < keyCount; i++) {
+            Assert.assertEquals(Integer.valueOf(i), hashRing.get(i));
+        }
+    }
+
+    public void testStreamIsWeaklyConsistentUnderWrites() throws Exception {
+        final ConcurrentHashRing<Integer, Integer> hashRing = ConcurrentHashRing.create(
+                Set.of(new HashRing.Position(0), new HashRing.Position(1 << 29), new HashRing.Position(1 << 30)),
+                key -> key * 7919 & Integer.MAX_VALUE
+        );
+        for (int key = 0; key < 10_000; key++) {
+            hashRing.addEntry(key, key);
+        }
+
+        final AtomicBoolean running = new AtomicBoolean(true);
+        final ExecutorService writer = Executors.newSingleThreadExecutor();
+        final Future<?> writes = writer.submit(() -> {
+            int key = 10_000;
+            while (running.get()) {
+                hashRing.addEntry(key, key);
+                hashRing.removeEntry(key);
+                key = 10_000 + (key + 1) % 10_000;
+            }
+        });
+        try {
+            final Spliterator<Map.Entry<Integer, Integer>> spliterator = hashRing.stream().spliterator();
+            Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.CONCURRENT));
+            Assert.assertFalse(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+            for (int scan = 0; scan < 20; scan++) {
+                final long stableKeys = hashRing.stream().parallel().filter(entry -> entry.getKey() < 10_000).count();
+                Assert.assertEquals(10_000, stableKeys);
+            }
+            Assert.assertEquals(
+                    10_000,
+                    hashRing.entriesOf(new HashRing.Position(0)).filter(entry -> entry.getKey() < 10_000).count()
+                            + hashRing.entriesOf(new HashRing.Position(1 << 29)).filter(entry -> entry.getKey() < 10_000).count()
+                            + hashRing.entriesOf(new HashRing.Position(1 << 30)).filter(entry -> entry.getKey() < 10_000).count()
+            );
+        } finally {
+            running.set(false);
+            writes.get(10, TimeUnit.SECONDS);
+            writer.shutdown();
+        }
+    }
+}
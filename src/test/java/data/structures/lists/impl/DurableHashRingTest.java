@@ -0,0 +1,255 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing;
+import junit.framework.TestCase;
+import org.junit.Assert;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class DurableHashRingTest extends TestCase {
+    private static final Set<HashRing.Position> INITIAL_POSITIONS = Set.of(
+            new HashRing.Position(0),
+            new HashRing.Position(1 << 29),
+            new HashRing.Position(1 << 30)
+    );
+
+    private final List<Path> directories = new ArrayList<>();
+
+    @Override
+    protected void tearDown() throws IOException {
+        for (final Path directory : directories) {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                final List<Path> deepestFirst = paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+                for (final Path path : deepestFirst) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+        directories.clear();
+    }
+
+    public void testRecoversFromLogWithoutCheckpoint() throws IOException, HashRing.AtLeastOneNodeMustExist {
+        final Path directory = createDirectory();
+        try (DurableHashRing<Integer, String> hashRing = open(directory)) {
+            for (int i = 0; i < 1_000; i++) {
+                hashRing.addEntry(i, "value-" + i);
+            }
+            hashRing.removeEntry(7);
+            hashRing.addEntry(8, "updated");
+            hashRing.addNode(new HashRing.Position(12_345));
+            hashRing.removeNode(new HashRing.Position(0));
+        }
+
+        try (DurableHashRing<Integer, String> recovered = open(directory)) {
+            Assert.assertEquals(1_004, recovered.getReplayedRecords());
+            Assert.assertEquals(Optional.empty(), recovered.getValue(7));
+            Assert.assertEquals(Optional.of("updated"), recovered.getValue(8));
+            Assert.assertEquals(Optional.of("value-999"), recovered.getValue(999));
+            Assert.assertEquals(3, recovered.getNodeCount());
+            Assert.assertEquals(999, recovered.getLoadReport().getTotalEntries());
+        }
+    }
+
+    public void testCheckpointTruncatesLogAndRecoversLaterChanges() throws IOException, HashRing.AtLeastOneNodeMustExist {
+        final Path directory = createDirectory();
+        try (DurableHashRing<Integer, String> hashRing = open(directory)) {
+            for (int i = 0; i < 1_000; i++) {
+                hashRing.addEntry(i, "value-" + i);
+            }
+            hashRing.checkpoint();
+            Assert.assertEquals(0, hashRing.getLogSize());
+
+            hashRing.removeEntry(1);
+            hashRing.addEntry(1_000, "after");
+        }
+
+        try (DurableHashRing<Integer, String> recovered = open(directory)) {
+            Assert.assertEquals(2, recovered.getReplayedRecords());
+            Assert.assertEquals(Optional.empty(), recovered.getValue(1));
+            Assert.assertEquals(Optional.of("value-2"), recovered.getValue(2));
+            Assert.assertEquals(Optional.of("after"), recovered.getValue(1_000));
+        }
+    }
+
+    public void testTornLogTailIsDiscarded() throws IOException, HashRing.AtLeastOneNodeMustExist {
+        final Path directory = createDirectory();
+        try (DurableHashRing<Integer, String> hashRing = open(directory)) {
+            hashRing.addEntry(1, "one");
+            hashRing.addEntry(2, "two");
+        }
+
+        final Path logPath = directory.resolve(DurableHashRing.LOG_FILE_NAME);
+        try (FileChannel channel = FileChannel.open(logPath, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 2);
+            channel.write(ByteBuffer.wrap(new byte[]{42, 0, 0, 0, 1, 2}), channel.size());
+        }
+
+        try (DurableHashRing<Integer, String> recovered = open(directory)) {
+            Assert.assertEquals(1, recovered.getReplayedRecords());
+            Assert.assertEquals(Optional.of("one"), recovered.getValue(1));
+            Assert.assertEquals(Optional.empty(), recovered.getValue(2));
+
+            recovered.addEntry(3, "three");
+        }
+
+        try (DurableHashRing<Integer, String> recovered = open(directory)) {
+            Assert.assertEquals(2, recovered.getReplayedRecords());
+            Assert.assertEquals(Optional.of("three"), recovered.getValue(3));
+        }
+    }
+
+    public void testUnpairedSurrogatesRoundTripThroughLog() throws IOException, HashRing.AtLeastOneNodeMustExist {
+        for (final String value : new String[]{"bad\uD800", "\uDC00", "x\uD800\uD800y", "ok\uD83D\uDE00"}) {
+            Assert.assertEquals(
+                    Integer.BYTES + value.getBytes(StandardCharsets.UTF_8).length,
+                    Codecs.STRING.encodedSize(value)
+            );
+        }
+
+        final Path directory = createDirectory();
+        try (DurableHashRing<Integer, String> hashRing = open(directory)) {
+            hashRing.addEntry(1, "a");
+            hashRing.addEntry(2, "bad\uD800");
+            hashRing.addEntry(3, "c");
+        }
+
+        try (DurableHashRing<Integer, String> recovered = open(directory)) {
+            Assert.assertEquals(3, recovered.getReplayedRecords());
+            Assert.assertEquals(Optional.of("a"), recovered.getValue(1));
+            Assert.assertEquals(Optional.of("bad?"), recovered.getValue(2));
+            Assert.assertEquals(Optional.of("c"), recovered.getValue(3));
+        }
+    }
+
+    public void testSyncsInBatches() throws IOException, HashRing.AtLeastOneNodeMustExist {
+        final Path directory = createDirectory();
+        try (RingLog<Integer, String> log = RingLog.open(directory.resolve("batched.log"), Codecs.INTEGER, Codecs.STRING, 10)) {
+            for (int i = 0; i < 25; i++) {
+                log.appendAddEntry(i, "value");
+            }
+            Assert.assertEquals(2, log.getSyncCount());
+            log.sync();
+            Assert.assertEquals(3, log.getSyncCount());
+        }
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> RingLog.open(directory.resolve("invalid.log"), Codecs.INTEGER, Codecs.STRING, 0)
+        );
+    }
+
+    public void testFailedEncodeLeavesRingUnchanged() throws IOException, HashRing.AtLeastOneNodeMustExist {
+        final Codec<String> rejectingCodec = new Codec<String>() {
+            @Override
+            public int encodedSize(final String value) {
+                if ("reject".equals(value)) {
+                    throw new IllegalArgumentException("cannot encode " + value);
+                }
+                return Codecs.STRING.encodedSize(value);
+            }
+
+            @Override
+            public void encode(final String value, final ByteBuffer output) {
+                Codecs.STRING.encode(value, output);
+            }
+
+            @Override
+            public String decode(final ByteBuffer input) {
+                return Codecs.STRING.decode(input);
+            }
+        };
+
+        final Path directory = createDirectory();
+        try (DurableHashRing<Integer, String> hashRing = DurableHashRing.open(
+                directory, INITIAL_POSITIONS, DurableHashRingTest::positionOf, Codecs.INTEGER, rejectingCodec
+        )) {
+            hashRing.addEntry(1, "one");
+            Assert.assertThrows(IllegalArgumentException.class, () -> hashRing.addEntry(1, "reject"));
+            Assert.assertThrows(IllegalArgumentException.class, () -> hashRing.addEntry(2, "reject"));
+            Assert.assertEquals(Optional.of("one"), hashRing.getValue(1));
+            Assert.assertEquals(Optional.empty(), hashRing.getValue(2));
+        }
+
+        try (DurableHashRing<Integer, String> recovered = open(directory)) {
+            Assert.assertEquals(1, recovered.getReplayedRecords());
+            Assert.assertEquals(Optional.of("one"), recovered.getValue(1));
+        }
+    }
+
+    public void testRemovingLastNodeIsNotLogged() throws IOException, HashRing.AtLeastOneNodeMustExist {
+        final Path directory = createDirectory();
+        final HashRing.Position onlyPosition = new HashRing.Position(0);
+        try (DurableHashRing<Integer, String> hashRing = DurableHashRing.open(
+                directory, Set.of(onlyPosition), DurableHashRingTest::positionOf, Codecs.INTEGER, Codecs.STRING
+        )) {
+            Assert.assertThrows(HashRing.AtLeastOneNodeMustExist.class, () -> hashRing.removeNode(onlyPosition));
+            hashRing.removeEntry(1);
+            hashRing.addNode(onlyPosition);
+            Assert.assertEquals(0, hashRing.getLogSize());
+        }
+    }
+
+    public void testCheckpointRecoveryUsesRingFactory() throws IOException, HashRing.AtLeastOneNodeMustExist {
+        final AtomicInteger createdStores = new AtomicInteger();
+        final DurableHashRing.RingFactory<Integer, String> ringFactory = positions -> SimpleHashRing
+                .<Integer, String>builder(positions, DurableHashRingTest::positionOf)
+                .nodeStore(() -> {
+                    createdStores.incrementAndGet();
+                    return new TreeMap<>();
+                })
+                .build();
+
+        final Path directory = createDirectory();
+        try (DurableHashRing<Integer, String> hashRing = DurableHashRing.openWith(
+                directory, INITIAL_POSITIONS, ringFactory, Codecs.INTEGER, Codecs.STRING, DurableHashRing.DEFAULT_SYNC_BATCH_SIZE
+        )) {
+            for (int i = 0; i < 100; i++) {
+                hashRing.addEntry(i, "value-" + i);
+            }
+            hashRing.checkpoint();
+        }
+
+        createdStores.set(0);
+        try (DurableHashRing<Integer, String> recovered = DurableHashRing.openWith(
+                directory, INITIAL_POSITIONS, ringFactory, Codecs.INTEGER, Codecs.STRING, DurableHashRing.DEFAULT_SYNC_BATCH_SIZE
+        )) {
+            Assert.assertEquals(INITIAL_POSITIONS.size(), createdStores.get());
+            Assert.assertEquals(Optional.of("value-42"), recovered.getValue(42));
+            Assert.assertEquals(100, recovered.getLoadReport().getTotalEntries());
+        }
+    }
+
+    private Path createDirectory() throws IOException {
+        final Path directory = Files.createTempDirectory("durable-ring");
+        directories.add(directory);
+        return directory;
+    }
+
+    private static DurableHashRing<Integer, String> open(final Path directory) throws IOException, HashRing.AtLeastOneNodeMustExist {
+        return DurableHashRing.open(directory, INITIAL_POSITIONS, DurableHashRingTest::positionOf, Codecs.INTEGER, Codecs.STRING);
+    }
+
+    private static int positionOf(final Integer key) {
+        int hash = key;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash & Integer.MAX_VALUE;
+    }
+}
@@ -0,0 +1,109 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing;
+import junit.framework.TestCase;
+import org.junit.Assert;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class InstrumentedHashRingTest extends TestCase {
+
+    public void testCountsLookupsWritesAndLoad() throws HashRing.AtLeastOneNodeMustExist {
+        final InstrumentedHashRing<Integer, Integer> hashRing = InstrumentedHashRing.of(
+                SimpleHashRing.create(Set.of(new HashRing.Position(100), new HashRing.Position(200)), key -> key)
+        );
+        for (int key = 0; key < 150; key++) {
+            hashRing.addEntry(key, key);
+        }
+        Assert.assertEquals(Optional.of(3), hashRing.getValue(3));
+        Assert.assertEquals(Optional.empty(), hashRing.getValue(1_000));
+        Assert.assertEquals(Optional.of(4), hashRing.removeEntry(4));
+
+        final HashRingMetrics metrics = hashRing.getMetrics();
+        Assert.assertEquals(2, metrics.getLookupCount());
+        Assert.assertEquals(1, metrics.getHitCount());
+        Assert.assertEquals(1, metrics.getMissCount());
+        Assert.assertEquals(150, metrics.getWriteCount());
+        Assert.assertEquals(1, metrics.getRemovalCount());
+        Assert.assertEquals(2, metrics.getLookupLatency().getCount());
+        Assert.assertEquals(151, metrics.getWriteLatency().getCount());
+        Assert.assertEquals(Map.of(new HashRing.Position(100), 100, new HashRing.Position(200), 49), metrics.getNodeLoads());
+        Assert.assertEquals(Map.of("100", 100, "200", 49), metrics.getEntriesPerNode());
+        Assert.assertEquals(100 / 74.5, metrics.getImbalanceRatio(), 1e-9);
+
+        metrics.reset();
+        Assert.assertEquals(0, metrics.getLookupCount());
+    }
+
+    public void testBatchesDelegateAndRecordBatchMetrics() throws HashRing.AtLeastOneNodeMustExist {
+        final InstrumentedHashRing<Integer, Integer> hashRing = InstrumentedHashRing.of(
+                SimpleHashRing.create(Set.of(new HashRing.Position(100), new HashRing.Position(200)), key -> key)
+        );
+        Assert.assertEquals(Map.of(), hashRing.putAll(Map.of(1, 1, 150, 150, 250, 250)));
+        Assert.assertEquals(Map.of(1, 1), hashRing.putAll(Map.of(1, 2)));
+        Assert.assertEquals(Map.of(1, 2, 150, 150), hashRing.getAll(List.of(1, 150, 999)));
+        Assert.assertEquals(Map.of(250, 250), hashRing.removeAll(List.of(250, 998)));
+        Assert.assertEquals(Map.of(new HashRing.Position(100), 1, new HashRing.Position(200), 1), hashRing.getHashRing().getNodeLoads());
+
+        final HashRingMetrics metrics = hashRing.getMetrics();
+        Assert.assertEquals(1, metrics.getBatchLookupCount());
+        Assert.assertEquals(2, metrics.getBatchWriteCount());
+        Assert.assertEquals(1, metrics.getBatchRemovalCount());
+        Assert.assertEquals(3 + 1 + 3 + 2, metrics.getBatchedKeyCount());
+        Assert.assertEquals(4, metrics.getBatchLatency().getCount());
+        Assert.assertEquals(0, metrics.getLookupCount());
+        Assert.assertEquals(0, metrics.getWriteCount());
+        Assert.assertEquals(0, metrics.getRemovalCount());
+
+        metrics.reset();
+        Assert.assertEquals(0, metrics.getBatchedKeyCount());
+    }
+
+    public void testLogsMigrations() throws HashRing.AtLeastOneNodeMustExist {
+        final InstrumentedHashRing<Integer, Integer> hashRing = InstrumentedHashRing.of(
+                SimpleHashRing.create(Set.of(new HashRing.Position(100)), key -> key),
+                2
+        );
+        for (int key = 0; key < 100; key++) {
+            hashRing.addEntry(key, key);
+        }
+
+        hashRing.addNode(new HashRing.Position(50));
+        hashRing.addNode(new HashRing.Position(50));
+        hashRing.addNode(new HashRing.Position(25));
+        hashRing.removeNode(new HashRing.Position(50));
+
+        final List<MigrationEvent> events = hashRing.getMetrics().getMigrationEvents();
+        Assert.assertEquals(2, events.size());
+        Assert.assertEquals(MigrationEvent.Type.NODE_ADDED, events.get(0).getType());
+        Assert.assertEquals(new HashRing.Position(25), events.get(0).getPosition());
+        Assert.assertEquals(26, events.get(0).getMovedEntries());
+        Assert.assertEquals(MigrationEvent.Type.NODE_REMOVED, events.get(1).getType());
+        Assert.assertEquals(25, events.get(1).getMovedEntries());
+        Assert.assertEquals(3, hashRing.getMetrics().getMigrationCount());
+        Assert.assertEquals(51 + 26 + 25, hashRing.getMetrics().getMigratedEntries());
+        Assert.assertEquals(2, hashRing.getMetrics().getRecentMigrations().length);
+    }
+
+    public void testRegistersMBean() throws HashRing.AtLeastOneNodeMustExist, JMException {
+        final InstrumentedHashRing<Integer, Integer> hashRing = InstrumentedHashRing.of(
+                SimpleHashRing.create(Set.of(new HashRing.Position(100)), key -> key)
+        );
+        hashRing.addEntry(1, 1);
+        hashRing.getValue(1);
+
+        final MBeanServer server = MBeanServerFactory.newMBeanServer();
+        final ObjectName name = hashRing.registerMBean(server, new ObjectName("data.structures:type=HashRing,name=test"));
+
+        Assert.assertEquals(1L, server.getAttribute(name, "LookupCount"));
+        Assert.assertEquals(1, server.getAttribute(name, "NodeCount"));
+        Assert.assertEquals(1.0, server.getAttribute(name, "ImbalanceRatio"));
+    }
+}
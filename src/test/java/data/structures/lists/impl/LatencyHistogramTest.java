@@ -0,0 +1,38 @@
+package data.structures.lists.impl;
+
+import junit.framework.TestCase;
+import org.junit.Assert;
+
+public class LatencyHistogramTest extends TestCase {
+
+    public void testBucketsBoundRelativeError() {
+        for (long value = 0; value < 1_000_000; value += 7) {
+            final long highest = LatencyHistogram.highestEquivalentValue(LatencyHistogram.bucketIndex(value));
+            Assert.assertTrue(highest >= value);
+            Assert.assertTrue(highest - value <= value / 32);
+        }
+        Assert.assertEquals(Long.MAX_VALUE, LatencyHistogram.highestEquivalentValue(LatencyHistogram.bucketIndex(Long.MAX_VALUE)));
+    }
+
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getValueAtPercentile(99));
+
+        for (int value = 1; value <= 10_000; value++) {
+            histogram.record(value);
+        }
+        histogram.record(-5);
+
+        Assert.assertEquals(10_001, histogram.getCount());
+        Assert.assertEquals(10_000, histogram.getMaximum());
+        Assert.assertEquals(5_000, histogram.getMean(), 1);
+        Assert.assertEquals(5_000, histogram.getValueAtPercentile(50), 5_000 / 32);
+        Assert.assertEquals(9_900, histogram.getValueAtPercentile(99), 9_900 / 32);
+        Assert.assertEquals(10_000, histogram.getValueAtPercentile(100));
+        Assert.assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+
+        histogram.reset();
+        Assert.assertEquals(0, histogram.getCount());
+        Assert.assertEquals(0, histogram.getMaximum());
+    }
+}
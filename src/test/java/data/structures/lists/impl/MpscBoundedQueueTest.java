@@ -0,0 +1,77 @@
+package data.structures.lists.impl;
+
+import junit.framework.TestCase;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class MpscBoundedQueueTest extends TestCase {
+
+    public void testOfferAndPollInOrderUntilFull() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new MpscBoundedQueue<Integer>(3));
+
+        final MpscBoundedQueue<Integer> queue = new MpscBoundedQueue<>(4);
+        Assert.assertTrue(queue.isEmpty());
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                Assert.assertTrue(queue.offer(i));
+            }
+            Assert.assertFalse(queue.offer(4));
+            Assert.assertEquals(4, queue.size());
+
+            Assert.assertEquals(Integer.valueOf(0), queue.poll());
+            final List<Integer> drained = new ArrayList<>();
+            Assert.assertEquals(2, queue.drain(drained::add, 2));
+            Assert.assertEquals(List.of(1, 2), drained);
+            Assert.assertEquals(Integer.valueOf(3), queue.poll());
+            Assert.assertNull(queue.poll());
+            Assert.assertTrue(queue.isEmpty());
+        }
+    }
+
+    public void testConcurrentProducersDeliverEveryElementOnce() throws Exception {
+        final int producers = 4;
+        final int perProducer = 5_000;
+        final MpscBoundedQueue<Integer> queue = new MpscBoundedQueue<>(64);
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int producer = 0; producer < producers; producer++) {
+            final int base = producer * perProducer;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!queue.offer(base + i)) {
+                        Thread.yield();
+                    }
+                }
+            }));
+        }
+
+        final int[] lastSeen = new int[producers];
+        Arrays.fill(lastSeen, -1);
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        int received = 0;
+        while (received < producers * perProducer) {
+            final Integer element = queue.poll();
+            if (null == element) {
+                Assert.assertTrue(System.nanoTime() < deadline);
+                Thread.yield();
+                continue;
+            }
+            final int producer = element / perProducer;
+            Assert.assertTrue(element % perProducer > lastSeen[producer]);
+            lastSeen[producer] = element % perProducer;
+            received++;
+        }
+        for (final Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        Assert.assertTrue(queue.isEmpty());
+    }
+}
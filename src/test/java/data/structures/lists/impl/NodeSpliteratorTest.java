@@ -0,0 +1,87 @@
+package data.structures.lists.impl;
+
+import junit.framework.TestCase;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+public class NodeSpliteratorTest extends TestCase {
+
+    public void testSplitsAcrossNodesThenWithinNode() {
+        final List<Map<Integer, Integer>> nodes = createNodes(4, 1_000);
+        final Spliterator<Map.Entry<Integer, Integer>> spliterator = NodeSpliterator.stream(nodes).spliterator();
+        Assert.assertEquals(4_000, spliterator.estimateSize());
+        Assert.assertTrue(spliterator.hasCharacteristics(Spliterator.DISTINCT | Spliterator.NONNULL));
+
+        final List<Spliterator<Map.Entry<Integer, Integer>>> parts = new ArrayList<>();
+        parts.add(spliterator);
+        for (int round = 0; round < 4; round++) {
+            final List<Spliterator<Map.Entry<Integer, Integer>>> next = new ArrayList<>();
+            for (final Spliterator<Map.Entry<Integer, Integer>> part : parts) {
+                final Spliterator<Map.Entry<Integer, Integer>> prefix = part.trySplit();
+                if (null != prefix) {
+                    next.add(prefix);
+                }
+                next.add(part);
+            }
+            parts.clear();
+            parts.addAll(next);
+        }
+        Assert.assertTrue(parts.size() > 4);
+
+        final Set<Integer> seen = new HashSet<>();
+        for (final Spliterator<Map.Entry<Integer, Integer>> part : parts) {
+            part.tryAdvance(entry -> Assert.assertTrue(seen.add(entry.getKey())));
+            part.forEachRemaining(entry -> {
+                Assert.assertTrue(seen.add(entry.getKey()));
+                Assert.assertEquals(-entry.getKey(), (int) entry.getValue());
+            });
+        }
+        Assert.assertEquals(4_000, seen.size());
+    }
+
+    public void testParallelStreamSeesEveryEntryOnce() {
+        final List<Map<Integer, Integer>> nodes = createNodes(7, 10_000);
+        Assert.assertEquals(70_000, NodeSpliterator.stream(nodes).parallel().map(Map.Entry::getKey).distinct().count());
+        Assert.assertEquals(
+                NodeSpliterator.stream(nodes).mapToLong(Map.Entry::getValue).sum(),
+                NodeSpliterator.stream(nodes).parallel().mapToLong(Map.Entry::getValue).sum()
+        );
+        Assert.assertEquals(0, NodeSpliterator.stream(new ArrayList<Map<Integer, Integer>>()).count());
+    }
+
+    public void testFilterAndEntriesAreReadOnly() {
+        final List<Map<Integer, Integer>> nodes = createNodes(3, 100);
+        final Set<Integer> evenKeys = NodeSpliterator.stream(nodes, (node, key) -> 0 == key % 2, 0)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        Assert.assertEquals(150, evenKeys.size());
+
+        final Spliterator<Map.Entry<Integer, Integer>> spliterator = NodeSpliterator.stream(nodes, (node, key) -> 299 == key, 0).spliterator();
+        Assert.assertTrue(spliterator.tryAdvance(entry -> {
+            Assert.assertEquals(299, (int) entry.getKey());
+            Assert.assertThrows(UnsupportedOperationException.class, () -> entry.setValue(0));
+        }));
+        Assert.assertFalse(spliterator.tryAdvance(entry -> Assert.fail()));
+    }
+
+    private static List<Map<Integer, Integer>> createNodes(final int nodeCount, final int entriesPerNode) {
+        final List<Map<Integer, Integer>> nodes = new ArrayList<>();
+        for (int node = 0; node < nodeCount; node++) {
+            final Map<Integer, Integer> entries = new HashMap<>();
+            for (int i = 0; i < entriesPerNode; i++) {
+                final int key = node * entriesPerNode + i;
+                entries.put(key, -key);
+            }
+            nodes.add(entries);
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,54 @@
+package data.structures.lists.impl;
+
+import junit.framework.TestCase;
+import org.junit.Assert;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class OwnerBatchesTest extends TestCase {
+
+    public void testGroupsKeysByTokenSearchOwner() {
+        assertGroupsByTokenSearchOwner(0, 1_000);
+    }
+
+    public void testGroupsNegativePositionsByTokenSearchOwner() {
+        assertGroupsByTokenSearchOwner(-1_000, 1_000);
+        assertGroupsByTokenSearchOwner(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        final int[] nodePositions = {10, 20};
+        final int[] keyPositions = {12, Integer.MIN_VALUE + 14, 25, -5};
+        final OwnerBatches batches = OwnerBatches.group(nodePositions, nodePositions.length, keyPositions);
+        for (int batch = 0; batch < batches.getBatchCount(); batch++) {
+            for (int i = batches.getStart(batch); i < batches.getEnd(batch); i++) {
+                final int keyIndex = batches.getKeyIndex(i);
+                Assert.assertEquals(0 == keyIndex ? 1 : 0, batches.getOwner(batch));
+            }
+        }
+    }
+
+    private static void assertGroupsByTokenSearchOwner(final int origin, final int bound) {
+        final Random random = new Random(0);
+        for (int nodeCount = 1; nodeCount <= 32; nodeCount++) {
+            final int[] nodePositions = random.ints(origin, bound).distinct().limit(nodeCount).sorted().toArray();
+            final int[] keyPositions = random.ints(500, origin, bound).toArray();
+
+            final OwnerBatches batches = OwnerBatches.group(nodePositions, nodeCount, keyPositions);
+            final Set<Integer> owners = new HashSet<>();
+            final Set<Integer> keyIndices = new HashSet<>();
+            for (int batch = 0; batch < batches.getBatchCount(); batch++) {
+                Assert.assertTrue(owners.add(batches.getOwner(batch)));
+                for (int i = batches.getStart(batch); i < batches.getEnd(batch); i++) {
+                    final int keyIndex = batches.getKeyIndex(i);
+                    Assert.assertTrue(keyIndices.add(keyIndex));
+                    Assert.assertEquals(
+                            TokenSearch.findOwnerIndex(nodePositions, nodeCount, keyPositions[keyIndex]),
+                            batches.getOwner(batch)
+                    );
+                }
+            }
+            Assert.assertEquals(keyPositions.length, keyIndices.size());
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing;
+import junit.framework.TestCase;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class PartitionedExecutorTest extends TestCase {
+    private static final int PRODUCERS = 4;
+    private static final int KEYS = 64;
+
+    public void testTasksForOneKeyRunSeriallyInSubmissionOrder() throws Exception {
+        try (PartitionedExecutor<Integer> executor = createExecutor(4)) {
+            final OrderChecker checker = new OrderChecker();
+            runProducers(executor, checker, 5_000, () -> {
+            });
+            awaitCompletion(executor, PRODUCERS * 5_000);
+
+            Assert.assertNull(checker.failure.get());
+            Assert.assertTrue(executor.getCompletedBatches() <= executor.getCompletedTasks());
+            Assert.assertTrue(executor.getQueueDepths().containsKey(executor.laneFor(7)));
+            Assert.assertEquals(4, executor.getLaneCount());
+        }
+    }
+
+    public void testRebalancingKeepsPerKeyOrder() throws Exception {
+        try (PartitionedExecutor<Integer> executor = createExecutor(2)) {
+            final OrderChecker checker = new OrderChecker();
+            final List<HashRing.Position> added = IntStream.range(1, 6)
+                    .mapToObj(i -> new HashRing.Position(i * 300_000_007))
+                    .collect(Collectors.toList());
+            final AtomicBoolean grown = new AtomicBoolean();
+            runProducers(executor, checker, 20_000, () -> {
+                try {
+                    if (grown.compareAndSet(false, true)) {
+                        added.forEach(executor::addNode);
+                    } else if (grown.compareAndSet(true, false)) {
+                        for (final HashRing.Position position : added) {
+                            executor.removeNode(position);
+                        }
+                    }
+                } catch (HashRing.AtLeastOneNodeMustExist e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            awaitCompletion(executor, PRODUCERS * 20_000);
+
+            Assert.assertNull(checker.failure.get());
+            Assert.assertTrue(2 == executor.getLaneCount() || 7 == executor.getLaneCount());
+            executor.removeNode(new HashRing.Position(0));
+            try {
+                for (final HashRing.Position position : executor.getQueueDepths().keySet()) {
+                    executor.removeNode(position);
+                }
+                throw new RuntimeException("unexpected");
+            } catch (HashRing.AtLeastOneNodeMustExist e) {
+                // expected
+            }
+        }
+    }
+
+    public void testFullLanesApplyBackpressure() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        try (PartitionedExecutor<Integer> executor = PartitionedExecutor.<Integer>builder(Set.of(new HashRing.Position(0)), key -> key)
+                .queueCapacity(2)
+                .build()) {
+            executor.submit(1, () -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            started.await();
+
+            Assert.assertTrue(executor.trySubmit(1, () -> {
+            }));
+            Assert.assertTrue(executor.trySubmit(2, () -> {
+            }));
+            Assert.assertFalse(executor.trySubmit(3, () -> {
+            }));
+            Assert.assertFalse(executor.submit(3, () -> {
+            }, 5, TimeUnit.MILLISECONDS));
+            Assert.assertEquals(2, executor.getRejectedTasks());
+            Assert.assertEquals(Integer.valueOf(2), executor.getQueueDepths().get(new HashRing.Position(0)));
+
+            release.countDown();
+            Assert.assertTrue(executor.submit(3, () -> {
+            }, 1, TimeUnit.SECONDS));
+            awaitCompletion(executor, 4);
+        }
+    }
+
+    public void testLaneTasksCanSubmitWhileTopologyChangeWaitsOnFullLane() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch chained = new CountDownLatch(1);
+        try (PartitionedExecutor<Integer> executor = PartitionedExecutor.<Integer>builder(
+                Set.of(new HashRing.Position(0), new HashRing.Position(1 << 30)),
+                key -> key
+        )
+                .queueCapacity(2)
+                .build()) {
+            executor.submit(5, () -> {
+                started.countDown();
+                try {
+                    release.await();
+                    executor.submit((1 << 30) + 5, chained::countDown);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            started.await();
+            executor.submit(5, () -> {
+            });
+            executor.submit(5, () -> {
+            });
+
+            final ExecutorService rebalancer = Executors.newSingleThreadExecutor();
+            final Future<?> added = rebalancer.submit(() -> executor.addNode(new HashRing.Position(100)));
+            Thread.sleep(50);
+            release.countDown();
+
+            Assert.assertTrue(chained.await(10, TimeUnit.SECONDS));
+            added.get(10, TimeUnit.SECONDS);
+            rebalancer.shutdown();
+            Assert.assertEquals(3, executor.getLaneCount());
+            awaitCompletion(executor, 4);
+        }
+    }
+
+    public void testLaneTaskCannotWaitOnItsOwnFullLane() throws Exception {
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final CountDownLatch attempted = new CountDownLatch(1);
+        try (PartitionedExecutor<Integer> executor = PartitionedExecutor.<Integer>builder(Set.of(new HashRing.Position(0)), key -> key)
+                .queueCapacity(2)
+                .build()) {
+            executor.submit(1, () -> {
+                try {
+                    while (executor.trySubmit(1, () -> {
+                    })) {
+                        // fill this lane's queue
+                    }
+                    executor.addNode(new HashRing.Position(100));
+                } catch (Throwable e) {
+                    failure.set(e);
+                } finally {
+                    attempted.countDown();
+                }
+            });
+
+            Assert.assertTrue(attempted.await(10, TimeUnit.SECONDS));
+            Assert.assertTrue(failure.get() instanceof IllegalStateException);
+            Assert.assertEquals(1, executor.getLaneCount());
+            executor.addNode(new HashRing.Position(100));
+            Assert.assertEquals(2, executor.getLaneCount());
+        }
+    }
+
+    public void testNullTasksAreRejected() throws Exception {
+        try (PartitionedExecutor<Integer> executor = createExecutor(1)) {
+            Assert.assertThrows(NullPointerException.class, () -> executor.trySubmit(1, null));
+            Assert.assertThrows(NullPointerException.class, () -> executor.submit(1, null));
+        }
+    }
+
+    public void testFailuresAreReportedAndShutdownDrains() throws Exception {
+        final List<Throwable> failures = new ArrayList<>();
+        final PartitionedExecutor<Integer> executor = PartitionedExecutor.<Integer>builder(
+                Set.of(new HashRing.Position(0), new HashRing.Position(1 << 30)),
+                PositionHasher.MURMUR3.integers()
+        )
+                .maxBatchSize(8)
+                .exceptionHandler(failure -> {
+                    synchronized (failures) {
+                        failures.add(failure);
+                    }
+                })
+                .build();
+        for (int i = 0; i < 1_000; i++) {
+            final int value = i;
+            executor.submit(i, () -> {
+                if (0 == value % 100) {
+                    throw new IllegalStateException("task " + value);
+                }
+            });
+        }
+        executor.shutdown();
+        Assert.assertThrows(RejectedExecutionException.class, () -> executor.trySubmit(1, () -> {
+        }));
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertTrue(executor.isTerminated());
+        Assert.assertEquals(1_000, executor.getCompletedTasks());
+        Assert.assertEquals(10, failures.size());
+    }
+
+    private static PartitionedExecutor<Integer> createExecutor(final int laneCount) throws HashRing.AtLeastOneNodeMustExist {
+        return PartitionedExecutor.<Integer>builder(
+                IntStream.range(0, laneCount).mapToObj(i -> new HashRing.Position(i << 29)).collect(Collectors.toSet()),
+                PositionHasher.MURMUR3.integers()
+        )
+                .queueCapacity(64)
+                .build();
+    }
+
+    private static void runProducers(
+            final PartitionedExecutor<Integer> executor,
+            final OrderChecker checker,
+            final int tasksPerProducer,
+            final Runnable topologyChange
+    ) throws Exception {
+        final ExecutorService producers = Executors.newFixedThreadPool(PRODUCERS);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int producer = 0; producer < PRODUCERS; producer++) {
+            final int producerIndex = producer;
+            futures.add(producers.submit(() -> {
+                for (int i = 0; i < tasksPerProducer; i++) {
+                    final int key = (i * 31 + producerIndex) % KEYS;
+                    final int sequence = i;
+                    executor.submit(key, () -> checker.run(producerIndex, key, sequence));
+                    if (0 == producerIndex && 0 == i % 2_000) {
+                        topologyChange.run();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (final Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        producers.shutdown();
+    }
+
+    private static void awaitCompletion(final PartitionedExecutor<Integer> executor, final long taskCount) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (executor.getCompletedTasks() < taskCount) {
+            Assert.assertTrue(System.nanoTime() < deadline);
+            Thread.sleep(1);
+        }
+    }
+
+    private static class OrderChecker {
+        private final AtomicIntegerArray running = new AtomicIntegerArray(KEYS);
+        private final int[][] lastSequence = new int[PRODUCERS][KEYS];
+        private final AtomicReference<String> failure = new AtomicReference<>();
+
+        private OrderChecker() {
+            for (final int[] sequences : lastSequence) {
+                Arrays.fill(sequences, -1);
+            }
+        }
+
+        private void run(final int producer, final int key, final int sequence) {
+            if (0 != running.getAndIncrement(key)) {
+                failure.compareAndSet(null, "key " + key + " ran concurrently");
+            }
+            if (lastSequence[producer][key] >= sequence) {
+                failure.compareAndSet(null, "key " + key + " ran " + sequence + " after " + lastSequence[producer][key]);
+            }
+            lastSequence[producer][key] = sequence;
+            running.decrementAndGet(key);
+        }
+    }
+}
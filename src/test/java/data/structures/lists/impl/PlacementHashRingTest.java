@@ -0,0 +1,209 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing;
+import junit.framework.TestCase;
+import org.junit.Assert;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class PlacementHashRingTest extends TestCase {
+    private static final int ENTRY_COUNT = 20_000;
+
+    public void testRequiresNodes() {
+        for (final Function<Set<HashRing.Position>, PlacementHashRing<Integer, Integer>> factory : factories()) {
+            try {
+                factory.apply(Collections.emptySet());
+                throw new RuntimeException("unexpected");
+            } catch (IllegalStateException e) {
+                Assert.assertTrue(e.getCause() instanceof HashRing.AtLeastOneNodeMustExist);
+            }
+        }
+
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> new MaglevHashRing<Integer, Integer>(Set.of(new HashRing.Position(0)), PlacementHashRingTest::hashOf, 100)
+        );
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> new RendezvousHashRing<Integer, Integer>(Map.of(new HashRing.Position(0), 0.0), PlacementHashRingTest::hashOf)
+        );
+    }
+
+    public void testEntriesMatchModelAcrossTopologyChanges() throws HashRing.AtLeastOneNodeMustExist {
+        for (final Function<Set<HashRing.Position>, PlacementHashRing<Integer, Integer>> factory : factories()) {
+            final PlacementHashRing<Integer, Integer> hashRing = factory.apply(positions(0, 4));
+            final Map<Integer, Integer> model = new HashMap<>();
+            final Random random = new Random(7);
+
+            for (int operation = 0; operation < 20_000; operation++) {
+                final int key = random.nextInt(5_000);
+                switch (random.nextInt(10)) {
+                    case 0:
+                        hashRing.addNode(new HashRing.Position(random.nextInt(12)));
+                        break;
+                    case 1:
+                        if (1 < hashRing.getNodePositions().size()) {
+                            hashRing.removeNode(new HashRing.Position(random.nextInt(12)));
+                        }
+                        break;
+                    case 2:
+                    case 3:
+                        Assert.assertEquals(Optional.ofNullable(model.remove(key)), hashRing.removeEntry(key));
+                        break;
+                    default:
+                        Assert.assertEquals(Optional.ofNullable(model.put(key, operation)), hashRing.addEntry(key, operation));
+                }
+            }
+
+            for (int key = 0; key < 5_000; key++) {
+                Assert.assertEquals(Optional.ofNullable(model.get(key)), hashRing.getValue(key));
+            }
+            Assert.assertEquals(model.size(), hashRing.getLoadReport().getTotalEntries());
+        }
+    }
+
+    public void testLastNodeCannotBeRemoved() throws HashRing.AtLeastOneNodeMustExist {
+        for (final Function<Set<HashRing.Position>, PlacementHashRing<Integer, Integer>> factory : factories()) {
+            final PlacementHashRing<Integer, Integer> hashRing = factory.apply(positions(0, 2));
+            hashRing.addEntry(1, 1);
+            hashRing.removeNode(new HashRing.Position(0));
+            try {
+                hashRing.removeNode(new HashRing.Position(1));
+                throw new RuntimeException("unexpected");
+            } catch (HashRing.AtLeastOneNodeMustExist e) {
+                // expected
+            }
+            Assert.assertEquals(Optional.of(1), hashRing.getValue(1));
+        }
+    }
+
+    public void testAddingNodeMovesFewEntries() {
+        for (final Function<Set<HashRing.Position>, PlacementHashRing<Integer, Integer>> factory : factories()) {
+            final PlacementHashRing<Integer, Integer> hashRing = factory.apply(positions(0, 9));
+            IntStream.range(0, ENTRY_COUNT).forEach(i -> hashRing.addEntry(i, i));
+
+            hashRing.addNode(new HashRing.Position(9));
+
+            final double movedFraction = (double) hashRing.getLastMovedEntries() / ENTRY_COUNT;
+            Assert.assertTrue(movedFraction > 0.05 && movedFraction < 0.15);
+            Assert.assertEquals(hashRing.getLastMovedEntries(), hashRing.getTotalMovedEntries());
+            Assert.assertTrue(hashRing.getLoadReport().getImbalance() < 1.2);
+        }
+    }
+
+    public void testJumpAndRendezvousOnlyMoveEntriesToAddedNode() throws HashRing.AtLeastOneNodeMustExist {
+        final Set<HashRing.Position> initial = positions(0, 9);
+        final PlacementHashRing<Integer, Integer> jump = new JumpHashRing<>(initial, PlacementHashRingTest::hashOf);
+        final PlacementHashRing<Integer, Integer> rendezvous = new RendezvousHashRing<>(initial, PlacementHashRingTest::hashOf);
+
+        for (final PlacementHashRing<Integer, Integer> hashRing : new PlacementHashRing[]{jump, rendezvous}) {
+            final Map<Integer, HashRing.Position> ownersBefore = new HashMap<>();
+            IntStream.range(0, ENTRY_COUNT).forEach(i -> ownersBefore.put(i, hashRing.getOwner(i)));
+
+            final HashRing.Position added = new HashRing.Position(9);
+            hashRing.addNode(added);
+
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                final HashRing.Position owner = hashRing.getOwner(i);
+                if (!owner.equals(ownersBefore.get(i))) {
+                    Assert.assertEquals(added, owner);
+                }
+            }
+        }
+    }
+
+    public void testRemovalOnlyRescansNodesThatCanLoseEntries() throws HashRing.AtLeastOneNodeMustExist {
+        final Set<HashRing.Position> initial = positions(0, 10);
+        final PlacementHashRing<Integer, Integer> jump = new JumpHashRing<>(initial, PlacementHashRingTest::hashOf);
+        final PlacementHashRing<Integer, Integer> maglev = new MaglevHashRing<>(initial, PlacementHashRingTest::hashOf);
+        final PlacementHashRing<Integer, Integer> rendezvous = new RendezvousHashRing<>(initial, PlacementHashRingTest::hashOf);
+
+        for (final PlacementHashRing<Integer, Integer> hashRing : new PlacementHashRing[]{jump, maglev, rendezvous}) {
+            IntStream.range(0, ENTRY_COUNT).forEach(i -> hashRing.addEntry(i, -i));
+            hashRing.addNode(new HashRing.Position(10));
+            Assert.assertEquals(ENTRY_COUNT, hashRing.getLastScannedEntries());
+
+            final HashRing.Position removed = new HashRing.Position(3);
+            final long removedEntries = hashRing.entriesOf(removed).count();
+            hashRing.removeNode(removed);
+
+            if (hashRing == maglev) {
+                Assert.assertEquals(ENTRY_COUNT - removedEntries, hashRing.getLastScannedEntries());
+            } else if (hashRing == jump) {
+                Assert.assertTrue(hashRing.getLastScannedEntries() < ENTRY_COUNT / 5);
+            } else {
+                Assert.assertEquals(0, hashRing.getLastScannedEntries());
+            }
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                Assert.assertEquals(Optional.of(-i), hashRing.getValue(i));
+            }
+            Assert.assertEquals(ENTRY_COUNT, hashRing.getLoadReport().getTotalEntries());
+        }
+    }
+
+    public void testRendezvousWeightsScaleShare() throws HashRing.AtLeastOneNodeMustExist {
+        final RendezvousHashRing<Integer, Integer> hashRing = new RendezvousHashRing<>(
+                Map.of(new HashRing.Position(0), 1.0, new HashRing.Position(1), 3.0),
+                PlacementHashRingTest::hashOf
+        );
+        final long heavy = IntStream.range(0, 100_000)
+                .filter(i -> hashRing.getOwner(i).equals(new HashRing.Position(1)))
+                .count();
+
+        Assert.assertTrue(heavy > 72_000 && heavy < 78_000);
+    }
+
+    public void testJumpHashMatchesReferenceBuckets() {
+        for (long key = 0; key < 1_000; key++) {
+            final int previous = JumpHashRing.jump(key, 10);
+            final int next = JumpHashRing.jump(key, 11);
+            Assert.assertTrue(0 <= previous && previous < 10);
+            Assert.assertTrue(next == previous || next == 10);
+        }
+        Assert.assertEquals(0, JumpHashRing.jump(12_345L, 1));
+    }
+
+    private static Function<Set<HashRing.Position>, PlacementHashRing<Integer, Integer>>[] factories() {
+        return new Function[]{
+                wrap(positions -> new JumpHashRing<>(positions, PlacementHashRingTest::hashOf)),
+                wrap(positions -> new MaglevHashRing<>(positions, PlacementHashRingTest::hashOf, 4_099)),
+                wrap(positions -> new RendezvousHashRing<>(positions, PlacementHashRingTest::hashOf))
+        };
+    }
+
+    private interface Factory {
+        PlacementHashRing<Integer, Integer> create(Set<HashRing.Position> positions) throws HashRing.AtLeastOneNodeMustExist;
+    }
+
+    private static Function<Set<HashRing.Position>, PlacementHashRing<Integer, Integer>> wrap(final Factory factory) {
+        return positions -> {
+            try {
+                return factory.create(positions);
+            } catch (HashRing.AtLeastOneNodeMustExist e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static Set<HashRing.Position> positions(final int start, final int end) {
+        return IntStream.range(start, end).mapToObj(HashRing.Position::new).collect(Collectors.toSet());
+    }
+
+    private static int hashOf(final Integer key) {
+        int hash = key;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash & Integer.MAX_VALUE;
+    }
+}
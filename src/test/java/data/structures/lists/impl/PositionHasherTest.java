@@ -0,0 +1,166 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing;
+import junit.framework.TestCase;
+import org.junit.Assert;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class PositionHasherTest extends TestCase {
+
+    public void testReferenceVectors() {
+        Assert.assertEquals(0, murmur3("").intValue());
+        Assert.assertEquals(0xBA6BD213, murmur3("test").intValue());
+        Assert.assertEquals(0xC0363E43, murmur3("Hello, world!").intValue());
+        Assert.assertEquals(0x2E4FF723, murmur3("The quick brown fox jumps over the lazy dog").intValue());
+
+        Assert.assertEquals(0xEF46DB3751D8E999L, xxHash64(""));
+        Assert.assertEquals(0xD24EC4F1A98C6E5BL, xxHash64("a"));
+        Assert.assertEquals(0x44BC2CF5AD770999L, xxHash64("abc"));
+        Assert.assertEquals(0xFBCEA83C8A378BF1L, xxHash64("Nobody inspects the spammish repetition"));
+
+        Assert.assertEquals(0x93228A4DE0EEC5A2L, PositionHasher.WYHASH.hash(new byte[0], 0, 0, ByteAccess.BYTE_ARRAY));
+    }
+
+    public void testEveryInputFormHashesTheSameBytes() {
+        final Random random = new Random(11);
+        for (final PositionHasher hasher : PositionHasher.values()) {
+            for (int length = 0; length < 130; length++) {
+                final byte[] bytes = new byte[length];
+                random.nextBytes(bytes);
+                final int expected = hasher.hash(bytes);
+                Assert.assertTrue(0 <= expected);
+
+                final byte[] padded = new byte[length + 7];
+                System.arraycopy(bytes, 0, padded, 3, length);
+                Assert.assertEquals(expected, hasher.hash(padded, 3, length));
+
+                final ByteBuffer heap = ByteBuffer.wrap(padded, 3, length).slice();
+                Assert.assertEquals(expected, hasher.hash(heap));
+                final ByteBuffer direct = ByteBuffer.allocateDirect(length + 5).order(ByteOrder.BIG_ENDIAN);
+                direct.position(5);
+                direct.put(bytes).position(5);
+                Assert.assertEquals(expected, hasher.hash(direct));
+                Assert.assertEquals(5, direct.position());
+
+                final char[] chars = new char[length];
+                for (int i = 0; i < length; i++) {
+                    chars[i] = (char) random.nextInt(Character.MIN_SURROGATE);
+                }
+                final String string = new String(chars);
+                Assert.assertEquals(hasher.hash(string.getBytes(StandardCharsets.UTF_16LE)), hasher.hash(string));
+                Assert.assertEquals(hasher.hash(string), hasher.hash(new StringBuilder(string)));
+            }
+
+            for (int i = 0; i < 1_000; i++) {
+                final int intValue = random.nextInt();
+                final long longValue = random.nextLong();
+                Assert.assertEquals(
+                        hasher.hash(ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(0, intValue)),
+                        hasher.hashInt(intValue)
+                );
+                Assert.assertEquals(
+                        hasher.hash(ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, longValue)),
+                        hasher.hashLong(longValue)
+                );
+                Assert.assertEquals(hasher.hashInt(intValue), hasher.integers().applyAsInt(intValue));
+            }
+            Assert.assertThrows(IndexOutOfBoundsException.class, () -> hasher.hash(new byte[4], 2, 3));
+        }
+    }
+
+    public void testSequentialKeysSpreadUniformly() {
+        final ToIntFunction<Integer> identity = key -> key;
+        Assert.assertTrue(chiSquared(identity) > 1_000_000);
+        for (final PositionHasher hasher : PositionHasher.values()) {
+            Assert.assertTrue(hasher.name(), chiSquared(hasher.integers()) < 120);
+            Assert.assertTrue(hasher.name(), chiSquared(key -> hasher.hash("key-" + key)) < 120);
+        }
+    }
+
+    public void testSingleBitChangesFlipHalfTheOutputBits() {
+        final Random random = new Random(13);
+        for (final PositionHasher hasher : PositionHasher.values()) {
+            final int[][] intFlips = new int[Integer.SIZE][31];
+            final int[][] byteFlips = new int[128][31];
+            for (int sample = 0; sample < 1_000; sample++) {
+                final int value = random.nextInt();
+                for (int bit = 0; bit < Integer.SIZE; bit++) {
+                    countFlips(intFlips[bit], hasher.hashInt(value) ^ hasher.hashInt(value ^ 1 << bit));
+                }
+
+                final byte[] bytes = new byte[16];
+                random.nextBytes(bytes);
+                final int hash = hasher.hash(bytes);
+                for (int bit = 0; bit < 128; bit++) {
+                    bytes[bit >>> 3] ^= 1 << (bit & 7);
+                    countFlips(byteFlips[bit], hash ^ hasher.hash(bytes));
+                    bytes[bit >>> 3] ^= 1 << (bit & 7);
+                }
+            }
+            assertBalancedFlips(hasher, intFlips, 1_000);
+            assertBalancedFlips(hasher, byteFlips, 1_000);
+        }
+    }
+
+    public void testHashersPlugIntoTheRing() throws HashRing.AtLeastOneNodeMustExist {
+        final Set<HashRing.Position> positions = IntStream.range(0, 64)
+                .mapToObj(i -> new HashRing.Position(i * (Integer.MAX_VALUE / 64)))
+                .collect(Collectors.toSet());
+        final SimpleHashRing<String, Integer> hashRing = SimpleHashRing.create(positions, PositionHasher.XXHASH64.charSequences());
+        for (int i = 0; i < 64_000; i++) {
+            hashRing.addEntry("user:" + i, i);
+        }
+
+        Assert.assertEquals(Integer.valueOf(12_345), hashRing.get("user:12345"));
+        Assert.assertTrue(hashRing.getLoadReport().getImbalance() < 1.2);
+    }
+
+    private static Integer murmur3(final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return (int) PositionHasher.MURMUR3.hash(bytes, 0, bytes.length, ByteAccess.BYTE_ARRAY);
+    }
+
+    private static long xxHash64(final String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return PositionHasher.XXHASH64.hash(bytes, 0, bytes.length, ByteAccess.BYTE_ARRAY);
+    }
+
+    private static double chiSquared(final ToIntFunction<Integer> hasher) {
+        final int bucketCount = 64;
+        final int keyCount = 100_000;
+        final int[] buckets = new int[bucketCount];
+        for (int key = 0; key < keyCount; key++) {
+            buckets[(hasher.applyAsInt(key) & Integer.MAX_VALUE) >>> 25]++;
+        }
+
+        final double expected = (double) keyCount / bucketCount;
+        double chiSquared = 0;
+        for (final int observed : buckets) {
+            chiSquared += (observed - expected) * (observed - expected) / expected;
+        }
+        return chiSquared;
+    }
+
+    private static void countFlips(final int[] flips, final int difference) {
+        for (int bit = 0; bit < flips.length; bit++) {
+            flips[bit] += difference >>> bit & 1;
+        }
+    }
+
+    private static void assertBalancedFlips(final PositionHasher hasher, final int[][] flips, final int samples) {
+        for (final int[] inputBit : flips) {
+            for (final int outputFlips : inputBit) {
+                final double ratio = (double) outputFlips / samples;
+                Assert.assertTrue(hasher.name() + " flip ratio " + ratio, 0.4 < ratio && ratio < 0.6);
+            }
+        }
+    }
+}
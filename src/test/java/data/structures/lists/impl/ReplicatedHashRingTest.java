@@ -0,0 +1,157 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing;
+import junit.framework.TestCase;
+import org.junit.Assert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class ReplicatedHashRingTest extends TestCase {
+
+    public void testReplicasAreDistinctPhysicalNodes() throws HashRing.AtLeastOneNodeMustExist {
+        final ReplicatedHashRing<Integer, Integer> hashRing = createRing(5, 3, ReplicatedHashRing.ReadStrategy.PRIMARY_FIRST);
+        for (int key = 0; key < 1_000; key++) {
+            final List<HashRing.Position> replicas = hashRing.replicasFor(key, 3);
+            Assert.assertEquals(3, replicas.size());
+            Assert.assertEquals(3, new HashSet<>(replicas).size());
+            Assert.assertEquals(replicas.subList(0, 2), hashRing.replicasFor(key, 2));
+            Assert.assertEquals(5, hashRing.replicasFor(key, 10).size());
+        }
+        Assert.assertThrows(IllegalArgumentException.class, () -> hashRing.replicasFor(1, 0));
+    }
+
+    public void testWritesReachEveryReplica() throws HashRing.AtLeastOneNodeMustExist {
+        final ReplicatedHashRing<Integer, Integer> hashRing = createRing(5, 3, ReplicatedHashRing.ReadStrategy.ANY);
+        IntStream.range(0, 1_000).forEach(i -> hashRing.addEntry(i, -i));
+
+        Assert.assertEquals(3_000, hashRing.getLoadReport().getTotalEntries());
+        for (int key = 0; key < 1_000; key++) {
+            for (final HashRing.Position replica : hashRing.replicasFor(key, 3)) {
+                Assert.assertEquals(Optional.of(-key), hashRing.getValue(key, replica));
+            }
+            Assert.assertEquals(Optional.of(-key), hashRing.getValue(key));
+        }
+
+        Assert.assertEquals(Optional.of(-1), hashRing.removeEntry(1));
+        Assert.assertEquals(Optional.empty(), hashRing.getValue(1));
+        Assert.assertEquals(2_997, hashRing.getLoadReport().getTotalEntries());
+    }
+
+    public void testPrimaryFirstFallsBackToLaterReplicas() throws HashRing.AtLeastOneNodeMustExist {
+        final ReplicatedHashRing<Integer, Integer> hashRing = createRing(4, 2, ReplicatedHashRing.ReadStrategy.PRIMARY_FIRST);
+        hashRing.addEntry(7, 70);
+        final HashRing.Position primary = hashRing.replicasFor(7, 1).get(0);
+
+        hashRing.removeNode(primary);
+
+        Assert.assertEquals(Optional.of(70), hashRing.getValue(7));
+        Assert.assertEquals(Optional.empty(), hashRing.getValue(7, primary));
+    }
+
+    public void testTopologyChangesKeepReplicaSetsExact() throws HashRing.AtLeastOneNodeMustExist {
+        final ReplicatedHashRing<Integer, Integer> hashRing = createRing(3, 3, ReplicatedHashRing.ReadStrategy.PRIMARY_FIRST);
+        final Map<Integer, Integer> model = new HashMap<>();
+        final List<HashRing.Position> nodes = IntStream.range(0, 3).mapToObj(HashRing.Position::new).collect(Collectors.toList());
+        final Random random = new Random(11);
+
+        for (int step = 0; step < 5_000; step++) {
+            final int key = random.nextInt(2_000);
+            switch (random.nextInt(50)) {
+                case 0:
+                    final HashRing.Position added = new HashRing.Position(100 + step);
+                    hashRing.addNode(added, 1 + random.nextInt(2));
+                    nodes.add(added);
+                    assertReplicaSetsExact(hashRing, model, nodes);
+                    break;
+                case 1:
+                    if (1 < nodes.size()) {
+                        final HashRing.Position removed = nodes.remove(random.nextInt(nodes.size()));
+                        final int removedEntries = (int) model.keySet().stream().filter(k -> hashRing.getValue(k, removed).isPresent()).count();
+                        hashRing.removeNode(removed);
+                        Assert.assertTrue(hashRing.getLastCopiedEntries() <= removedEntries);
+                        assertReplicaSetsExact(hashRing, model, nodes);
+                    }
+                    break;
+                case 2:
+                case 3:
+                case 4:
+                    Assert.assertEquals(Optional.ofNullable(model.remove(key)), hashRing.removeEntry(key));
+                    break;
+                default:
+                    Assert.assertEquals(Optional.ofNullable(model.put(key, step)), hashRing.addEntry(key, step));
+            }
+        }
+        assertReplicaSetsExact(hashRing, model, nodes);
+    }
+
+    private static void assertReplicaSetsExact(
+            final ReplicatedHashRing<Integer, Integer> hashRing,
+            final Map<Integer, Integer> model,
+            final List<HashRing.Position> nodes
+    ) {
+        long expectedEntries = 0;
+        for (final Map.Entry<Integer, Integer> entry : model.entrySet()) {
+            final Set<HashRing.Position> replicas = new HashSet<>(hashRing.replicasFor(entry.getKey(), hashRing.getReplicationFactor()));
+            for (final HashRing.Position node : nodes) {
+                Assert.assertEquals(
+                        replicas.contains(node) ? Optional.of(entry.getValue()) : Optional.empty(),
+                        hashRing.getValue(entry.getKey(), node)
+                );
+            }
+            expectedEntries += replicas.size();
+        }
+        Assert.assertEquals(expectedEntries, hashRing.getLoadReport().getTotalEntries());
+    }
+
+    private static ReplicatedHashRing<Integer, Integer> createRing(
+            final int nodeCount,
+            final int replicationFactor,
+            final ReplicatedHashRing.ReadStrategy readStrategy
+    ) throws HashRing.AtLeastOneNodeMustExist {
+        return ReplicatedHashRing.<Integer, Integer>builder(
+                IntStream.range(0, nodeCount).mapToObj(HashRing.Position::new).collect(Collectors.toSet()),
+                ReplicatedHashRingTest::positionOf
+        )
+                .tokensPerWeight(16)
+                .replicationFactor(replicationFactor)
+                .readStrategy(readStrategy)
+                .build();
+    }
+
+    private static int positionOf(final Integer key) {
+        int hash = key;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash & Integer.MAX_VALUE;
+    }
+
+    public void testStreamYieldsEachKeyOnce() throws HashRing.AtLeastOneNodeMustExist {
+        final ReplicatedHashRing<Integer, Integer> hashRing = createRing(6, 3, ReplicatedHashRing.ReadStrategy.PRIMARY_FIRST);
+        IntStream.range(0, 5_000).forEach(i -> hashRing.addEntry(i, -i));
+        hashRing.addNode(new HashRing.Position(100));
+
+        final Map<Integer, Integer> scanned = hashRing.stream()
+                .parallel()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        Assert.assertEquals(5_000, scanned.size());
+        Assert.assertEquals(Integer.valueOf(-4_999), scanned.get(4_999));
+
+        final long shardEntries = IntStream.range(0, 6)
+                .mapToObj(HashRing.Position::new)
+                .mapToLong(position -> hashRing.entriesOf(position).count())
+                .sum() + hashRing.entriesOf(new HashRing.Position(100)).count();
+        Assert.assertEquals(hashRing.getLoadReport().getTotalEntries(), shardEntries);
+    }
+}
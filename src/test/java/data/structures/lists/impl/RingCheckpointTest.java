@@ -0,0 +1,118 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing;
+import junit.framework.TestCase;
+import org.junit.Assert;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public class RingCheckpointTest extends TestCase {
+    private final List<Path> directories = new ArrayList<>();
+
+    @Override
+    protected void tearDown() throws IOException {
+        for (final Path directory : directories) {
+            try (Stream<Path> paths = Files.walk(directory)) {
+                final List<Path> deepestFirst = paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+                for (final Path path : deepestFirst) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+        directories.clear();
+    }
+
+    public void testCheckpointRoundTrip() throws IOException, HashRing.AtLeastOneNodeMustExist {
+        final Path path = createCheckpointPath();
+        final SimpleHashRing<Integer, String> hashRing = createRing(8);
+        IntStream.range(0, 10_000).forEach(i -> hashRing.addEntry(i, "value-" + i + "-\u00e9"));
+
+        RingCheckpoint.write(hashRing, path, Codecs.INTEGER, Codecs.STRING);
+        Assert.assertFalse(Files.exists(path.resolveSibling("ring.checkpoint.tmp")));
+        Assert.assertEquals(positions(8), RingCheckpoint.readTopology(path));
+
+        final SimpleHashRing<Integer, String> loaded = RingCheckpoint.load(
+                path,
+                RingCheckpointTest::positionOf,
+                Codecs.INTEGER,
+                Codecs.STRING
+        );
+        Assert.assertEquals(hashRing.getNodeLoads(), loaded.getNodeLoads());
+        for (int i = 0; i < 10_000; i++) {
+            Assert.assertEquals(Optional.of("value-" + i + "-\u00e9"), loaded.getValue(i));
+        }
+        Assert.assertEquals(Optional.empty(), loaded.getValue(10_000));
+
+        loaded.addEntry(10_000, "new");
+        Assert.assertEquals(Optional.of("new"), loaded.getValue(10_000));
+    }
+
+    public void testLoadIntoRejectsDifferentTopology() throws IOException, HashRing.AtLeastOneNodeMustExist {
+        final Path path = createCheckpointPath();
+        RingCheckpoint.write(createRing(4), path, Codecs.INTEGER, Codecs.STRING);
+
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> RingCheckpoint.loadInto(path, createRing(5), Codecs.INTEGER, Codecs.STRING)
+        );
+    }
+
+    public void testCorruptFilesAreRejected() throws IOException, HashRing.AtLeastOneNodeMustExist {
+        final Path path = createCheckpointPath();
+        final SimpleHashRing<Integer, String> hashRing = createRing(2);
+        IntStream.range(0, 100).forEach(i -> hashRing.addEntry(i, "value"));
+        RingCheckpoint.write(hashRing, path, Codecs.INTEGER, Codecs.STRING);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+        Assert.assertThrows(
+                RingCheckpoint.InvalidFileFormat.class,
+                () -> RingCheckpoint.load(path, RingCheckpointTest::positionOf, Codecs.INTEGER, Codecs.STRING)
+        );
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 0}), 0);
+        }
+        Assert.assertThrows(RingCheckpoint.InvalidFileFormat.class, () -> RingCheckpoint.readTopology(path));
+    }
+
+    private Path createCheckpointPath() throws IOException {
+        final Path directory = Files.createTempDirectory("ring");
+        directories.add(directory);
+        return directory.resolve("ring.checkpoint");
+    }
+
+    private static SimpleHashRing<Integer, String> createRing(final int nodeCount) throws HashRing.AtLeastOneNodeMustExist {
+        return SimpleHashRing.create(positions(nodeCount), RingCheckpointTest::positionOf);
+    }
+
+    private static Set<HashRing.Position> positions(final int nodeCount) {
+        return IntStream.range(0, nodeCount)
+                .mapToObj(i -> new HashRing.Position(i * (Integer.MAX_VALUE / nodeCount)))
+                .collect(Collectors.toSet());
+    }
+
+    private static int positionOf(final Integer key) {
+        int hash = key;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash & Integer.MAX_VALUE;
+    }
+}
@@ -1,12 +1,23 @@
 package data.structures.lists.impl;
 
 import data.structures.lists.interfaces.HashRing;
+import data.structures.maps.CacheStats;
+import data.structures.maps.EvictingMap;
 import junit.framework.TestCase;
 import org.junit.Assert;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 public class SimpleHashRingTest extends TestCase {
 
@@ -52,4 +63,499 @@ public class SimpleHashRingTest extends TestCase {
             // expected
         }
     }
-}
\ No newline at end of file
+
+    public void testNodeAdditionMovesEntriesToNewOwner() throws HashRing.AtLeastOneNodeMustExist {
+        final SimpleHashRing<Integer, Integer> hashRing = SimpleHashRing.create(
+                Set.of(new SimpleHashRing.Position(100)),
+                key -> key
+        );
+        for (int i = 0; i <= 200; i++) {
+            hashRing.addEntry(i, i);
+        }
+
+        hashRing.addNode(new SimpleHashRing.Position(50));
+        hashRing.addNode(new SimpleHashRing.Position(150));
+        hashRing.addNode(new SimpleHashRing.Position(0));
+        for (int i = 0; i <= 200; i++) {
+            Assert.assertEquals(Integer.valueOf(i), hashRing.get(i));
+            Assert.assertEquals(Optional.of(i), hashRing.getValue(i));
+        }
+
+        hashRing.removeNode(new SimpleHashRing.Position(100));
+        hashRing.removeNode(new SimpleHashRing.Position(0));
+        for (int i = 0; i <= 200; i++) {
+            Assert.assertEquals(Integer.valueOf(i), hashRing.get(i));
+        }
+        Assert.assertNull(hashRing.get(201));
+        Assert.assertEquals(Optional.of(7), hashRing.removeEntry(7));
+        Assert.assertNull(hashRing.get(7));
+    }
+
+    public void testIncrementalMigrationMatchesModel() throws HashRing.AtLeastOneNodeMustExist {
+        final SimpleHashRing<Integer, Integer> hashRing = SimpleHashRing.<Integer, Integer>builder(
+                Set.of(new SimpleHashRing.Position(0)),
+                key -> key * 7919 & Integer.MAX_VALUE
+        )
+                .migrationMode(SimpleHashRing.MigrationMode.INCREMENTAL)
+                .migrationBatchSize(16)
+                .build();
+        final Map<Integer, Integer> model = new HashMap<>();
+        final List<SimpleHashRing.Position> added = new ArrayList<>();
+        final Random random = new Random(0);
+
+        for (int i = 0; i < 5_000; i++) {
+            hashRing.addEntry(i, i);
+            model.put(i, i);
+        }
+
+        for (int step = 0; step < 20_000; step++) {
+            final int key = random.nextInt(6_000);
+            switch (random.nextInt(10)) {
+                case 0:
+                    if (added.isEmpty() || random.nextBoolean()) {
+                        final SimpleHashRing.Position position = new SimpleHashRing.Position(1 + random.nextInt(Integer.MAX_VALUE - 1));
+                        hashRing.addNode(position);
+                        added.add(position);
+                    } else {
+                        hashRing.removeNode(added.remove(random.nextInt(added.size())));
+                    }
+                    Assert.assertTrue(hashRing.getMigrationProgress().isInProgress());
+                    break;
+                case 1:
+                case 2:
+                    Assert.assertEquals(Optional.ofNullable(model.remove(key)), hashRing.removeEntry(key));
+                    break;
+                case 3:
+                case 4:
+                    Assert.assertEquals(Optional.ofNullable(model.put(key, step)), hashRing.addEntry(key, step));
+                    break;
+                default:
+                    Assert.assertEquals(model.get(key), hashRing.get(key));
+            }
+        }
+
+        hashRing.completeMigration();
+        final MigrationProgress progress = hashRing.getMigrationProgress();
+        Assert.assertFalse(progress.isInProgress());
+        Assert.assertEquals(0, progress.getRemainingEntries());
+        Assert.assertTrue(0 < progress.getMovedEntries());
+        Assert.assertTrue(0 < progress.getCompletedMigrations());
+        Assert.assertTrue(progress.getMaximumPauseNanos() <= progress.getTotalPauseNanos());
+        for (int key = 0; key < 6_000; key++) {
+            Assert.assertEquals(model.get(key), hashRing.get(key));
+        }
+    }
+
+    public void testIncrementalMigrationMovesInBoundedBatches() throws HashRing.AtLeastOneNodeMustExist {
+        final SimpleHashRing<Integer, Integer> hashRing = SimpleHashRing.<Integer, Integer>builder(
+                Set.of(new SimpleHashRing.Position(Integer.MAX_VALUE)),
+                key -> key
+        )
+                .migrationMode(SimpleHashRing.MigrationMode.INCREMENTAL)
+                .migrationBatchSize(100)
+                .build();
+        for (int i = 0; i < 1_000; i++) {
+            hashRing.addEntry(i, i);
+        }
+
+        hashRing.addNode(new SimpleHashRing.Position(499));
+        Assert.assertEquals(1_000, hashRing.getMigrationProgress().getRemainingEntries());
+        Assert.assertEquals(Integer.valueOf(10), hashRing.get(10));
+        Assert.assertEquals(900, hashRing.getMigrationProgress().getRemainingEntries());
+        Assert.assertEquals(Integer.valueOf(900), hashRing.get(900));
+        Assert.assertEquals(800, hashRing.getMigrationProgress().getRemainingEntries());
+
+        Assert.assertTrue(hashRing.migrateStep());
+        Assert.assertEquals(700, hashRing.getMigrationProgress().getRemainingEntries());
+
+        int remainingSteps = 0;
+        boolean inProgress = true;
+        while (inProgress) {
+            inProgress = hashRing.migrateStep();
+            remainingSteps++;
+        }
+        Assert.assertEquals(7, remainingSteps);
+        Assert.assertFalse(hashRing.getMigrationProgress().isInProgress());
+        for (int i = 0; i < 1_000; i++) {
+            Assert.assertEquals(Integer.valueOf(i), hashRing.get(i));
+        }
+    }
+
+    public void testStreamDoesNotFinishIncrementalMigration() throws HashRing.AtLeastOneNodeMustExist {
+        final SimpleHashRing<Integer, Integer> hashRing = SimpleHashRing.<Integer, Integer>builder(
+                Set.of(new SimpleHashRing.Position(Integer.MAX_VALUE)),
+                key -> key
+        )
+                .migrationMode(SimpleHashRing.MigrationMode.INCREMENTAL)
+                .migrationBatchSize(100)
+                .build();
+        for (int i = 0; i < 1_000; i++) {
+            hashRing.addEntry(i, i);
+        }
+
+        hashRing.addNode(new SimpleHashRing.Position(499));
+        hashRing.addEntry(3, -3);
+        hashRing.removeEntry(600);
+        final int remainingEntries = hashRing.getMigrationProgress().getRemainingEntries();
+        Assert.assertTrue(0 < remainingEntries);
+
+        final Map<Integer, Integer> streamed = hashRing.stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        Assert.assertEquals(remainingEntries, hashRing.getMigrationProgress().getRemainingEntries());
+        Assert.assertEquals(999, streamed.size());
+        Assert.assertEquals(Integer.valueOf(-3), streamed.get(3));
+        Assert.assertFalse(streamed.containsKey(600));
+        Assert.assertEquals(Integer.valueOf(999), streamed.get(999));
+
+        final Set<Integer> lowerKeys = hashRing.entriesOf(new SimpleHashRing.Position(499))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        final Set<Integer> upperKeys = hashRing.entriesOf(new SimpleHashRing.Position(Integer.MAX_VALUE))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+        Assert.assertEquals(500, lowerKeys.size());
+        Assert.assertEquals(499, upperKeys.size());
+        Assert.assertTrue(lowerKeys.stream().allMatch(key -> key <= 499));
+        Assert.assertTrue(upperKeys.stream().allMatch(key -> key > 499));
+        Assert.assertEquals(remainingEntries, hashRing.getMigrationProgress().getRemainingEntries());
+    }
+
+    public void testBoundedLoadCapsSkewedNodes() throws HashRing.AtLeastOneNodeMustExist {
+        final Set<HashRing.Position> positions = Set.of(
+                new SimpleHashRing.Position(0),
+                new SimpleHashRing.Position(10),
+                new SimpleHashRing.Position(20),
+                new SimpleHashRing.Position(Integer.MAX_VALUE / 2)
+        );
+        final SimpleHashRing<Integer, Integer> unbounded = SimpleHashRing.create(positions, key -> 1_000 + key % 1_000);
+        final SimpleHashRing<Integer, Integer> bounded = SimpleHashRing.<Integer, Integer>builder(positions, key -> 1_000 + key % 1_000)
+                .boundedLoad(0.25)
+                .build();
+        for (int i = 0; i < 8_000; i++) {
+            unbounded.addEntry(i, i);
+            bounded.addEntry(i, i);
+        }
+
+        Assert.assertEquals(8_000, unbounded.getLoadReport().getMaximumEntries());
+        Assert.assertTrue(bounded.getLoadReport().getMaximumEntries() <= bounded.getNodeCapacity());
+        Assert.assertEquals(2_500, bounded.getNodeCapacity());
+        Assert.assertEquals(8_000, bounded.getLoadReport().getTotalEntries());
+        for (int i = 0; i < 8_000; i++) {
+            Assert.assertEquals(Integer.valueOf(i), bounded.get(i));
+        }
+        Assert.assertNull(bounded.get(8_000));
+    }
+
+    public void testBoundedLoadMatchesModel() throws HashRing.AtLeastOneNodeMustExist {
+        final SimpleHashRing<Integer, Integer> hashRing = SimpleHashRing.<Integer, Integer>builder(
+                Set.of(new SimpleHashRing.Position(0), new SimpleHashRing.Position(1 << 20)),
+                key -> (key % 97) * 7919
+        )
+                .boundedLoad(0.1)
+                .build();
+        final Map<Integer, Integer> model = new HashMap<>();
+        final List<SimpleHashRing.Position> added = new ArrayList<>();
+        final Random random = new Random(3);
+
+        for (int step = 0; step < 30_000; step++) {
+            final int key = random.nextInt(3_000);
+            switch (random.nextInt(20)) {
+                case 0:
+                    if (added.isEmpty() || random.nextBoolean()) {
+                        final SimpleHashRing.Position position = new SimpleHashRing.Position(1 + random.nextInt(1 << 20));
+                        final long movedBefore = hashRing.getMigrationProgress().getMovedEntries();
+                        hashRing.addNode(position);
+                        added.add(position);
+                        Assert.assertTrue(hashRing.getMigrationProgress().getMovedEntries() - movedBefore <= model.size());
+                    } else {
+                        hashRing.removeNode(added.remove(random.nextInt(added.size())));
+                    }
+                    Assert.assertTrue(hashRing.getLoadReport().getMaximumEntries() <= hashRing.getNodeCapacity());
+                    break;
+                case 1:
+                case 2:
+                case 3:
+                    Assert.assertEquals(Optional.ofNullable(model.remove(key)), hashRing.removeEntry(key));
+                    break;
+                case 4:
+                case 5:
+                case 6:
+                case 7:
+                    Assert.assertEquals(Optional.ofNullable(model.put(key, step)), hashRing.addEntry(key, step));
+                    break;
+                default:
+                    Assert.assertEquals(model.get(key), hashRing.get(key));
+            }
+        }
+
+        for (int key = 0; key < 3_000; key++) {
+            Assert.assertEquals(model.get(key), hashRing.get(key));
+        }
+        Assert.assertEquals(model.size(), hashRing.getLoadReport().getTotalEntries());
+    }
+
+    public void testBoundedLoadRequiresEagerMigrationAndPositiveEpsilon() {
+        final Set<HashRing.Position> positions = Set.of(new SimpleHashRing.Position(0));
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> SimpleHashRing.<Integer, Integer>builder(positions, key -> key).boundedLoad(0)
+        );
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> SimpleHashRing.<Integer, Integer>builder(positions, key -> key)
+                        .boundedLoad(0.5)
+                        .migrationMode(SimpleHashRing.MigrationMode.INCREMENTAL)
+                        .build()
+        );
+    }
+
+    public void testBatchOperationsMatchSingleKeyOperations() throws HashRing.AtLeastOneNodeMustExist {
+        final Set<HashRing.Position> positions = Set.of(
+                new SimpleHashRing.Position(100),
+                new SimpleHashRing.Position(1 << 20),
+                new SimpleHashRing.Position(1 << 30)
+        );
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (final ForkJoinPool batchPool : Arrays.asList(null, pool)) {
+                final SimpleHashRing<Integer, Integer> hashRing = SimpleHashRing.create(positions, key -> key * 7919 & Integer.MAX_VALUE);
+                final HashRing<Integer, Integer> expected = SimpleHashRing.create(positions, key -> key * 7919 & Integer.MAX_VALUE);
+                final Map<Integer, Integer> entries = new HashMap<>();
+                for (int i = 0; i < 20_000; i += 2) {
+                    entries.put(i, -i);
+                    expected.addEntry(i, -i);
+                }
+                Assert.assertTrue(hashRing.putAll(entries, batchPool).isEmpty());
+
+                final List<Integer> keys = new ArrayList<>();
+                for (int i = 0; i < 20_000; i++) {
+                    keys.add(i);
+                }
+                Assert.assertEquals(entries, hashRing.getAll(keys, batchPool));
+                Assert.assertEquals(entries, expected.getAll(keys));
+
+                final Map<Integer, Integer> updated = Map.of(0, 1, 1, 2);
+                Assert.assertEquals(Map.of(0, 0), hashRing.putAll(updated, batchPool));
+                Assert.assertEquals(Map.of(0, 1, 1, 2, 2, -2), hashRing.removeAll(List.of(0, 1, 2, 3), batchPool));
+                Assert.assertEquals(Optional.empty(), hashRing.getValue(2));
+                Assert.assertEquals(Optional.of(-4), hashRing.getValue(4));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testBatchOperationsMatchSingleKeyOperationsForNegativePositions() throws HashRing.AtLeastOneNodeMustExist {
+        final Set<HashRing.Position> positions = Set.of(new SimpleHashRing.Position(10), new SimpleHashRing.Position(20));
+        final Map<String, Integer> keyPositions = Map.of("x", 12, "y", Integer.MIN_VALUE + 14, "z", 25);
+        final SimpleHashRing<String, Integer> hashRing = SimpleHashRing.create(positions, keyPositions::get);
+        hashRing.addEntry("x", 1);
+        hashRing.addEntry("y", 2);
+        Assert.assertEquals(Optional.of(2), hashRing.getValue("y"));
+        Assert.assertEquals(Map.of("x", 1, "y", 2), hashRing.getAll(List.of("x", "y", "z")));
+
+        final SimpleHashRing<String, Integer> batched = SimpleHashRing.create(positions, keyPositions::get);
+        batched.putAll(Map.of("x", 1, "y", 2, "z", 3));
+        hashRing.addEntry("z", 3);
+        for (final HashRing.Position position : positions) {
+            Assert.assertEquals(
+                    hashRing.entriesOf(position).collect(Collectors.toSet()),
+                    batched.entriesOf(position).collect(Collectors.toSet())
+            );
+        }
+
+        final Random random = new Random(0);
+        final Set<HashRing.Position> hashedPositions = new HashSet<>();
+        while (hashedPositions.size() < 16) {
+            hashedPositions.add(new SimpleHashRing.Position(random.nextInt(Integer.MAX_VALUE)));
+        }
+        final SimpleHashRing<String, Integer> single = SimpleHashRing.create(hashedPositions, String::hashCode);
+        final SimpleHashRing<String, Integer> bulk = SimpleHashRing.create(hashedPositions, String::hashCode);
+        final Map<String, Integer> entries = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            entries.put("key-" + random.nextInt(), i);
+        }
+        entries.forEach(single::addEntry);
+        bulk.putAll(entries);
+        Assert.assertEquals(entries, single.getAll(entries.keySet()));
+        Assert.assertEquals(entries, bulk.getAll(entries.keySet()));
+        for (final HashRing.Position position : hashedPositions) {
+            Assert.assertEquals(
+                    single.entriesOf(position).collect(Collectors.toSet()),
+                    bulk.entriesOf(position).collect(Collectors.toSet())
+            );
+        }
+    }
+
+    public void testReplicasForWalksClockwise() throws HashRing.AtLeastOneNodeMustExist {
+        final SimpleHashRing<Integer, Integer> hashRing = SimpleHashRing.create(
+                Set.of(new SimpleHashRing.Position(10), new SimpleHashRing.Position(20), new SimpleHashRing.Position(30)),
+                key -> key
+        );
+
+        Assert.assertEquals(
+                List.of(new SimpleHashRing.Position(20), new SimpleHashRing.Position(30)),
+                hashRing.replicasFor(15, 2)
+        );
+        Assert.assertEquals(
+                List.of(new SimpleHashRing.Position(10), new SimpleHashRing.Position(20), new SimpleHashRing.Position(30)),
+                hashRing.replicasFor(31, 5)
+        );
+        Assert.assertThrows(IllegalArgumentException.class, () -> hashRing.replicasFor(1, 0));
+    }
+
+    public void testEvictingNodeStoresBoundEachShard() throws HashRing.AtLeastOneNodeMustExist {
+        final List<EvictingMap<Integer, Integer>> stores = new ArrayList<>();
+        final SimpleHashRing<Integer, Integer> hashRing = SimpleHashRing.<Integer, Integer>builder(
+                Set.of(new SimpleHashRing.Position(0), new SimpleHashRing.Position(1 << 30)),
+                key -> key * 7919 & Integer.MAX_VALUE
+        )
+                .nodeStore(() -> {
+                    final EvictingMap<Integer, Integer> store = EvictingMap.<Integer, Integer>maximumEntries(100).build();
+                    stores.add(store);
+                    return store;
+                })
+                .build();
+
+        for (int key = 0; key < 10_000; key++) {
+            hashRing.addEntry(key, key);
+        }
+        hashRing.addNode(new SimpleHashRing.Position(1 << 29));
+
+        Assert.assertEquals(3, stores.size());
+        Assert.assertTrue(hashRing.getLoadReport().getMaximumEntries() <= 100);
+        Assert.assertEquals(Optional.of(9_999), hashRing.getValue(9_999));
+        final CacheStats stats = stores.stream().map(EvictingMap::getStats).reduce(CacheStats::plus).orElseThrow();
+        Assert.assertTrue(stats.getEvictionCount() >= 10_000 - 300);
+        Assert.assertEquals(1, stats.getHitCount());
+
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> SimpleHashRing.<Integer, Integer>builder(Set.of(new SimpleHashRing.Position(0)), key -> key)
+                        .boundedLoad(0.5)
+                        .nodeStore(HashMap::new)
+                        .build()
+        );
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> SimpleHashRing.<Integer, Integer>builder(Set.of(new SimpleHashRing.Position(0)), key -> key)
+                        .migrationMode(SimpleHashRing.MigrationMode.INCREMENTAL)
+                        .nodeStore(() -> EvictingMap.<Integer, Integer>maximumEntries(100).build())
+                        .build()
+        );
+    }
+
+    public void testBulkNodeChangesMoveEachEntryOnce() throws HashRing.AtLeastOneNodeMustExist {
+        final Set<HashRing.Position> initial = Set.of(new SimpleHashRing.Position(0), new SimpleHashRing.Position(1 << 30));
+        final SimpleHashRing<Integer, Integer> sequential = SimpleHashRing.create(initial, key -> key * 7919 & Integer.MAX_VALUE);
+        final SimpleHashRing<Integer, Integer> bulk = SimpleHashRing.create(initial, key -> key * 7919 & Integer.MAX_VALUE);
+        for (int key = 0; key < 20_000; key++) {
+            sequential.addEntry(key, key);
+            bulk.addEntry(key, key);
+        }
+
+        final Random random = new Random(5);
+        final Set<HashRing.Position> added = new HashSet<>();
+        while (added.size() < 20) {
+            added.add(new SimpleHashRing.Position(random.nextInt(Integer.MAX_VALUE)));
+        }
+        final List<HashRing.Position> descending = new ArrayList<>(added);
+        descending.sort(Collections.reverseOrder());
+        descending.forEach(sequential::addNode);
+
+        final MigrationPlan addPlan = bulk.planAddNodes(added);
+        Assert.assertEquals(0, bulk.getMigrationProgress().getMovedEntries());
+        Assert.assertEquals(20, addPlan.getTransfers().size());
+        Assert.assertEquals(22, addPlan.getNodeCountAfter());
+        bulk.addNodes(added);
+
+        Assert.assertEquals(sequential.getNodeLoads(), bulk.getNodeLoads());
+        Assert.assertEquals(addPlan.getTotalEntries(), bulk.getMigrationProgress().getMovedEntries());
+        Assert.assertTrue(bulk.getMigrationProgress().getMovedEntries() < sequential.getMigrationProgress().getMovedEntries());
+        for (final MigrationPlan.Transfer transfer : addPlan.getTransfers()) {
+            Assert.assertEquals(Integer.valueOf(transfer.getEntryCount()), bulk.getNodeLoads().get(transfer.getTarget()));
+        }
+
+        final Set<HashRing.Position> removed = new HashSet<>(descending.subList(0, 10));
+        removed.add(new SimpleHashRing.Position(0));
+        final MigrationPlan removePlan = bulk.planRemoveNodes(removed);
+        final long movedBefore = bulk.getMigrationProgress().getMovedEntries();
+        bulk.removeNodes(removed);
+        Assert.assertEquals(11, bulk.getNodeCount());
+        Assert.assertEquals(11, removePlan.getTransfers().size());
+        Assert.assertEquals(removePlan.getTotalEntries(), bulk.getMigrationProgress().getMovedEntries() - movedBefore);
+        for (int key = 0; key < 20_000; key++) {
+            Assert.assertEquals(Integer.valueOf(key), bulk.get(key));
+        }
+
+        try {
+            bulk.removeNodes(bulk.getNodeLoads().keySet());
+            throw new RuntimeException("unexpected");
+        } catch (HashRing.AtLeastOneNodeMustExist e) {
+            // expected
+        }
+        Assert.assertEquals(11, bulk.getNodeCount());
+    }
+
+    public void testBulkNodeChangesWithBoundedLoadAndIncrementalMigration() throws HashRing.AtLeastOneNodeMustExist {
+        final Set<HashRing.Position> initial = Set.of(new SimpleHashRing.Position(0));
+        final SimpleHashRing<Integer, Integer> bounded = SimpleHashRing.<Integer, Integer>builder(initial, key -> key * 7919 & Integer.MAX_VALUE)
+                .boundedLoad(0.25)
+                .build();
+        final SimpleHashRing<Integer, Integer> incremental = SimpleHashRing.<Integer, Integer>builder(initial, key -> key * 7919 & Integer.MAX_VALUE)
+                .migrationMode(SimpleHashRing.MigrationMode.INCREMENTAL)
+                .build();
+        for (int key = 0; key < 5_000; key++) {
+            bounded.addEntry(key, key);
+            incremental.addEntry(key, key);
+        }
+        incremental.addNode(new SimpleHashRing.Position(1 << 30));
+        Assert.assertTrue(incremental.getMigrationProgress().isInProgress());
+        Assert.assertThrows(IllegalStateException.class, () -> incremental.planAddNodes(Set.of(new SimpleHashRing.Position(1))));
+        Assert.assertThrows(IllegalStateException.class, () -> bounded.planRemoveNodes(initial));
+
+        final Set<HashRing.Position> added = Set.of(
+                new SimpleHashRing.Position(1 << 28),
+                new SimpleHashRing.Position(1 << 29),
+                new SimpleHashRing.Position(3 << 29)
+        );
+        bounded.addNodes(added);
+        incremental.addNodes(added);
+        Assert.assertFalse(incremental.getMigrationProgress().isInProgress());
+        Assert.assertTrue(bounded.getLoadReport().getMaximumEntries() <= bounded.getNodeCapacity());
+
+        bounded.removeNodes(Set.of(new SimpleHashRing.Position(0), new SimpleHashRing.Position(1 << 28)));
+        incremental.removeNodes(Set.of(new SimpleHashRing.Position(0), new SimpleHashRing.Position(1 << 28)));
+        Assert.assertTrue(bounded.getLoadReport().getMaximumEntries() <= bounded.getNodeCapacity());
+        for (int key = 0; key < 5_000; key++) {
+            Assert.assertEquals(Integer.valueOf(key), bounded.get(key));
+            Assert.assertEquals(Integer.valueOf(key), incremental.get(key));
+        }
+    }
+
+    public void testStreamsScanEveryShard() throws HashRing.AtLeastOneNodeMustExist {
+        final SimpleHashRing<Integer, Integer> hashRing = SimpleHashRing.<Integer, Integer>builder(
+                Set.of(new SimpleHashRing.Position(0), new SimpleHashRing.Position(1 << 30)),
+                key -> key * 7919 & Integer.MAX_VALUE
+        )
+                .migrationMode(SimpleHashRing.MigrationMode.INCREMENTAL)
+                .build();
+        for (int key = 0; key < 10_000; key++) {
+            hashRing.addEntry(key, key);
+        }
+        hashRing.addNode(new SimpleHashRing.Position(1 << 29));
+        Assert.assertTrue(hashRing.getMigrationProgress().isInProgress());
+
+        Assert.assertEquals(10_000, hashRing.stream().parallel().map(Map.Entry::getKey).distinct().count());
+        Assert.assertEquals(49_995_000L, hashRing.stream().parallel().mapToLong(Map.Entry::getValue).sum());
+
+        long scanned = 0;
+        for (final Map.Entry<HashRing.Position, Integer> load : hashRing.getNodeLoads().entrySet()) {
+            Assert.assertTrue(
+                    hashRing.entriesOf(load.getKey()).allMatch(entry -> hashRing.replicasFor(entry.getKey(), 1).get(0).equals(load.getKey()))
+            );
+            scanned += hashRing.entriesOf(load.getKey()).count();
+        }
+        Assert.assertEquals(10_000, scanned);
+        Assert.assertEquals(0, hashRing.entriesOf(new SimpleHashRing.Position(7)).count());
+    }
+}
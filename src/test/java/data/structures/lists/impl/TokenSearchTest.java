@@ -0,0 +1,28 @@
+package data.structures.lists.impl;
+
+import junit.framework.TestCase;
+import org.junit.Assert;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public class TokenSearchTest extends TestCase {
+
+    public void testMatchesLinearScan() {
+        final Random random = new Random(0);
+        for (int tokenCount = 1; tokenCount <= 64; tokenCount++) {
+            final int[] tokens = random.ints(tokenCount, 0, 1_000).sorted().toArray();
+            final int[] paddedTokens = Arrays.copyOf(tokens, 2 * tokenCount);
+            for (int position = -1; position <= 1_001; position++) {
+                int expected = 0;
+                while (expected < tokenCount && tokens[expected] < position) {
+                    expected++;
+                }
+                expected %= tokenCount;
+
+                Assert.assertEquals(expected, TokenSearch.findOwnerIndex(tokens, tokenCount, position));
+                Assert.assertEquals(expected, TokenSearch.findOwnerIndex(paddedTokens, tokenCount, position));
+            }
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package data.structures.lists.impl;
+
+import data.structures.lists.interfaces.HashRing;
+import junit.framework.TestCase;
+import org.junit.Assert;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class VirtualNodeHashRingTest extends TestCase {
+
+    public void testRequiresNodesAndPositiveWeights() {
+        try {
+            new VirtualNodeHashRing<Integer, Integer>(Collections.<HashRing.Position>emptySet(), VirtualNodeHashRingTest::positionOf, 8);
+            throw new RuntimeException("unexpected");
+        } catch (HashRing.AtLeastOneNodeMustExist e) {
+            // expected
+        }
+
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> new VirtualNodeHashRing<Integer, Integer>(Set.of(new HashRing.Position(0)), VirtualNodeHashRingTest::positionOf, 0)
+        );
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> createRing(1, 8).addNode(new HashRing.Position(1), 0)
+        );
+    }
+
+    public void testEntriesSurviveTopologyChanges() throws HashRing.AtLeastOneNodeMustExist {
+        final VirtualNodeHashRing<Integer, Integer> hashRing = createRing(3, 16);
+        IntStream.range(0, 10_000).forEach(i -> hashRing.addEntry(i, -i));
+
+        hashRing.addNode(new HashRing.Position(100), 2);
+        hashRing.removeNode(new HashRing.Position(0));
+        hashRing.addNode(new HashRing.Position(100), 5);
+
+        for (int i = 0; i < 10_000; i++) {
+            Assert.assertEquals(Optional.of(-i), hashRing.getValue(i));
+        }
+        Assert.assertEquals(Optional.of(-1), hashRing.removeEntry(1));
+        Assert.assertEquals(Optional.empty(), hashRing.getValue(1));
+        Assert.assertEquals(Optional.empty(), hashRing.getValue(10_000));
+        Assert.assertEquals(4 * 16, hashRing.getTokenCount());
+
+        hashRing.removeNode(new HashRing.Position(1));
+        hashRing.removeNode(new HashRing.Position(2));
+        try {
+            hashRing.removeNode(new HashRing.Position(100));
+            throw new RuntimeException("unexpected");
+        } catch (HashRing.AtLeastOneNodeMustExist e) {
+            // expected
+        }
+    }
+
+    public void testAddingNodeOnlyMovesKeysToThatNode() {
+        final VirtualNodeHashRing<Integer, Integer> hashRing = createRing(5, 64);
+        final Map<Integer, HashRing.Position> ownersBefore = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            hashRing.addEntry(i, i);
+            ownersBefore.put(i, hashRing.getOwner(i));
+        }
+
+        final HashRing.Position added = new HashRing.Position(1_000);
+        hashRing.addNode(added);
+
+        int moved = 0;
+        for (int i = 0; i < 10_000; i++) {
+            final HashRing.Position owner = hashRing.getOwner(i);
+            if (!owner.equals(ownersBefore.get(i))) {
+                Assert.assertEquals(added, owner);
+                moved++;
+            }
+        }
+        Assert.assertTrue(0 < moved && moved < 10_000 / 3);
+    }
+
+    public void testMoreTokensReduceImbalance() {
+        final double singleTokenImbalance = loadWithTokens(1).getImbalance();
+        final LoadReport manyTokens = loadWithTokens(256);
+
+        Assert.assertEquals(100_000, manyTokens.getTotalEntries());
+        Assert.assertEquals(10, manyTokens.getNodeCount());
+        Assert.assertTrue(manyTokens.getImbalance() < singleTokenImbalance);
+        Assert.assertTrue(manyTokens.getImbalance() < 1.25);
+    }
+
+    public void testWeightsScaleShare() throws HashRing.AtLeastOneNodeMustExist {
+        final VirtualNodeHashRing<Integer, Integer> hashRing = new VirtualNodeHashRing<>(
+                Map.of(new HashRing.Position(0), 1, new HashRing.Position(1), 3),
+                VirtualNodeHashRingTest::positionOf,
+                128
+        );
+        final long heavy = IntStream.range(0, 100_000)
+                .filter(i -> hashRing.getOwner(i).equals(new HashRing.Position(1)))
+                .count();
+
+        Assert.assertTrue(heavy > 70_000 && heavy < 80_000);
+    }
+
+    public void testReplicasStartAtOwnerAndSkipRepeatedNodes() {
+        final VirtualNodeHashRing<Integer, Integer> hashRing = createRing(4, 32);
+        for (int i = 0; i < 1_000; i++) {
+            final List<HashRing.Position> replicas = hashRing.replicasFor(i, 3);
+            Assert.assertEquals(hashRing.getOwner(i), replicas.get(0));
+            Assert.assertEquals(3, new HashSet<>(replicas).size());
+        }
+    }
+
+    private static LoadReport loadWithTokens(final int tokensPerWeight) {
+        final VirtualNodeHashRing<Integer, Integer> hashRing = createRing(10, tokensPerWeight);
+        IntStream.range(0, 100_000).forEach(i -> hashRing.addEntry(i, i));
+        return hashRing.getLoadReport();
+    }
+
+    private static VirtualNodeHashRing<Integer, Integer> createRing(final int nodeCount, final int tokensPerWeight) {
+        try {
+            return new VirtualNodeHashRing<>(
+                    IntStream.range(0, nodeCount).mapToObj(HashRing.Position::new).collect(Collectors.toSet()),
+                    VirtualNodeHashRingTest::positionOf,
+                    tokensPerWeight
+            );
+        } catch (HashRing.AtLeastOneNodeMustExist e) {
+            throw new RuntimeException("unexpected", e);
+        }
+    }
+
+    private static HashRing.Position positionOf(final Integer key) {
+        int hash = key;
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return new HashRing.Position(hash & Integer.MAX_VALUE);
+    }
+}
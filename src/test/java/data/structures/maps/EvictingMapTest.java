@@ -0,0 +1,128 @@
+package data.structures.maps;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class EvictingMapTest {
+
+    @Test
+    public void TestLruEvictsLeastRecentlyUsed() {
+        final EvictingMap<Integer, String> map = EvictingMap.<Integer, String>maximumEntries(3)
+                .policy(EvictingMap.Policy.LRU)
+                .build();
+        map.put(1, "a");
+        map.put(2, "b");
+        map.put(3, "c");
+        Assert.assertEquals("a", map.get(1));
+
+        Assert.assertNull(map.put(4, "d"));
+
+        Assert.assertEquals(3, map.size());
+        Assert.assertFalse(map.containsKey(2));
+        Assert.assertEquals("a", map.get(1));
+        Assert.assertEquals("c", map.put(3, "e"));
+        Assert.assertEquals(1, map.getStats().getEvictionCount());
+        Assert.assertEquals(2, map.getStats().getHitCount());
+        Assert.assertEquals(0, map.getStats().getMissCount());
+    }
+
+    @Test
+    public void TestTinyLfuKeepsFrequentKeysThroughScans() {
+        final EvictingMap<Integer, Integer> lru = EvictingMap.<Integer, Integer>maximumEntries(100)
+                .policy(EvictingMap.Policy.LRU)
+                .build();
+        final EvictingMap<Integer, Integer> tinyLfu = EvictingMap.<Integer, Integer>maximumEntries(100)
+                .policy(EvictingMap.Policy.W_TINY_LFU)
+                .build();
+        final Random random = new Random(0);
+
+        for (int i = 0; i < 200_000; i++) {
+            final int key = 0 == i % 2 ? random.nextInt(50) : 1_000 + i;
+            for (final Map<Integer, Integer> map : new Map[]{lru, tinyLfu}) {
+                if (null == map.get(key)) {
+                    map.put(key, key);
+                }
+            }
+        }
+
+        Assert.assertTrue(100 >= tinyLfu.size());
+        Assert.assertTrue(tinyLfu.getStats().getHitRate() > lru.getStats().getHitRate());
+        Assert.assertTrue(tinyLfu.getStats().getHitRate() > 0.45);
+    }
+
+    @Test
+    public void TestWeightBoundsMap() {
+        final EvictingMap<Integer, String> map = EvictingMap.<Integer, String>maximumWeight(10, (key, value) -> value.length())
+                .policy(EvictingMap.Policy.LRU)
+                .build();
+        map.put(1, "aaaa");
+        map.put(2, "bbbb");
+        map.put(3, "cccc");
+
+        Assert.assertEquals(8, map.weightedSize());
+        Assert.assertFalse(map.containsKey(1));
+        map.put(2, "b");
+        Assert.assertEquals(5, map.weightedSize());
+        Assert.assertEquals(10, map.getMaximumWeight());
+    }
+
+    @Test
+    public void TestExpireAfterWrite() {
+        final AtomicLong now = new AtomicLong();
+        final EvictingMap<Integer, Integer> map = EvictingMap.<Integer, Integer>maximumEntries(10)
+                .expireAfterWrite(5, TimeUnit.NANOSECONDS)
+                .ticker(now::get)
+                .build();
+        map.put(1, 1);
+        now.set(3);
+        map.put(2, 2);
+        Assert.assertEquals(Integer.valueOf(1), map.get(1));
+
+        now.set(6);
+        Assert.assertNull(map.get(1));
+        Assert.assertEquals(Integer.valueOf(2), map.get(2));
+        Assert.assertEquals(1, map.getStats().getExpirationCount());
+
+        now.set(100);
+        Assert.assertFalse(map.entrySet().iterator().hasNext());
+        Assert.assertEquals(1, map.cleanUp());
+        Assert.assertEquals(0, map.size());
+    }
+
+    @Test
+    public void TestIteratorRemoval() {
+        final EvictingMap<Integer, Integer> map = EvictingMap.<Integer, Integer>maximumEntries(100).build();
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+        }
+
+        final Iterator<Map.Entry<Integer, Integer>> entries = map.entrySet().iterator();
+        while (entries.hasNext()) {
+            if (0 == entries.next().getKey() % 2) {
+                entries.remove();
+            }
+        }
+
+        Assert.assertEquals(5, map.size());
+        Assert.assertEquals(5, map.weightedSize());
+        Assert.assertEquals(Map.of(1, 1, 3, 3, 5, 5, 7, 7, 9, 9), Map.copyOf(map));
+        Assert.assertEquals(Integer.valueOf(3), map.remove(3));
+        Assert.assertNull(map.remove(3));
+    }
+
+    @Test
+    public void TestRejectsInvalidConfiguration() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> EvictingMap.maximumEntries(0));
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> EvictingMap.maximumEntries(1).expireAfterWrite(0, TimeUnit.SECONDS)
+        );
+        Assert.assertThrows(NullPointerException.class, () -> EvictingMap.<Integer, Integer>maximumEntries(1).build().put(1, null));
+    }
+}
@@ -0,0 +1,63 @@
+package data.structures.maps;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class IntIntOpenHashMapTest {
+    @Test
+    public void TestMissingKeyReturnsMissingValue() {
+        final IntIntOpenHashMap map = new IntIntOpenHashMap(0, -1);
+
+        Assert.assertEquals(-1, map.get(0));
+        Assert.assertEquals(-1, map.get(42));
+        Assert.assertFalse(map.containsKey(0));
+        Assert.assertEquals(0, map.size());
+    }
+
+    @Test
+    public void TestPutReturnsPreviousValue() {
+        final IntIntOpenHashMap map = new IntIntOpenHashMap(4, -1);
+
+        Assert.assertEquals(-1, map.put(0, 1));
+        Assert.assertEquals(1, map.put(0, 2));
+        Assert.assertEquals(-1, map.put(7, 3));
+        Assert.assertEquals(3, map.put(7, 4));
+
+        Assert.assertEquals(2, map.get(0));
+        Assert.assertEquals(4, map.get(7));
+        Assert.assertEquals(2, map.size());
+    }
+
+    @Test
+    public void TestMatchesHashMapAcrossResizes() {
+        final IntIntOpenHashMap map = new IntIntOpenHashMap(0, Integer.MIN_VALUE);
+        final Map<Integer, Integer> expected = new HashMap<>();
+        final Random random = new Random(0);
+
+        for (int i = 0; i < 100_000; i++) {
+            final int key = random.nextInt();
+            final int value = random.nextInt(Integer.MAX_VALUE);
+            map.put(key, value);
+            expected.put(key, value);
+        }
+
+        Assert.assertEquals(expected.size(), map.size());
+        expected.forEach((k, v) -> Assert.assertEquals((int) v, map.get(k)));
+    }
+
+    @Test
+    public void TestClear() {
+        final IntIntOpenHashMap map = new IntIntOpenHashMap(0, -1);
+        map.put(0, 1);
+        map.put(1, 2);
+        map.clear();
+
+        Assert.assertEquals(0, map.size());
+        Assert.assertFalse(map.containsKey(0));
+        Assert.assertFalse(map.containsKey(1));
+    }
+}
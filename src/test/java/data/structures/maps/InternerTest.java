@@ -0,0 +1,68 @@
+package data.structures.maps;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class InternerTest {
+    private static class CollidingKey {
+        private final int value;
+
+        private CollidingKey(final int value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 42;
+        }
+    }
+
+    @Test
+    public void TestInternAssignsDenseIds() {
+        final Interner<String> interner = new Interner<>(0);
+
+        Assert.assertEquals(Interner.ABSENT, interner.idOf("a"));
+        Assert.assertEquals(0, interner.intern("a"));
+        Assert.assertEquals(1, interner.intern("b"));
+        Assert.assertEquals(0, interner.intern(new String("a")));
+        Assert.assertEquals(1, interner.idOf("b"));
+        Assert.assertEquals("b", interner.keyOf(1));
+        Assert.assertEquals(2, interner.size());
+        Assert.assertThrows(IndexOutOfBoundsException.class, () -> interner.keyOf(2));
+    }
+
+    @Test
+    public void TestInternAcrossResizesAndCollisions() {
+        final Interner<CollidingKey> colliding = new Interner<>(0);
+        final Interner<Integer> integers = new Interner<>(0);
+        for (int i = 0; i < 1_000; i++) {
+            Assert.assertEquals(i, colliding.intern(new CollidingKey(i)));
+        }
+        for (int i = 0; i < 100_000; i++) {
+            Assert.assertEquals(i, integers.intern(i * 31));
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            Assert.assertEquals(i, colliding.idOf(new CollidingKey(i)));
+        }
+        for (int i = 0; i < 100_000; i++) {
+            Assert.assertEquals(i, integers.idOf(i * 31));
+        }
+        Assert.assertEquals(Interner.ABSENT, integers.idOf(1));
+    }
+
+    @Test
+    public void TestEnsureCapacityKeepsIds() {
+        final Interner<String> interner = new Interner<>(0);
+        interner.intern("a");
+        interner.ensureCapacity(10_000);
+
+        Assert.assertEquals(0, interner.idOf("a"));
+        Assert.assertEquals(1, interner.intern("b"));
+    }
+}
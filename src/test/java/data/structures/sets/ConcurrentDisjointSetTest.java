@@ -0,0 +1,152 @@
+package data.structures.sets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+public class ConcurrentDisjointSetTest {
+    @Test
+    public void TestUnableToFindRootForValue() {
+        final ConcurrentDisjointSet disjointSet = ConcurrentDisjointSet.create(4);
+
+        Assert.assertThrows(DisjointSet.UnableToIdentifyRootForValue.class, () -> disjointSet.findRoot(-1));
+        Assert.assertThrows(DisjointSet.UnableToIdentifyRootForValue.class, () -> disjointSet.findRoot(4));
+        Assert.assertThrows(DisjointSet.UnableToIdentifyRootForValue.class, () -> disjointSet.union(0, 4));
+        Assert.assertThrows(DisjointSet.UnableToIdentifyRootForValue.class, () -> disjointSet.sameSet(4, 0));
+    }
+
+    @Test
+    public void TestSingleThreadedUnions() throws DisjointSet.UnableToIdentifyRootForValue {
+        final ConcurrentDisjointSet disjointSet = ConcurrentDisjointSet.create(4);
+
+        Assert.assertFalse(disjointSet.sameSet(0, 1));
+        disjointSet.union(0, 1);
+        Assert.assertTrue(disjointSet.sameSet(0, 1));
+        Assert.assertEquals(disjointSet.findRoot(0), disjointSet.findRoot(1));
+        Assert.assertFalse(disjointSet.sameSet(0, 2));
+
+        disjointSet.union(3, 2);
+        disjointSet.union(2, 1);
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(disjointSet.sameSet(0, i));
+        }
+    }
+
+    @Test
+    public void TestConcurrentUnionsMatchSequentialPartition() throws Exception {
+        final int size = 200_000;
+        final int threadCount = Math.max(4, Runtime.getRuntime().availableProcessors());
+        final int edgesPerThread = size / 4;
+        final int[][] lefts = new int[threadCount][edgesPerThread];
+        final int[][] rights = new int[threadCount][edgesPerThread];
+        final IntDisjointSet expected = IntDisjointSet.createDense(size);
+        for (int i = 0; i < size; i++) {
+            expected.add(i);
+        }
+
+        final Random random = new Random(0);
+        for (int thread = 0; thread < threadCount; thread++) {
+            for (int i = 0; i < edgesPerThread; i++) {
+                lefts[thread][i] = random.nextInt(size);
+                rights[thread][i] = random.nextInt(size);
+                expected.union(lefts[thread][i], rights[thread][i]);
+            }
+        }
+
+        final ConcurrentDisjointSet disjointSet = ConcurrentDisjointSet.create(size);
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicBoolean unionsRunning = new AtomicBoolean(true);
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount + 1);
+        try {
+            final List<Future<?>> unions = new ArrayList<>();
+            for (int thread = 0; thread < threadCount; thread++) {
+                final int[] left = lefts[thread];
+                final int[] right = rights[thread];
+                unions.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < left.length; i++) {
+                        disjointSet.union(left[i], right[i]);
+                        Assert.assertTrue(disjointSet.sameSet(left[i], right[i]));
+                    }
+                    return null;
+                }));
+            }
+            final Future<?> reader = executor.submit(() -> {
+                start.await();
+                final Random readerRandom = new Random(1);
+                while (unionsRunning.get()) {
+                    final int value = readerRandom.nextInt(size);
+                    final int root = disjointSet.findRoot(value);
+                    Assert.assertTrue(disjointSet.sameSet(value, root));
+                }
+                return null;
+            });
+
+            start.countDown();
+            for (final Future<?> union : unions) {
+                union.get();
+            }
+            unionsRunning.set(false);
+            reader.get();
+        } finally {
+            executor.shutdown();
+            Assert.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        }
+
+        for (int i = 0; i < size; i++) {
+            Assert.assertEquals(
+                    expected.findRoot(i) == expected.findRoot(0),
+                    disjointSet.sameSet(i, 0)
+            );
+            Assert.assertEquals(
+                    expected.findRoot(i) == expected.findRoot(size - 1),
+                    disjointSet.findRoot(i) == disjointSet.findRoot(size - 1)
+            );
+        }
+    }
+
+    @Test
+    public void TestUnionAllMatchesSequentialUnions() throws DisjointSet.UnableToIdentifyRootForValue {
+        final int size = 100_000;
+        final int edgeCount = 80_000;
+        final Random random = new Random(0);
+        final int[] left = new int[edgeCount];
+        final int[] right = new int[edgeCount];
+        final IntDisjointSet expected = IntDisjointSet.createDense(size);
+        for (int i = 0; i < size; i++) {
+            expected.add(i);
+        }
+        for (int i = 0; i < edgeCount; i++) {
+            left[i] = random.nextInt(size);
+            right[i] = random.nextInt(size);
+            expected.union(left[i], right[i]);
+        }
+
+        final ConcurrentDisjointSet parallel = ConcurrentDisjointSet.create(size);
+        parallel.unionAll(left, right, new ForkJoinPool(4));
+        final ConcurrentDisjointSet streamed = ConcurrentDisjointSet.create(size);
+        streamed.unionAll(IntStream.range(0, edgeCount).flatMap(i -> IntStream.of(left[i], right[i])));
+
+        for (int i = 0; i < size; i++) {
+            final boolean expectedSameSet = expected.findRoot(i) == expected.findRoot(0);
+            Assert.assertEquals(expectedSameSet, parallel.sameSet(i, 0));
+            Assert.assertEquals(expectedSameSet, streamed.sameSet(i, 0));
+        }
+
+        Assert.assertThrows(
+                DisjointSet.UnableToIdentifyRootForValue.class,
+                () -> parallel.unionAll(new int[]{0}, new int[]{size})
+        );
+    }
+}
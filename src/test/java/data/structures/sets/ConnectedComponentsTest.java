@@ -0,0 +1,105 @@
+package data.structures.sets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public class ConnectedComponentsTest {
+    @Test
+    public void TestSmallGraph() throws DisjointSet.UnableToIdentifyRootForValue {
+        for (final ConnectedComponents.Mode mode : ConnectedComponents.Mode.values()) {
+            final ConnectedComponents components = ConnectedComponents.compute(
+                    6,
+                    ConnectedComponents.EdgeSource.of(new int[]{4, 1, 5}, new int[]{1, 4, 3}),
+                    mode
+            );
+
+            Assert.assertArrayEquals(new int[]{0, 1, 2, 3, 1, 3}, components.getComponentIds());
+            Assert.assertArrayEquals(new int[]{1, 2, 1, 2}, components.getComponentSizes());
+            Assert.assertEquals(4, components.getComponentCount());
+            Assert.assertEquals(2, components.getComponentSize(5));
+
+            components.getComponentIds()[5] = 0;
+            components.getComponentSizes()[3] = 0;
+            Assert.assertEquals(3, components.getComponentId(5));
+            Assert.assertEquals(2, components.getComponentSize(5));
+        }
+    }
+
+    @Test
+    public void TestEmptyGraph() throws DisjointSet.UnableToIdentifyRootForValue {
+        final ConnectedComponents components = ConnectedComponents.compute(
+                0,
+                ConnectedComponents.EdgeSource.of(new int[0], new int[0])
+        );
+
+        Assert.assertEquals(0, components.getComponentCount());
+    }
+
+    @Test
+    public void TestUnknownVertexThrowsUnableToIdentifyRoot() {
+        for (final ConnectedComponents.Mode mode : ConnectedComponents.Mode.values()) {
+            Assert.assertThrows(
+                    DisjointSet.UnableToIdentifyRootForValue.class,
+                    () -> ConnectedComponents.compute(
+                            2,
+                            ConnectedComponents.EdgeSource.of(new int[]{0}, new int[]{2}),
+                            mode
+                    )
+            );
+        }
+    }
+
+    @Test
+    public void TestEdgeSourcesAndModesAgreeWithUnionLoop() throws DisjointSet.UnableToIdentifyRootForValue {
+        final int vertexCount = 200_000;
+        final int edgeCount = 150_000;
+        final Random random = new Random(0);
+        final int[] left = new int[edgeCount];
+        final int[] right = new int[edgeCount];
+        final ByteBuffer packedPairs = ByteBuffer.allocateDirect(edgeCount * 2 * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        final IntDisjointSet expected = IntDisjointSet.createDense(vertexCount);
+        for (int i = 0; i < vertexCount; i++) {
+            expected.add(i);
+        }
+        for (int i = 0; i < edgeCount; i++) {
+            left[i] = random.nextInt(vertexCount);
+            right[i] = random.nextInt(vertexCount);
+            packedPairs.putInt(left[i]).putInt(right[i]);
+            expected.union(left[i], right[i]);
+        }
+        packedPairs.flip();
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        final ConnectedComponents[] results = {
+                ConnectedComponents.compute(vertexCount, ConnectedComponents.EdgeSource.of(left, right), ConnectedComponents.Mode.SEQUENTIAL),
+                ConnectedComponents.compute(vertexCount, ConnectedComponents.EdgeSource.of(left, right), ConnectedComponents.Mode.PARALLEL, pool),
+                ConnectedComponents.compute(vertexCount, ConnectedComponents.EdgeSource.of(packedPairs), ConnectedComponents.Mode.PARALLEL, pool),
+                ConnectedComponents.compute(
+                        vertexCount,
+                        ConnectedComponents.EdgeSource.of(
+                                IntStream.range(0, edgeCount).flatMap(i -> IntStream.of(left[i], right[i])).iterator()
+                        ),
+                        ConnectedComponents.Mode.PARALLEL,
+                        pool
+                )
+        };
+
+        Assert.assertEquals(edgeCount * 2 * Integer.BYTES, packedPairs.remaining());
+        for (final ConnectedComponents result : results) {
+            Assert.assertArrayEquals(results[0].getComponentIds(), result.getComponentIds());
+            Assert.assertArrayEquals(results[0].getComponentSizes(), result.getComponentSizes());
+        }
+        for (int i = 0; i < vertexCount; i++) {
+            Assert.assertEquals(
+                    expected.findRoot(i) == expected.findRoot(left[0]),
+                    results[0].getComponentId(i) == results[0].getComponentId(left[0])
+            );
+        }
+    }
+}
@@ -303,4 +303,28 @@ public class DisjointSetTest {
                         }
                 );
     }
-}
\ No newline at end of file
+
+    @Test
+    public void TestComponentSizeAndCount() throws DisjointSet.UnableToIdentifyRootForValue {
+        final DisjointSet disjointSet = DisjointSet.create(
+                Set.of(1, 2, 3)
+        );
+        Assert.assertEquals(3, disjointSet.componentCount());
+
+        disjointSet.add(4);
+        disjointSet.add(4);
+        Assert.assertEquals(4, disjointSet.componentCount());
+
+        disjointSet.union(1, 2);
+        disjointSet.union(2, 1);
+        disjointSet.union(3, 1);
+        Assert.assertEquals(2, disjointSet.componentCount());
+        Assert.assertEquals(3, disjointSet.componentSize(2));
+        Assert.assertEquals(1, disjointSet.componentSize(4));
+
+        Assert.assertThrows(
+                DisjointSet.UnableToIdentifyRootForValue.class,
+                () -> disjointSet.componentSize(5)
+        );
+    }
+}
@@ -0,0 +1,294 @@
+package data.structures.sets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public class IntDisjointSetTest {
+    @Test
+    public void TestUnableToFindRootForValue() {
+        Assert.assertThrows(
+                DisjointSet.UnableToIdentifyRootForValue.class,
+                () -> IntDisjointSet.create(Set.of(1)).findRoot(-1)
+        );
+        Assert.assertThrows(
+                DisjointSet.UnableToIdentifyRootForValue.class,
+                () -> IntDisjointSet.createDense(4).findRoot(1)
+        );
+        Assert.assertThrows(
+                DisjointSet.UnableToIdentifyRootForValue.class,
+                () -> IntDisjointSet.createDense(4).findRoot(-1)
+        );
+        Assert.assertThrows(
+                DisjointSet.UnableToIdentifyRootForValue.class,
+                () -> IntDisjointSet.createDense(4).findRoot(1_000)
+        );
+    }
+
+    @Test
+    public void TestDenseValuesMustBeNonNegative() {
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> IntDisjointSet.createDense(4).add(-1)
+        );
+    }
+
+    @Test
+    public void TestDenseValuesMustFitInAnArray() {
+        final IntDisjointSet disjointSet = IntDisjointSet.createDense(4);
+        Assert.assertThrows(IllegalArgumentException.class, () -> disjointSet.add(Integer.MAX_VALUE));
+        Assert.assertThrows(IllegalArgumentException.class, () -> disjointSet.add(Integer.MAX_VALUE - 8));
+        Assert.assertThrows(IllegalArgumentException.class, () -> IntDisjointSet.createDense(Integer.MAX_VALUE));
+
+        disjointSet.add(3);
+        Assert.assertTrue(disjointSet.contains(3));
+        Assert.assertFalse(disjointSet.contains(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void TestAddingValueIsIdempotent() throws DisjointSet.UnableToIdentifyRootForValue {
+        for (final IntDisjointSet disjointSet : new IntDisjointSet[]{IntDisjointSet.createDense(0), IntDisjointSet.createSparse(0)}) {
+            for (int i = 0; i < 10; i++) {
+                disjointSet.add(1);
+                Assert.assertEquals(1, disjointSet.findRoot(1));
+            }
+            Assert.assertEquals(1, disjointSet.size());
+        }
+    }
+
+    @Test
+    public void TestUnionMatchesDisjointSet() throws DisjointSet.UnableToIdentifyRootForValue {
+        final Set<Integer> values = Set.of(1, 2, 3, 4);
+        final DisjointSet expected = DisjointSet.create(values);
+        final IntDisjointSet sparse = IntDisjointSet.create(values);
+        final IntDisjointSet dense = IntDisjointSet.createDense(0);
+        values.forEach(dense::add);
+
+        final int[][] unions = {{1, 2}, {4, 3}, {4, 1}, {2, 3}};
+        for (final int[] union : unions) {
+            expected.union(union[0], union[1]);
+            sparse.union(union[0], union[1]);
+            dense.union(union[0], union[1]);
+
+            for (final int value : values) {
+                Assert.assertEquals(expected.findRoot(value), sparse.findRoot(value));
+                Assert.assertEquals(expected.findRoot(value), dense.findRoot(value));
+            }
+        }
+    }
+
+    @Test
+    public void TestSparseValuesGrowBeyondInitialCapacity() throws DisjointSet.UnableToIdentifyRootForValue {
+        final IntDisjointSet disjointSet = IntDisjointSet.createSparse(0);
+        for (int i = 0; i < 1_000; i++) {
+            disjointSet.add(Integer.MIN_VALUE + i * 7919);
+        }
+        for (int i = 1; i < 1_000; i++) {
+            disjointSet.union(Integer.MIN_VALUE, Integer.MIN_VALUE + i * 7919);
+        }
+
+        Assert.assertEquals(1_000, disjointSet.size());
+        for (int i = 0; i < 1_000; i++) {
+            Assert.assertEquals(Integer.MIN_VALUE, disjointSet.findRoot(Integer.MIN_VALUE + i * 7919));
+        }
+    }
+
+    @Test
+    public void TestStrategiesProducePartitionsMatchingDisjointSet() throws DisjointSet.UnableToIdentifyRootForValue {
+        final int size = 10_000;
+        for (final IntDisjointSet.FindStrategy findStrategy : IntDisjointSet.FindStrategy.values()) {
+            for (final IntDisjointSet.UnionStrategy unionStrategy : IntDisjointSet.UnionStrategy.values()) {
+                final DisjointSet expected = DisjointSet.create(Set.of());
+                final IntDisjointSet dense = IntDisjointSet.createDense(size, findStrategy, unionStrategy);
+                final IntDisjointSet sparse = IntDisjointSet.createSparse(0, findStrategy, unionStrategy);
+                for (int i = 0; i < size; i++) {
+                    expected.add(i);
+                    dense.add(i);
+                    sparse.add(i);
+                }
+
+                Assert.assertEquals(findStrategy, dense.getFindStrategy());
+                Assert.assertEquals(unionStrategy, dense.getUnionStrategy());
+
+                final Random random = new Random(0);
+                for (int i = 0; i < size / 2; i++) {
+                    final int value1 = random.nextInt(size);
+                    final int value2 = random.nextInt(size);
+                    dense.union(value1, value2);
+                    sparse.union(value1, value2);
+                    expected.union(value1, value2);
+                }
+
+                for (int i = 0; i < size; i++) {
+                    for (final IntDisjointSet actual : new IntDisjointSet[]{dense, sparse}) {
+                        Assert.assertEquals(
+                                expected.findRoot(i) == expected.findRoot(0),
+                                actual.findRoot(i) == actual.findRoot(0)
+                        );
+                        Assert.assertEquals(
+                                expected.findRoot(i) == expected.findRoot(size - 1),
+                                actual.findRoot(i) == actual.findRoot(size - 1)
+                        );
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void TestLongUnionChainsDoNotOverflowStack() throws DisjointSet.UnableToIdentifyRootForValue {
+        final int size = 1_000_000;
+        for (final IntDisjointSet.FindStrategy findStrategy : IntDisjointSet.FindStrategy.values()) {
+            for (final IntDisjointSet.UnionStrategy unionStrategy : IntDisjointSet.UnionStrategy.values()) {
+                final IntDisjointSet disjointSet = IntDisjointSet.createDense(size, findStrategy, unionStrategy);
+                for (int i = 0; i < size; i++) {
+                    disjointSet.add(i);
+                }
+                for (int i = size - 1; i > 0; i--) {
+                    disjointSet.union(i, i - 1);
+                }
+
+                final int root = disjointSet.findRoot(0);
+                for (int i = 0; i < size; i++) {
+                    Assert.assertEquals(root, disjointSet.findRoot(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void TestUnionAllMatchesSequentialUnions() throws DisjointSet.UnableToIdentifyRootForValue {
+        final int size = 100_000;
+        final int edgeCount = 150_000;
+        final Random random = new Random(0);
+        final int[] left = new int[edgeCount];
+        final int[] right = new int[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            left[i] = random.nextInt(size) * 3;
+            right[i] = random.nextInt(size) * 3;
+        }
+
+        final IntDisjointSet expected = IntDisjointSet.createSparse(size);
+        final IntDisjointSet parallel = IntDisjointSet.createSparse(size);
+        final IntDisjointSet streamed = IntDisjointSet.createSparse(size);
+        for (int i = 0; i < size; i++) {
+            expected.add(i * 3);
+            parallel.add(i * 3);
+            streamed.add(i * 3);
+        }
+        expected.union(0, 3);
+        parallel.union(0, 3);
+        streamed.union(0, 3);
+
+        for (int i = 0; i < edgeCount; i++) {
+            expected.union(left[i], right[i]);
+        }
+        parallel.unionAll(left, right, new ForkJoinPool(4));
+        streamed.unionAll(IntStream.range(0, edgeCount).flatMap(i -> IntStream.of(left[i], right[i])));
+
+        for (int i = 0; i < size; i++) {
+            final boolean expectedSameSet = expected.findRoot(i * 3) == expected.findRoot(0);
+            Assert.assertEquals(expectedSameSet, parallel.findRoot(i * 3) == parallel.findRoot(0));
+            Assert.assertEquals(expectedSameSet, streamed.findRoot(i * 3) == streamed.findRoot(0));
+        }
+    }
+
+    @Test
+    public void TestUnionAllRejectsInvalidInput() {
+        final IntDisjointSet disjointSet = IntDisjointSet.create(Set.of(1, 2));
+        final int[] missing = new int[1 << 16];
+
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> disjointSet.unionAll(new int[]{1}, new int[]{})
+        );
+        Assert.assertThrows(
+                IllegalArgumentException.class,
+                () -> disjointSet.unionAll(IntStream.of(1, 2, 1))
+        );
+        Assert.assertThrows(
+                DisjointSet.UnableToIdentifyRootForValue.class,
+                () -> disjointSet.unionAll(missing, missing, new ForkJoinPool(2))
+        );
+    }
+
+    @Test
+    public void TestUnionAllLeavesSetUnchangedWhenValueIsMissing() throws DisjointSet.UnableToIdentifyRootForValue {
+        for (final IntDisjointSet disjointSet : new IntDisjointSet[]{IntDisjointSet.createDense(0), IntDisjointSet.createSparse(0)}) {
+            for (int i = 0; i < 4; i++) {
+                disjointSet.add(i);
+            }
+
+            Assert.assertThrows(
+                    DisjointSet.UnableToIdentifyRootForValue.class,
+                    () -> disjointSet.unionAll(new int[]{0, 2, 1}, new int[]{1, 3, 9}, new ForkJoinPool(1))
+            );
+            Assert.assertThrows(
+                    DisjointSet.UnableToIdentifyRootForValue.class,
+                    () -> disjointSet.unionAll(IntStream.of(0, 1, 9, 2))
+            );
+            Assert.assertEquals(4, disjointSet.componentCount());
+            for (int i = 0; i < 4; i++) {
+                Assert.assertEquals(i, disjointSet.findRoot(i));
+            }
+        }
+    }
+
+    @Test
+    public void TestComponentSizeCountAndMembers() throws DisjointSet.UnableToIdentifyRootForValue {
+        for (final IntDisjointSet disjointSet : new IntDisjointSet[]{IntDisjointSet.createDense(0), IntDisjointSet.createSparse(0)}) {
+            for (int i = 0; i < 6; i++) {
+                disjointSet.add(i);
+            }
+            Assert.assertEquals(6, disjointSet.componentCount());
+
+            disjointSet.union(0, 1);
+            disjointSet.union(2, 3);
+            disjointSet.union(3, 1);
+            disjointSet.union(0, 2);
+
+            Assert.assertEquals(3, disjointSet.componentCount());
+            Assert.assertEquals(4, disjointSet.componentSize(3));
+            Assert.assertEquals(1, disjointSet.componentSize(5));
+            Assert.assertEquals(Set.of(0, 1, 2, 3), collectMembers(disjointSet.members(2)));
+            Assert.assertEquals(Set.of(4), collectMembers(disjointSet.members(4)));
+
+            final Set<Integer> members = new HashSet<>();
+            disjointSet.forEachMember(1, members::add);
+            Assert.assertEquals(Set.of(0, 1, 2, 3), members);
+
+            Assert.assertThrows(DisjointSet.UnableToIdentifyRootForValue.class, () -> disjointSet.componentSize(6));
+            Assert.assertThrows(DisjointSet.UnableToIdentifyRootForValue.class, () -> disjointSet.members(6));
+        }
+    }
+
+    @Test
+    public void TestMergeListenerReceivesRoots() throws DisjointSet.UnableToIdentifyRootForValue {
+        final IntDisjointSet disjointSet = IntDisjointSet.create(Set.of(10, 20, 30));
+        final List<int[]> merges = new ArrayList<>();
+        final IntDisjointSet.MergeListener listener = (parentRoot, childRoot) -> merges.add(new int[]{parentRoot, childRoot});
+        disjointSet.addMergeListener(listener);
+
+        disjointSet.union(10, 20);
+        disjointSet.union(20, 10);
+        disjointSet.removeMergeListener(listener);
+        disjointSet.union(30, 10);
+
+        Assert.assertEquals(1, merges.size());
+        Assert.assertArrayEquals(new int[]{10, 20}, merges.get(0));
+    }
+
+    private static Set<Integer> collectMembers(final PrimitiveIterator.OfInt members) {
+        final Set<Integer> values = new HashSet<>();
+        members.forEachRemaining((int value) -> values.add(value));
+        return values;
+    }
+}
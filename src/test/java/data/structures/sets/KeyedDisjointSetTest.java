@@ -0,0 +1,57 @@
+package data.structures.sets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class KeyedDisjointSetTest {
+    @Test
+    public void TestUnableToFindRootForValue() {
+        final KeyedDisjointSet<String> disjointSet = KeyedDisjointSet.create(Set.of("a"));
+
+        Assert.assertThrows(DisjointSet.UnableToIdentifyRootForValue.class, () -> disjointSet.findRoot("b"));
+        Assert.assertThrows(DisjointSet.UnableToIdentifyRootForValue.class, () -> disjointSet.union("a", "b"));
+        Assert.assertThrows(NullPointerException.class, () -> disjointSet.add(null));
+    }
+
+    @Test
+    public void TestUnionForStringKeys() throws DisjointSet.UnableToIdentifyRootForValue {
+        final KeyedDisjointSet<String> disjointSet = KeyedDisjointSet.create(0);
+        disjointSet.addAll(List.of("a", "b", "c", "d"));
+        disjointSet.add("a");
+        Assert.assertEquals(4, disjointSet.size());
+        Assert.assertEquals(4, disjointSet.componentCount());
+
+        disjointSet.union("a", "b");
+        disjointSet.union("d", "c");
+        Assert.assertEquals("a", disjointSet.findRoot("b"));
+        Assert.assertEquals("d", disjointSet.findRoot("c"));
+        Assert.assertTrue(disjointSet.sameSet("b", "a"));
+        Assert.assertFalse(disjointSet.sameSet("a", "c"));
+
+        disjointSet.union("b", "c");
+        Assert.assertTrue(disjointSet.sameSet("a", "d"));
+        Assert.assertEquals(4, disjointSet.componentSize("c"));
+        Assert.assertEquals(1, disjointSet.componentCount());
+    }
+
+    @Test
+    public void TestAddAllGrowsBeyondExpectedSize() throws DisjointSet.UnableToIdentifyRootForValue {
+        final KeyedDisjointSet<String> disjointSet = KeyedDisjointSet.create(1);
+        disjointSet.addAll(
+                IntStream.range(0, 10_000)
+                        .mapToObj(Integer::toString)
+                        .collect(Collectors.toList())
+        );
+
+        for (int i = 1; i < 10_000; i++) {
+            disjointSet.union("0", Integer.toString(i));
+        }
+        Assert.assertTrue(disjointSet.contains("9999"));
+        Assert.assertEquals("0", disjointSet.findRoot("9999"));
+    }
+}
@@ -0,0 +1,78 @@
+package data.structures.sets;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+public class MappedDisjointSetTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void TestUnableToFindRootForValue() throws IOException {
+        try (final MappedDisjointSet disjointSet = MappedDisjointSet.create(temporaryFolder.getRoot().toPath().resolve("set"), 4)) {
+            Assert.assertThrows(DisjointSet.UnableToIdentifyRootForValue.class, () -> disjointSet.findRoot(-1));
+            Assert.assertThrows(DisjointSet.UnableToIdentifyRootForValue.class, () -> disjointSet.findRoot(4));
+            Assert.assertThrows(DisjointSet.UnableToIdentifyRootForValue.class, () -> disjointSet.union(0, 4));
+        }
+    }
+
+    @Test
+    public void TestCreateDoesNotOverwriteExistingFile() throws IOException {
+        final Path path = temporaryFolder.newFile().toPath();
+
+        Assert.assertThrows(IOException.class, () -> MappedDisjointSet.create(path, 4));
+    }
+
+    @Test
+    public void TestOpenRejectsInvalidFiles() throws IOException {
+        final Path path = temporaryFolder.newFile().toPath();
+        Assert.assertThrows(MappedDisjointSet.InvalidFileFormat.class, () -> MappedDisjointSet.open(path));
+
+        Files.write(path, new byte[32]);
+        Assert.assertThrows(MappedDisjointSet.InvalidFileFormat.class, () -> MappedDisjointSet.open(path));
+    }
+
+    @Test
+    public void TestReopenPreservesUnions() throws IOException, DisjointSet.UnableToIdentifyRootForValue {
+        final int size = 100_000;
+        final Path path = temporaryFolder.getRoot().toPath().resolve("set");
+        final IntDisjointSet expected = IntDisjointSet.createDense(size);
+        for (int i = 0; i < size; i++) {
+            expected.add(i);
+        }
+
+        try (final MappedDisjointSet disjointSet = MappedDisjointSet.create(path, size)) {
+            final Random random = new Random(0);
+            for (int i = 0; i < size / 2; i++) {
+                final int value1 = random.nextInt(size);
+                final int value2 = random.nextInt(size);
+                disjointSet.union(value1, value2);
+                expected.union(value1, value2);
+            }
+            disjointSet.force();
+        }
+
+        try (final MappedDisjointSet disjointSet = MappedDisjointSet.open(path)) {
+            Assert.assertEquals(size, disjointSet.size());
+            for (int i = 0; i < size; i++) {
+                Assert.assertEquals(
+                        expected.findRoot(i) == expected.findRoot(0),
+                        disjointSet.findRoot(i) == disjointSet.findRoot(0)
+                );
+            }
+
+            disjointSet.union(0, size - 1);
+        }
+
+        try (final MappedDisjointSet disjointSet = MappedDisjointSet.open(path)) {
+            Assert.assertEquals(disjointSet.findRoot(0), disjointSet.findRoot(size - 1));
+        }
+    }
+}
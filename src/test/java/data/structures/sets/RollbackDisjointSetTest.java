@@ -0,0 +1,85 @@
+package data.structures.sets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class RollbackDisjointSetTest {
+    @Test
+    public void TestUnableToFindRootForValue() {
+        final RollbackDisjointSet disjointSet = RollbackDisjointSet.create(2);
+
+        Assert.assertThrows(DisjointSet.UnableToIdentifyRootForValue.class, () -> disjointSet.findRoot(-1));
+        Assert.assertThrows(DisjointSet.UnableToIdentifyRootForValue.class, () -> disjointSet.union(0, 2));
+        Assert.assertThrows(DisjointSet.UnableToIdentifyRootForValue.class, () -> disjointSet.sameSet(2, 0));
+    }
+
+    @Test
+    public void TestRollbackRestoresCheckpoint() throws DisjointSet.UnableToIdentifyRootForValue {
+        final RollbackDisjointSet disjointSet = RollbackDisjointSet.create(4);
+
+        disjointSet.union(0, 1);
+        final int checkpoint = disjointSet.checkpoint();
+        disjointSet.union(2, 3);
+        disjointSet.union(1, 3);
+        disjointSet.union(0, 2);
+        Assert.assertTrue(disjointSet.sameSet(0, 3));
+        Assert.assertEquals(1, disjointSet.componentCount());
+        Assert.assertEquals(4, disjointSet.componentSize(2));
+
+        disjointSet.rollback(checkpoint);
+        Assert.assertTrue(disjointSet.sameSet(0, 1));
+        Assert.assertFalse(disjointSet.sameSet(2, 3));
+        Assert.assertFalse(disjointSet.sameSet(0, 3));
+        Assert.assertEquals(3, disjointSet.componentCount());
+        Assert.assertEquals(2, disjointSet.componentSize(1));
+        Assert.assertEquals(1, disjointSet.componentSize(3));
+
+        disjointSet.rollback(0);
+        Assert.assertEquals(4, disjointSet.componentCount());
+        Assert.assertThrows(IllegalArgumentException.class, () -> disjointSet.rollback(1));
+    }
+
+    @Test
+    public void TestNestedCheckpointsMatchFreshSets() throws DisjointSet.UnableToIdentifyRootForValue {
+        final int size = 1_000;
+        final Random random = new Random(0);
+        final int[] left = new int[3 * size];
+        final int[] right = new int[3 * size];
+        for (int i = 0; i < left.length; i++) {
+            left[i] = random.nextInt(size);
+            right[i] = random.nextInt(size);
+        }
+
+        final RollbackDisjointSet disjointSet = RollbackDisjointSet.create(size);
+        final int[] checkpoints = new int[3];
+        for (int level = 0; level < 3; level++) {
+            checkpoints[level] = disjointSet.checkpoint();
+            for (int i = level * size; i < (level + 1) * size; i++) {
+                disjointSet.union(left[i], right[i]);
+            }
+        }
+
+        for (int level = 2; level >= 0; level--) {
+            disjointSet.rollback(checkpoints[level]);
+
+            final IntDisjointSet expected = IntDisjointSet.createDense(size);
+            for (int i = 0; i < size; i++) {
+                expected.add(i);
+            }
+            for (int i = 0; i < level * size; i++) {
+                expected.union(left[i], right[i]);
+            }
+
+            Assert.assertEquals(expected.componentCount(), disjointSet.componentCount());
+            for (int i = 0; i < size; i++) {
+                Assert.assertEquals(expected.componentSize(i), disjointSet.componentSize(i));
+                Assert.assertEquals(
+                        expected.findRoot(i) == expected.findRoot(0),
+                        disjointSet.sameSet(i, 0)
+                );
+            }
+        }
+    }
+}